@@ -0,0 +1,120 @@
+package de.floydkretschmar.fixturize.benchmarks;
+
+import de.floydkretschmar.fixturize.FixtureProcessor;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.annotation.processing.Processor;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time it takes to process a synthetic domain model with the {@link FixtureProcessor}. The compilations
+ * run with <b>-proc:only</b> and keep all generated files in memory, so that mostly annotation processing is measured.
+ * Besides the time per compilation, the time per generated fixture is reported as the <b>fixtures</b> counter. Run with
+ * <b>-prof gc</b> (the default of the <b>jmh</b> gradle task) to additionally report the allocation rate.
+ *
+ * @author Floyd Kretschmar
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FixtureProcessorBenchmark {
+
+    @Param({"10", "100"})
+    int classCount;
+
+    @Param({"10"})
+    int fieldsPerClass;
+
+    @Param({"2"})
+    int nestingDepth;
+
+    @Param({"true"})
+    boolean generics;
+
+    @Param({"true"})
+    boolean lombokBuilders;
+
+    @Param({"false", "true"})
+    boolean javascriptValueProviders;
+
+    @Param({"1", "4"})
+    int parallelism;
+
+    private JavaCompiler compiler;
+
+    private List<JavaFileObject> sources;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        compiler = ToolProvider.getSystemJavaCompiler();
+        sources = SyntheticDomainModel.builder()
+                .classCount(classCount)
+                .fieldsPerClass(fieldsPerClass)
+                .nestingDepth(nestingDepth)
+                .generics(generics)
+                .lombokBuilders(lombokBuilders)
+                .javascriptValueProviders(javascriptValueProviders)
+                .build()
+                .createSources();
+    }
+
+    @Benchmark
+    public long process(FixtureCounter fixtureCounter) throws ReflectiveOperationException {
+        final var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        final var fileManager = new InMemoryFileManager(compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8));
+        final var task = compiler.getTask(null, fileManager, diagnostics, List.of("-proc:only", "-Afixturize.parallelism=%d".formatted(parallelism)), null, sources);
+        task.setProcessors(createProcessors());
+
+        if (!task.call())
+            throw new IllegalStateException("The benchmarked compilation failed: %s".formatted(diagnostics.getDiagnostics()));
+
+        fixtureCounter.fixtures += classCount;
+        return fileManager.getWrittenCharacters();
+    }
+
+    private List<Processor> createProcessors() throws ReflectiveOperationException {
+        if (!lombokBuilders)
+            return List.of(new FixtureProcessor());
+
+        final var classLoader = getClass().getClassLoader();
+        return List.of(
+                (Processor) classLoader.loadClass("lombok.launch.AnnotationProcessorHider$AnnotationProcessor").getDeclaredConstructor().newInstance(),
+                (Processor) classLoader.loadClass("lombok.launch.AnnotationProcessorHider$ClaimingProcessor").getDeclaredConstructor().newInstance(),
+                new FixtureProcessor());
+    }
+
+    /**
+     * Counts the generated fixtures, so that JMH reports the average time per fixture next to the time per compilation.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class FixtureCounter {
+        public long fixtures;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            fixtures = 0;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package de.floydkretschmar.fixturize.benchmarks;
+
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps all files written during a benchmarked compilation in memory, so that the benchmarks measure the annotation
+ * processor instead of the file system.
+ *
+ * @author Floyd Kretschmar
+ */
+public class InMemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+    private final List<InMemoryFile> outputFiles = new ArrayList<>();
+
+    /**
+     * Creates a file manager that delegates all reads to the specified file manager.
+     *
+     * @param fileManager - used to read the compiled sources and the class path
+     */
+    public InMemoryFileManager(StandardJavaFileManager fileManager) {
+        super(fileManager);
+    }
+
+    /**
+     * Creates an in memory source file.
+     *
+     * @param qualifiedClassName - of the class defined by the source
+     * @param source             - of the class
+     * @return the source file
+     */
+    public static JavaFileObject createSource(String qualifiedClassName, String source) {
+        final var file = new InMemoryFile(qualifiedClassName, JavaFileObject.Kind.SOURCE);
+        file.content.append(source);
+        return file;
+    }
+
+    /**
+     * Returns the number of characters of all files written during the compilation.
+     *
+     * @return the number of written characters
+     */
+    public long getWrittenCharacters() {
+        return outputFiles.stream().mapToLong(file -> file.getCharContent(true).length()).sum();
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind, FileObject sibling) {
+        return createOutputFile(className, kind);
+    }
+
+    @Override
+    public FileObject getFileForOutput(Location location, String packageName, String relativeName, FileObject sibling) {
+        return createOutputFile("%s.%s".formatted(packageName, relativeName), JavaFileObject.Kind.OTHER);
+    }
+
+    private InMemoryFile createOutputFile(String name, JavaFileObject.Kind kind) {
+        final var file = new InMemoryFile(name, kind);
+        outputFiles.add(file);
+        return file;
+    }
+
+    private static class InMemoryFile extends SimpleJavaFileObject {
+        private final StringBuilder content = new StringBuilder();
+
+        private InMemoryFile(String name, Kind kind) {
+            super(URI.create("memory:///%s%s".formatted(name.replace('.', '/'), kind.extension)), kind);
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+
+        @Override
+        public Writer openWriter() {
+            return new StringWriter() {
+                @Override
+                public void close() {
+                    content.append(getBuffer());
+                }
+            };
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            return new ByteArrayOutputStream() {
+                @Override
+                public void close() {
+                    content.append(toString(StandardCharsets.UTF_8));
+                }
+            };
+        }
+    }
+}
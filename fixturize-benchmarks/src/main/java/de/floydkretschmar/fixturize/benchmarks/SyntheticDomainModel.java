@@ -0,0 +1,144 @@
+package de.floydkretschmar.fixturize.benchmarks;
+
+import lombok.Builder;
+import lombok.Value;
+
+import javax.tools.JavaFileObject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Generates the sources of a synthetic domain model that is compiled by the benchmarks. Every domain class is annotated
+ * with {@link de.floydkretschmar.fixturize.annotations.Fixture} and references a chain of nested classes that are
+ * resolved by fallback value providers.
+ *
+ * @author Floyd Kretschmar
+ */
+@Value
+@Builder
+public class SyntheticDomainModel {
+    private static final String PACKAGE_NAME = "de.floydkretschmar.fixturize.benchmarks.model";
+
+    private static final List<String> FIELD_TYPES = List.of(
+            "java.lang.String",
+            "int",
+            "long",
+            "java.util.UUID",
+            "java.math.BigDecimal",
+            "java.time.LocalDate",
+            "java.util.List<java.lang.String>",
+            "boolean");
+
+    private static final String JAVASCRIPT_VALUE_PROVIDER = "@de.floydkretschmar.fixturize.annotations.FixtureValueProvider(targetType = \"java.lang.String\", " +
+            "valueProviderCallback = \"(field, metadata) => `\\\"${field.getSimpleName()}\\\"`\")";
+
+    /**
+     * The number of classes annotated with {@link de.floydkretschmar.fixturize.annotations.Fixture}.
+     */
+    int classCount;
+
+    /**
+     * The number of fields of every annotated class, not counting the generic and the nested field.
+     */
+    int fieldsPerClass;
+
+    /**
+     * The number of nested classes below every annotated class.
+     */
+    int nestingDepth;
+
+    /**
+     * Whether the annotated classes declare a generic field.
+     */
+    boolean generics;
+
+    /**
+     * Whether the annotated classes are created using lombok builders instead of constructors.
+     */
+    boolean lombokBuilders;
+
+    /**
+     * Whether the annotated classes define a javascript value provider for strings.
+     */
+    boolean javascriptValueProviders;
+
+    /**
+     * Creates the sources of all classes of the domain model.
+     *
+     * @return the sources
+     */
+    public List<JavaFileObject> createSources() {
+        final var sources = new ArrayList<JavaFileObject>();
+        for (int classIndex = 0; classIndex < classCount; classIndex++) {
+            final var className = "Domain%d".formatted(classIndex);
+            sources.add(InMemoryFileManager.createSource("%s.%s".formatted(PACKAGE_NAME, className), createDomainClass(className)));
+            for (int depth = 1; depth <= nestingDepth; depth++) {
+                final var nestedClassName = getNestedClassName(className, depth);
+                sources.add(InMemoryFileManager.createSource("%s.%s".formatted(PACKAGE_NAME, nestedClassName), createNestedClass(className, depth)));
+            }
+        }
+        return sources;
+    }
+
+    private String createDomainClass(String className) {
+        final var fields = new ArrayList<Field>();
+        if (generics)
+            fields.add(new Field("T", "genericValue"));
+        IntStream.range(0, fieldsPerClass)
+                .mapToObj(index -> new Field(FIELD_TYPES.get(index % FIELD_TYPES.size()), "fieldNo%d".formatted(index)))
+                .forEach(fields::add);
+        if (nestingDepth > 0)
+            fields.add(new Field(getNestedClassName(className, 1), "nested"));
+
+        final var annotations = new ArrayList<String>();
+        annotations.add(generics
+                ? "@de.floydkretschmar.fixturize.annotations.Fixture(genericImplementations = {\"java.lang.String\"})"
+                : "@de.floydkretschmar.fixturize.annotations.Fixture");
+        if (javascriptValueProviders)
+            annotations.add(JAVASCRIPT_VALUE_PROVIDER);
+        if (lombokBuilders)
+            annotations.add("@lombok.Builder");
+
+        return createClass(String.join("\n", annotations), generics ? className + "<T>" : className, className, fields, !lombokBuilders);
+    }
+
+    private String createNestedClass(String className, int depth) {
+        final var fields = new ArrayList<Field>();
+        fields.add(new Field("java.lang.String", "name"));
+        fields.add(new Field("int", "value"));
+        if (depth < nestingDepth)
+            fields.add(new Field(getNestedClassName(className, depth + 1), "nested"));
+
+        final var nestedClassName = getNestedClassName(className, depth);
+        return createClass("", nestedClassName, nestedClassName, fields, true);
+    }
+
+    private static String createClass(String annotations, String declaredName, String simpleName, List<Field> fields, boolean withConstructor) {
+        final var source = new StringBuilder()
+                .append("package ").append(PACKAGE_NAME).append(";\n\n")
+                .append(annotations).append('\n')
+                .append("public class ").append(declaredName).append(" {\n");
+        fields.forEach(field -> source.append("    private final ").append(field.getType()).append(' ').append(field.getName()).append(";\n"));
+
+        if (withConstructor) {
+            source.append("\n    public ").append(simpleName).append('(')
+                    .append(fields.stream().map(field -> field.getType() + " " + field.getName()).collect(Collectors.joining(", ")))
+                    .append(") {\n");
+            fields.forEach(field -> source.append("        this.").append(field.getName()).append(" = ").append(field.getName()).append(";\n"));
+            source.append("    }\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    private static String getNestedClassName(String className, int depth) {
+        return "%sNested%d".formatted(className, depth);
+    }
+
+    @Value
+    private static class Field {
+        String type;
+        String name;
+    }
+}
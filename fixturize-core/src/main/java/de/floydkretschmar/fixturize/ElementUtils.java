@@ -15,6 +15,7 @@ import java.util.stream.Stream;
  * Defines utility methods that are used to work with {@link Element} instances.
  */
 public class ElementUtils {
+    private static final List<String> SETTER_PREFIXES = List.of("set", "with");
 
     /**
      * Returns the first method on a {@link Element} whose return type matches the specified return type name and which have
@@ -26,7 +27,20 @@ public class ElementUtils {
      * @return the matching method
      */
     public static ExecutableElement findMethodWithModifiersByReturnType(Element element, String returnTypeName, String methodName, Modifier... modifiers) {
-        return ElementFilter.methodsIn(element.getEnclosedElements()).stream()
+        return findMethodWithModifiersByReturnType(ElementFilter.methodsIn(element.getEnclosedElements()), returnTypeName, methodName, modifiers);
+    }
+
+    /**
+     * Returns the first of the provided methods whose return type matches the specified return type name and which have
+     * the specified modifiers. Returns null if no matching method could be found.
+     *
+     * @param methods        - that will be searched
+     * @param returnTypeName - of the method
+     * @param modifiers      - of the method
+     * @return the matching method
+     */
+    public static ExecutableElement findMethodWithModifiersByReturnType(Collection<ExecutableElement> methods, String returnTypeName, String methodName, Modifier... modifiers) {
+        return methods.stream()
                 .filter(method -> Arrays.stream(modifiers).allMatch(modifier -> method.getModifiers().contains(modifier))
                         && method.getReturnType().toString().equals(returnTypeName)
                         && method.getSimpleName().toString().equals(methodName))
@@ -39,10 +53,11 @@ public class ElementUtils {
      * Returns all methods on the provided element that can be setter for the provided list of fields. A method is considered a match if
      * <ul>
      *     <li>it contains the specified modifiers</li>
-     *     <li>its name matches the pattern "[set]*{fieldName}" case insensitvely</li>
+     *     <li>its name is "{fieldName}", "set{fieldName}" or "with{fieldName}" case insensitively</li>
      *     <li>it has exactly one parameter</li>
      *     <li>the return type of the method matches the specified return type</li>
      * </ul>
+     * The methods of the element are only scanned once, see {@link #indexSettersByFieldName(Element, TypeMirror, Modifier...)}.
      *
      * @param element    - from which the methods will be returned
      * @param fields     - for which corresponding setters should be retrieved
@@ -52,14 +67,70 @@ public class ElementUtils {
      * @return a map of field to setter pairs
      */
     public static <T> Stream<Map.Entry<T, Optional<ExecutableElement>>> findSetterForFields(Element element, List<T> fields, TypeMirror returnType, Modifier... modifiers) {
+        final var setterIndex = indexSettersByFieldName(element, returnType, modifiers);
         return fields.stream()
-                .map(field -> Map.entry(field,
-                        ElementFilter.methodsIn(element.getEnclosedElements()).stream()
-                                .filter(method -> Arrays.stream(modifiers).allMatch(modifier -> method.getModifiers().contains(modifier))
-                                        && method.getSimpleName().toString().toLowerCase().matches("[set]*" + field.toString().toLowerCase())
-                                        && method.getReturnType().equals(returnType)
-                                        && method.getParameters().size() == 1)
-                                .findFirst()));
+                .map(field -> Map.entry(field, findSetterForField(setterIndex, field.toString())));
+    }
+
+    /**
+     * Scans the methods of the provided element once and returns all setter candidates by the normalized name of the field
+     * they set. A method is considered a setter candidate under the same conditions as described in
+     * {@link #findSetterForFields(Element, List, TypeMirror, Modifier...)}. Methods whose name exactly matches a field name
+     * take precedence over methods with a "set" or "with" prefix; otherwise the method declared first wins.
+     *
+     * @param element    - from which the methods will be indexed
+     * @param returnType - of the setters
+     * @param modifiers  - of the setters
+     * @return the setter candidates by normalized field name
+     */
+    public static Map<String, ExecutableElement> indexSettersByFieldName(Element element, TypeMirror returnType, Modifier... modifiers) {
+        return indexSettersByFieldName(ElementFilter.methodsIn(element.getEnclosedElements()), returnType, modifiers);
+    }
+
+    /**
+     * Returns all setter candidates among the provided methods by the normalized name of the field they set, see
+     * {@link #indexSettersByFieldName(Element, TypeMirror, Modifier...)}.
+     *
+     * @param methods    - that will be indexed
+     * @param returnType - of the setters
+     * @param modifiers  - of the setters
+     * @return the setter candidates by normalized field name
+     */
+    public static Map<String, ExecutableElement> indexSettersByFieldName(Collection<ExecutableElement> methods, TypeMirror returnType, Modifier... modifiers) {
+        final var setterCandidates = methods.stream()
+                .filter(method -> Arrays.stream(modifiers).allMatch(modifier -> method.getModifiers().contains(modifier))
+                        && method.getReturnType().equals(returnType)
+                        && method.getParameters().size() == 1)
+                .toList();
+
+        final var setterIndex = new HashMap<String, ExecutableElement>();
+        for (var method : setterCandidates) {
+            setterIndex.putIfAbsent(normalizeName(method.getSimpleName().toString()), method);
+        }
+        for (var method : setterCandidates) {
+            final var methodName = normalizeName(method.getSimpleName().toString());
+            for (var prefix : SETTER_PREFIXES) {
+                if (methodName.length() > prefix.length() && methodName.startsWith(prefix))
+                    setterIndex.putIfAbsent(methodName.substring(prefix.length()), method);
+            }
+        }
+        return setterIndex;
+    }
+
+    /**
+     * Returns the setter for the specified field from an index created by
+     * {@link #indexSettersByFieldName(Element, TypeMirror, Modifier...)}.
+     *
+     * @param setterIndex - containing all setter candidates by normalized field name
+     * @param fieldName   - for which the setter should be returned
+     * @return the setter, if one exists
+     */
+    public static Optional<ExecutableElement> findSetterForField(Map<String, ExecutableElement> setterIndex, String fieldName) {
+        return Optional.ofNullable(setterIndex.get(normalizeName(fieldName)));
+    }
+
+    private static String normalizeName(String name) {
+        return name.toLowerCase(Locale.ROOT);
     }
 
     /**
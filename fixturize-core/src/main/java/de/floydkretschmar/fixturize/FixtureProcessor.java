@@ -1,37 +1,72 @@
 package de.floydkretschmar.fixturize;
 
 import com.google.auto.service.AutoService;
+import com.google.common.util.concurrent.MoreExecutors;
 import de.floydkretschmar.fixturize.annotations.Fixture;
+import de.floydkretschmar.fixturize.annotations.FixtureSharing;
 import de.floydkretschmar.fixturize.annotations.FixtureValueProvider;
+import de.floydkretschmar.fixturize.cache.FixtureSourceCache;
+import de.floydkretschmar.fixturize.cache.TypeFingerprint;
 import de.floydkretschmar.fixturize.exceptions.FixtureCreationException;
+import de.floydkretschmar.fixturize.rendering.FixtureFileWriter;
+import de.floydkretschmar.fixturize.rendering.FixtureModel;
+import de.floydkretschmar.fixturize.rendering.FixtureRenderer;
+import de.floydkretschmar.fixturize.rendering.JavaFixtureRenderer;
+import de.floydkretschmar.fixturize.statistics.ProcessingStatistics;
+import de.floydkretschmar.fixturize.stategies.constants.ConstantDeclarationStrategy;
 import de.floydkretschmar.fixturize.stategies.constants.ConstantGenerationStrategy;
 import de.floydkretschmar.fixturize.stategies.constants.ConstantMap;
+import de.floydkretschmar.fixturize.stategies.constants.ConstantSharingStrategy;
+import de.floydkretschmar.fixturize.stategies.constants.RandomValueStrategy;
 import de.floydkretschmar.fixturize.stategies.metadata.MetadataFactory;
+import de.floydkretschmar.fixturize.stategies.metadata.TypeMemberIndex;
+import de.floydkretschmar.fixturize.stategies.metadata.TypeMetadata;
 import de.floydkretschmar.fixturize.stategies.metadata.TypeMetadataFactory;
 import de.floydkretschmar.fixturize.stategies.constants.naming.ConstantNamingStrategy;
 import de.floydkretschmar.fixturize.stategies.value.ConstantValueProviderService;
 import de.floydkretschmar.fixturize.stategies.value.CreationMethodValueProviderService;
 import de.floydkretschmar.fixturize.stategies.value.CustomValueProviderParser;
+import de.floydkretschmar.fixturize.stategies.value.CutOffStrategy;
+import de.floydkretschmar.fixturize.stategies.value.FallbackValueCache;
+import de.floydkretschmar.fixturize.stategies.value.JavaValueProviderLoader;
+import de.floydkretschmar.fixturize.stategies.value.ResolutionContext;
 import de.floydkretschmar.fixturize.stategies.value.ValueProviderService;
 import de.floydkretschmar.fixturize.stategies.value.providers.ConstantValueProviderFactory;
+import de.floydkretschmar.fixturize.stategies.value.providers.ValueProvider;
 import de.floydkretschmar.fixturize.stategies.creation.BuilderCreationMethodStrategy;
+import de.floydkretschmar.fixturize.stategies.creation.BulkCreationMethodStrategy;
 import de.floydkretschmar.fixturize.stategies.creation.ConstructorCreationMethodStrategy;
+import de.floydkretschmar.fixturize.stategies.creation.DefaultCreationMethodStrategy;
+import de.floydkretschmar.fixturize.stategies.creation.RandomCreationMethodStrategy;
 import de.floydkretschmar.fixturize.stategies.creation.CreationMethodGenerationStrategy;
-import org.graalvm.polyglot.Context;
-import org.graalvm.polyglot.HostAccess;
+import lombok.Value;
 
 import javax.annotation.processing.*;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.MirroredTypeException;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 
@@ -51,21 +86,74 @@ import java.util.stream.Collectors;
  * <br>
  * For the exact format of each <b>constant</b> and <b>creationMethod</b> please reference {@link ConstantGenerationStrategy}
  * and {@link CreationMethodGenerationStrategy} respectively.
+ * <br><br>
+ * The processor is registered as an isolating processor for gradle's incremental compilation: every fixture is created
+ * with the annotated class as its only originating element and is derived solely from types reachable from that class.
+ * <br><br>
+ * Each fixture is generated in two phases: the annotated class is first analyzed into an immutable {@link FixtureModel},
+ * which is then rendered by a {@link FixtureRenderer}. If {@link ProcessorOptions#CACHE_DIRECTORY} is configured,
+ * fixtures of types whose structure has not changed since they have been cached are written directly from the
+ * {@link FixtureSourceCache}. If {@link ProcessorOptions#PARALLELISM} is configured, the models of all fixtures of a
+ * processing round are created and rendered by a pool of threads, which access the {@link javax.lang.model} API through
+ * a {@link SynchronizedModelAccess}. Cached fixtures are read before and all fixtures are written by the {@link Filer}
+ * after the pool has finished, in the order of the annotated classes, on the processor thread.
  */
 @SupportedAnnotationTypes("de.floydkretschmar.fixturize.annotations.Fixture")
+@SupportedOptions({ProcessorOptions.VALUE_CACHE, ProcessorOptions.MAX_DEPTH, ProcessorOptions.CUT_OFF_STRATEGY, ProcessorOptions.FIXTURE_REFERENCES, ProcessorOptions.LAZY_CONSTANTS, ProcessorOptions.FINAL_CONSTANTS, ProcessorOptions.DETERMINISTIC, ProcessorOptions.BULK_CREATION_METHODS, ProcessorOptions.STREAM_CREATION_METHODS, ProcessorOptions.RANDOM_CREATION_METHODS, ProcessorOptions.PARALLELISM, ProcessorOptions.CACHE_DIRECTORY, ProcessorOptions.STATS, ProcessorOptions.STATS_FILE})
 @AutoService(Processor.class)
 public class FixtureProcessor extends AbstractProcessor {
-    private static final String WHITESPACE_4 = " ".repeat(4);
-    private static final String WHITESPACE_8 = " ".repeat(8);
-
     private Types typeUtils;
 
     private Elements elementUtils;
 
+    /**
+     * The parser used for custom value providers. Only created once the first custom value provider is encountered, so
+     * that compilations without custom value providers never have to initialize the javascript engine.
+     */
     private CustomValueProviderParser valueProviderParser;
 
+    private JavaValueProviderLoader valueProviderLoader;
+
     private ConstantValueProviderFactory valueProviderFactory;
     private MetadataFactory metadataFactory;
+    private TypeMemberIndex memberIndex;
+
+    private ProcessorOptions options;
+
+    private FixtureRenderer fixtureRenderer;
+
+    /**
+     * The cache for the sources of fixtures that is shared between builds. Only used if
+     * {@link ProcessorOptions#CACHE_DIRECTORY} has been configured.
+     */
+    private FixtureSourceCache sourceCache;
+
+    /**
+     * The version of the processor that is part of every cache key.
+     */
+    private String processorVersion;
+
+    private TypeFingerprint typeFingerprint;
+
+    private FixtureFileWriter fixtureFileWriter;
+
+    /**
+     * The statistics recorded during processing. Only recorded if {@link ProcessorOptions#STATS} has been enabled.
+     */
+    private ProcessingStatistics statistics;
+
+    /**
+     * The caches for fallback values of the current processing round by the custom value providers they have been
+     * created with, because custom value providers also influence the values created by fallback value providers.
+     */
+    private Map<String, FallbackValueCache> fallbackValueCaches;
+
+    /**
+     * The access through which the threads creating fixture models use the {@link javax.lang.model} API during the
+     * current processing round. Null if {@link ProcessorOptions#PARALLELISM} has not been configured, in which case all
+     * models are created on the processor thread.
+     */
+    private SynchronizedModelAccess modelAccess;
 
     @Override
     public SourceVersion getSupportedSourceVersion() {
@@ -78,69 +166,355 @@ public class FixtureProcessor extends AbstractProcessor {
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv) {
         super.init(processingEnv);
-        typeUtils = processingEnv.getTypeUtils();
-        elementUtils = processingEnv.getElementUtils();
-        valueProviderParser = new CustomValueProviderParser(Context.newBuilder("js")
-           .allowHostAccess(HostAccess.ALL)
-           .build());
-        valueProviderFactory = new ConstantValueProviderFactory();
-        metadataFactory = new TypeMetadataFactory(elementUtils);
+        options = ProcessorOptions.from(processingEnv.getOptions());
+        fixtureRenderer = new JavaFixtureRenderer();
+        fixtureFileWriter = new FixtureFileWriter(processingEnv.getFiler());
+        statistics = new ProcessingStatistics(options.isStatsEnabled());
+        sourceCache = new FixtureSourceCache(options.getCacheDirectory());
+        processorVersion = getProcessorVersion();
+        valueProviderLoader = new JavaValueProviderLoader(FixtureProcessor.class.getClassLoader());
     }
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        modelAccess = options.isParallel() ? new SynchronizedModelAccess() : null;
+        typeUtils = toModelAccess(processingEnv.getTypeUtils());
+        elementUtils = toModelAccess(processingEnv.getElementUtils());
+        final var typeMetadataFactory = new TypeMetadataFactory(elementUtils);
+        metadataFactory = typeMetadataFactory;
+        memberIndex = new TypeMemberIndex();
+        typeFingerprint = new TypeFingerprint(processorVersion, options.describeGenerationOptions());
+        valueProviderFactory = new ConstantValueProviderFactory(memberIndex, options.isFixtureReferencesEnabled(), options.isDeterministic());
+        fallbackValueCaches = new ConcurrentHashMap<>();
+        final var annotatedElements = new ArrayList<TypeElement>();
         for (TypeElement annotation : annotations) {
             for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
-                this.processAnnotatedElement((TypeElement) element);
+                annotatedElements.add((TypeElement) element);
             }
         }
+        this.processAnnotatedElements(annotatedElements);
+        statistics.increment("metadataCacheHits", typeMetadataFactory.getCacheHits());
+        statistics.increment("metadataCacheMisses", typeMetadataFactory.getCacheMisses());
+
+        if (roundEnv.processingOver()) {
+            reportSourceCacheStatistics();
+            if (statistics.isEnabled())
+                reportWrittenFixtureStatistics();
+        }
+
+        if (roundEnv.processingOver() && Objects.nonNull(valueProviderParser)) {
+            reportValueProviderCacheStatistics(valueProviderParser);
+            statistics.increment("javascriptEvaluations", valueProviderParser.getCacheMisses());
+            statistics.increment("javascriptDefinitionCacheHits", valueProviderParser.getCacheHits());
+            valueProviderParser.close();
+            valueProviderParser = null;
+        }
+
+        if (roundEnv.processingOver() && statistics.isEnabled())
+            reportProcessingStatistics();
         return true;
     }
 
-    private void processAnnotatedElement(TypeElement element) {
-        final var constantValueProviderService = initializeValueProviderService(element.getAnnotationsByType(FixtureValueProvider.class), metadataFactory);
-        final var constantsGenerationStrategy = new ConstantGenerationStrategy(new ConstantNamingStrategy(), constantValueProviderService);
+    private void processAnnotatedElements(List<TypeElement> elements) {
+        final var pendingFixtures = elements.stream().map(this::readAnnotatedElement).toList();
+        final var renderedFixtures = new ArrayList<String>(pendingFixtures.size());
+        final var modelExecutor = createModelExecutor();
+        try {
+            final var renderedFixtureFutures = pendingFixtures.stream()
+                    .map(pendingFixture -> Objects.nonNull(pendingFixture.getCachedFixture()) ?
+                            CompletableFuture.completedFuture(pendingFixture.getCachedFixture()) :
+                            modelExecutor.submit(() -> createFixture(pendingFixture)))
+                    .toList();
+            for (int i = 0; i < pendingFixtures.size(); i++) {
+                renderedFixtures.add(getRenderedFixture(pendingFixtures.get(i), renderedFixtureFutures.get(i)));
+            }
+        } finally {
+            shutdown(modelExecutor);
+        }
+
+        for (int i = 0; i < pendingFixtures.size(); i++) {
+            writePendingFixture(pendingFixtures.get(i), renderedFixtures.get(i));
+        }
+    }
+
+    private PendingFixture readAnnotatedElement(TypeElement element) {
+        final var modelElement = toModelAccess(element);
+        final var fixtureAnnotation = modelElement.getAnnotation(Fixture.class);
+        final var metadata = metadataFactory.createMetadataFrom(modelElement.asType(), Arrays.stream(fixtureAnnotation.genericImplementations()).toList());
+        final var qualifiedFixtureClassName = metadata.getQualifiedFixtureClassName();
+        statistics.increment("fixtures", 1);
 
-        final var fixtureAnnotation = element.getAnnotation(Fixture.class);
-        final var metadata = metadataFactory.createMetadataFrom(element.asType(), Arrays.stream(fixtureAnnotation.genericImplementations()).toList());
+        final var cacheStart = statistics.startTimer();
+        final var cacheKey = sourceCache.isEnabled() ? typeFingerprint.createKey(element) : null;
+        final var cachedFixture = readCachedFixture(cacheKey);
+        statistics.stopTimer("sourceCache", qualifiedFixtureClassName, cacheStart);
+        return new PendingFixture(element, modelElement, metadata, cacheKey, cachedFixture);
+    }
+
+    private String createFixture(PendingFixture pendingFixture) {
+        final var metadata = pendingFixture.getMetadata();
+        final var analysisStart = statistics.startTimer();
+        final var model = createFixtureModel(pendingFixture.getModelElement(), metadata);
+        statistics.stopTimer("analysis", metadata.getQualifiedFixtureClassName(), analysisStart);
+        return renderFixture(model);
+    }
 
+    private void writePendingFixture(PendingFixture pendingFixture, String fixture) {
+        final var qualifiedFixtureClassName = pendingFixture.getMetadata().getQualifiedFixtureClassName();
+        final var cacheKey = pendingFixture.getCacheKey();
+        if (Objects.nonNull(pendingFixture.getCachedFixture())) {
+            writeFixture(pendingFixture.getElement(), qualifiedFixtureClassName, fixture, true);
+            return;
+        }
+
+        writeFixture(pendingFixture.getElement(), qualifiedFixtureClassName, fixture, false);
+        if (Objects.nonNull(cacheKey))
+            writeCachedFixture(cacheKey, qualifiedFixtureClassName, fixture);
+    }
+
+    private ExecutorService createModelExecutor() {
+        if (options.isParallel())
+            return Executors.newFixedThreadPool(options.getParallelism());
+
+        return MoreExecutors.newDirectExecutorService();
+    }
+
+    private static void shutdown(ExecutorService executor) {
+        executor.shutdownNow();
         try {
-            final var fixtureFile = processingEnv.getFiler()
-                    .createSourceFile(metadata.getQualifiedFixtureClassName());
-
-            try (final var fixtureWriter = new PrintWriter(fixtureFile.openWriter())) {
-                if (metadata.hasPackageName()) {
-                    fixtureWriter.println("package %s;".formatted(metadata.getPackageName()));
-                    fixtureWriter.println();
-                }
-                final var constantMap = constantsGenerationStrategy.generateConstants(element, metadata);
-                final var creationMethodStrategies = getCreationMethodGenerationStrategies(constantValueProviderService, constantMap);
-
-                final var creationMethods = creationMethodStrategies.stream()
-                        .flatMap(strategy -> strategy.generateCreationMethods(element, constantMap, metadata).stream());
-
-                fixtureWriter.println("public class %sFixture {".formatted(metadata.getSimpleClassNameWithoutGeneric()));
-                constantMap.values().forEach(constant -> fixtureWriter.println("%spublic static %s %s = %s;".formatted(WHITESPACE_4, constant.getType(), constant.getName(), constant.getValue())));
-                creationMethods.forEach(method -> {
-                    fixtureWriter.println();
-                    fixtureWriter.println("%spublic static %s %s() {".formatted(WHITESPACE_4, method.getReturnType(), method.getName()));
-                    fixtureWriter.println("%sreturn %s;".formatted(WHITESPACE_8, method.getReturnValue()));
-                    fixtureWriter.println("%s}".formatted(WHITESPACE_4));
-                });
-                fixtureWriter.println("}");
-            }
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String getRenderedFixture(PendingFixture pendingFixture, Future<String> renderedFixtureFuture) {
+        final var qualifiedFixtureClassName = pendingFixture.getMetadata().getQualifiedFixtureClassName();
+        try {
+            return renderedFixtureFuture.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FixtureCreationException("Creating the fixture %s has been interrupted.".formatted(qualifiedFixtureClassName));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException)
+                throw runtimeException;
+            if (e.getCause() instanceof Error error)
+                throw error;
+
+            throw new FixtureCreationException("Failed to create the fixture %s.".formatted(qualifiedFixtureClassName));
+        }
+    }
+
+    /**
+     * Returns the specified object of the {@link javax.lang.model} API as it has to be accessed while creating fixture
+     * models, which is the object itself unless models are created by a pool of threads.
+     */
+    private <T> T toModelAccess(T value) {
+        return Objects.isNull(modelAccess) ? value : modelAccess.wrap(value);
+    }
+
+    private String renderFixture(FixtureModel model) {
+        final var renderStart = statistics.startTimer();
+        final var fixture = fixtureRenderer.render(model);
+        statistics.stopTimer("rendering", model.getQualifiedFixtureClassName(), renderStart);
+        return fixture;
+    }
+
+    private FixtureModel createFixtureModel(TypeElement element, TypeMetadata metadata) {
+        final var constantValueProviderService = initializeValueProviderService(element.getAnnotationsByType(FixtureValueProvider.class), metadata);
+        final var constantsGenerationStrategy = new ConstantGenerationStrategy(new ConstantNamingStrategy(), constantValueProviderService, memberIndex,
+                new ConstantDeclarationStrategy(options.isLazyConstantsEnabled(), options.isFinalConstantsEnabled()),
+                new RandomValueStrategy(options.isRandomCreationMethodsEnabled()),
+                new ConstantSharingStrategy(element.getAnnotationsByType(FixtureSharing.class), options.isBulkCreationMethodsEnabled(), options.isStreamCreationMethodsEnabled()));
+
+        final var constantMap = constantsGenerationStrategy.generateConstants(element, metadata);
+        final var creationMethodStrategies = getCreationMethodGenerationStrategies(constantValueProviderService, constantMap);
+        if (options.isBulkCreationMethodsEnabled() || options.isStreamCreationMethodsEnabled()) {
+            final var indexedConstantMap = constantMap.withIndexVariable(BulkCreationMethodStrategy.INDEX_VARIABLE);
+            getCreationMethodGenerationStrategies(constantValueProviderService, indexedConstantMap).stream()
+                    .map(strategy -> new BulkCreationMethodStrategy(strategy, options.isBulkCreationMethodsEnabled(), options.isStreamCreationMethodsEnabled()))
+                    .forEach(creationMethodStrategies::add);
+        }
+        if (options.isRandomCreationMethodsEnabled()) {
+            getCreationMethodGenerationStrategies(constantValueProviderService, constantMap.withRandomValues()).stream()
+                    .map(RandomCreationMethodStrategy::new)
+                    .forEach(creationMethodStrategies::add);
+        }
+        final var creationMethods = creationMethodStrategies.stream()
+                .flatMap(strategy -> strategy.generateCreationMethods(element, constantMap, metadata).stream())
+                .toList();
+
+        return FixtureModel.builder()
+                .packageName(metadata.getPackageName())
+                .fixtureClassName("%sFixture".formatted(metadata.getSimpleClassNameWithoutGeneric()))
+                .qualifiedFixtureClassName(metadata.getQualifiedFixtureClassName())
+                .constants(constantMap.values())
+                .creationMethods(creationMethods)
+                .build();
+    }
+
+    private void writeFixture(TypeElement element, String qualifiedFixtureClassName, String fixture, boolean cached) {
+        final var writeStart = statistics.startTimer();
+        try {
+            fixtureFileWriter.write(qualifiedFixtureClassName, fixture, element, cached);
         } catch (IOException e) {
-            throw new FixtureCreationException("Failed to create source file %s for fixture.".formatted(metadata.getQualifiedClassName()));
+            throw new FixtureCreationException("Failed to create source file %s for fixture.".formatted(qualifiedFixtureClassName));
         }
+        statistics.stopTimer("writing", qualifiedFixtureClassName, writeStart);
+        statistics.increment("bytesWritten", fixture.getBytes(StandardCharsets.UTF_8).length);
     }
 
-    private ConstantValueProviderService initializeValueProviderService(FixtureValueProvider[] customFixtureProviders, MetadataFactory metadataFactory) {
+    private String readCachedFixture(String cacheKey) {
+        if (Objects.isNull(cacheKey))
+            return null;
+
+        try {
+            return sourceCache.get(cacheKey);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Fixturize could not read the cached fixture %s: %s".formatted(cacheKey, e.getMessage()));
+            return null;
+        }
+    }
+
+    private void writeCachedFixture(String cacheKey, String qualifiedFixtureClassName, String fixture) {
+        try {
+            sourceCache.put(cacheKey, fixture);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Fixturize could not cache the fixture %s: %s".formatted(qualifiedFixtureClassName, e.getMessage()));
+        }
+    }
+
+    private void reportSourceCacheStatistics() {
+        final var requests = sourceCache.getHits() + sourceCache.getMisses();
+        if (requests == 0) return;
+
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                "Fixturize reused %d of %d fixtures from the cache directory %s (%d misses)."
+                        .formatted(sourceCache.getHits(), requests, options.getCacheDirectory(), sourceCache.getMisses()));
+    }
+
+    private void reportWrittenFixtureStatistics() {
+        final var writtenFixtures = fixtureFileWriter.getChangedFixtures() + fixtureFileWriter.getRestoredFixtures() + fixtureFileWriter.getUnchangedFixtures();
+        if (writtenFixtures == 0) return;
+
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                "Fixturize wrote %d fixtures, %d changed, %d restored from the cache and %d were identical to the previous output."
+                        .formatted(writtenFixtures, fixtureFileWriter.getChangedFixtures(), fixtureFileWriter.getRestoredFixtures(), fixtureFileWriter.getUnchangedFixtures()));
+    }
+
+    private void reportProcessingStatistics() {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, statistics.createSummary());
+        final var statisticsFile = options.getStatsFile();
+        if (Objects.isNull(statisticsFile))
+            return;
+
+        try {
+            if (Objects.nonNull(statisticsFile.getParent()))
+                Files.createDirectories(statisticsFile.getParent());
+            Files.writeString(statisticsFile, statistics.toJson(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Fixturize could not write %s: %s".formatted(statisticsFile, e.getMessage()));
+        }
+    }
+
+    private static String getProcessorVersion() {
+        final var implementationVersion = FixtureProcessor.class.getPackage().getImplementationVersion();
+        if (Objects.nonNull(implementationVersion))
+            return implementationVersion;
+
+        final var codeSource = FixtureProcessor.class.getProtectionDomain().getCodeSource();
+        if (Objects.isNull(codeSource))
+            return "unknown";
+
+        try {
+            final var location = Path.of(codeSource.getLocation().toURI());
+            return "%s@%s".formatted(location, Files.getLastModifiedTime(location).toMillis());
+        } catch (URISyntaxException | IOException | IllegalArgumentException e) {
+            return "unknown";
+        }
+    }
+
+    private ConstantValueProviderService initializeValueProviderService(FixtureValueProvider[] customFixtureProviders, TypeMetadata metadata) {
         final var customValueProviders = Arrays.stream(customFixtureProviders)
                 .collect(Collectors.toMap(
                         FixtureValueProvider::targetType,
-                        annotation -> valueProviderParser.parseValueProvider(annotation.valueProviderCallback())
+                        this::createCustomValueProvider
                 ));
-        return new ConstantValueProviderService(customValueProviders, valueProviderFactory, elementUtils, typeUtils, metadataFactory);
+        final var fallbackValueCache = fallbackValueCaches.computeIfAbsent(
+                getFallbackValueCacheKey(customFixtureProviders, metadata),
+                key -> new FallbackValueCache(options.isValueCacheEnabled()));
+        final var resolutionContext = new ResolutionContext(metadata.getQualifiedClassName(), options.getMaxDepth(), createCutOffValueProvider(metadata.getQualifiedClassName()));
+        return new ConstantValueProviderService(customValueProviders, valueProviderFactory, elementUtils, typeUtils, metadataFactory, fallbackValueCache, resolutionContext, statistics);
+    }
+
+    private ValueProvider createCutOffValueProvider(String rootType) {
+        if (options.getCutOffStrategy() == CutOffStrategy.FIXTURE_REFERENCE)
+            return valueProviderFactory.createFixtureReferenceValueProvider(rootType);
+
+        return (field, metadata) -> ValueProvider.DEFAULT_VALUE;
+    }
+
+    /**
+     * Returns the key of the fallback value cache used for the fixture of the specified type. Values depend on the custom
+     * value providers of the fixture and, if fixture references are enabled, on the type of the fixture as well, because
+     * fixtures that could reach back to that type are inlined instead of referenced.
+     */
+    private String getFallbackValueCacheKey(FixtureValueProvider[] customFixtureProviders, TypeMetadata metadata) {
+        final var customValueProvidersKey = getCustomValueProvidersKey(customFixtureProviders);
+        if (!options.isFixtureReferencesEnabled())
+            return customValueProvidersKey;
+
+        return "%s\n%s".formatted(metadata.getQualifiedClassName(), customValueProvidersKey);
+    }
+
+    private String getCustomValueProvidersKey(FixtureValueProvider[] customFixtureProviders) {
+        return Arrays.stream(customFixtureProviders)
+                .map(annotation -> "%s=%s|%s".formatted(annotation.targetType(), annotation.valueProviderCallback(), getProviderClassName(annotation)))
+                .sorted()
+                .collect(Collectors.joining("\n"));
+    }
+
+    private ValueProvider createCustomValueProvider(FixtureValueProvider annotation) {
+        final var providerClassName = getProviderClassName(annotation);
+        final var hasCallback = !annotation.valueProviderCallback().isEmpty();
+        final var hasProviderClass = !providerClassName.equals(ValueProvider.class.getName());
+
+        if (hasCallback == hasProviderClass)
+            throw new FixtureCreationException("The value provider for target type %s has to define exactly one of valueProviderCallback or providerClass."
+                    .formatted(annotation.targetType()));
+
+        if (hasProviderClass)
+            return valueProviderLoader.loadValueProvider(providerClassName);
+
+        return getValueProviderParser().parseValueProvider(annotation.valueProviderCallback());
+    }
+
+    private String getProviderClassName(FixtureValueProvider annotation) {
+        try {
+            return annotation.providerClass().getName();
+        } catch (MirroredTypeException e) {
+            final var providerClassElement = (TypeElement) typeUtils.asElement(e.getTypeMirror());
+            return elementUtils.getBinaryName(providerClassElement).toString();
+        }
+    }
+
+    private void reportValueProviderCacheStatistics(CustomValueProviderParser parser) {
+        final var requests = parser.getCacheHits() + parser.getCacheMisses();
+        if (requests == 0) return;
+
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                "Fixturize parsed %d custom value provider definitions, %d were answered from cache (%.1f%% hit rate)."
+                        .formatted(requests, parser.getCacheHits(), 100.0 * parser.getCacheHits() / requests));
+    }
+
+    private synchronized CustomValueProviderParser getValueProviderParser() {
+        if (Objects.isNull(valueProviderParser))
+            valueProviderParser = new CustomValueProviderParser();
+
+        return valueProviderParser;
     }
 
     private List<CreationMethodGenerationStrategy> getCreationMethodGenerationStrategies(ValueProviderService constantValueProviderService, ConstantMap constantMap) {
@@ -154,6 +528,37 @@ public class FixtureProcessor extends AbstractProcessor {
                 new BuilderCreationMethodStrategy(
                         creationMethodValueProviderService,
                         valueProviderFactory.createBuilderValueProvider(creationMethodValueProviderService)));
+        if (options.requiresDefaultCreationMethods()) {
+            creationMethodStrategies.add(
+                    new DefaultCreationMethodStrategy(
+                            valueProviderFactory.createBuilderValueProvider(creationMethodValueProviderService),
+                            valueProviderFactory.createConstructorValueProvider(creationMethodValueProviderService)));
+        }
         return creationMethodStrategies;
     }
+
+    /**
+     * A fixture of the current processing round whose annotated class has been read on the processor thread and whose
+     * source is either taken from the cache or still has to be created.
+     */
+    @Value
+    private static class PendingFixture {
+        /**
+         * The annotated class as provided by the compiler, which is used as the originating element of the fixture.
+         */
+        TypeElement element;
+        /**
+         * The annotated class as it has to be accessed while creating the fixture model.
+         */
+        TypeElement modelElement;
+        TypeMetadata metadata;
+        /**
+         * The key under which the fixture is cached. Null if the cache is disabled.
+         */
+        String cacheKey;
+        /**
+         * The source of the fixture read from the cache. Null if the fixture has not been cached.
+         */
+        String cachedFixture;
+    }
 }
@@ -0,0 +1,285 @@
+package de.floydkretschmar.fixturize;
+
+import de.floydkretschmar.fixturize.exceptions.FixtureCreationException;
+import de.floydkretschmar.fixturize.stategies.value.CutOffStrategy;
+import lombok.Builder;
+import lombok.Value;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Contains all options that can be passed to the {@link FixtureProcessor} using <b>-A{optionName}={value}</b>.
+ *
+ * @author Floyd Kretschmar
+ */
+@Value
+@Builder
+public class ProcessorOptions {
+    /**
+     * The name of the option that enables or disables the caching of values created by fallback value providers.
+     */
+    public static final String VALUE_CACHE = "fixturize.valueCache";
+
+    /**
+     * The name of the option that defines the maximum number of nested types resolved by fallback value providers.
+     */
+    public static final String MAX_DEPTH = "fixturize.maxDepth";
+
+    /**
+     * The name of the option that defines the {@link CutOffStrategy} used for cyclic or too deeply nested types.
+     */
+    public static final String CUT_OFF_STRATEGY = "fixturize.cutOffStrategy";
+
+    /**
+     * The name of the option that enables references to other generated fixtures instead of inlined values.
+     */
+    public static final String FIXTURE_REFERENCES = "fixturize.fixtureReferences";
+
+    /**
+     * The name of the option that enables the lazy initialization of constants of expensive types.
+     */
+    public static final String LAZY_CONSTANTS = "fixturize.lazyConstants";
+
+    /**
+     * The name of the option that enables final constants for immutable types and factory methods for mutable types.
+     */
+    public static final String FINAL_CONSTANTS = "fixturize.finalConstants";
+
+    /**
+     * The name of the option that enables default values that are identical across builds.
+     */
+    public static final String DETERMINISTIC = "fixturize.deterministic";
+
+    /**
+     * The name of the option that enables the generation of bulk creation methods.
+     */
+    public static final String BULK_CREATION_METHODS = "fixturize.bulkCreationMethods";
+
+    /**
+     * The name of the option that enables the generation of stream creation methods.
+     */
+    public static final String STREAM_CREATION_METHODS = "fixturize.streamCreationMethods";
+
+    /**
+     * The name of the option that enables the generation of random creation methods.
+     */
+    public static final String RANDOM_CREATION_METHODS = "fixturize.randomCreationMethods";
+
+    /**
+     * The name of the option that defines the number of threads used to create the fixture models of a processing round.
+     */
+    public static final String PARALLELISM = "fixturize.parallelism";
+
+    /**
+     * The name of the option that defines the directory in which generated fixtures are cached across builds.
+     */
+    public static final String CACHE_DIRECTORY = "fixturize.cacheDirectory";
+
+    /**
+     * The name of the option that enables the recording of processing statistics.
+     */
+    public static final String STATS = "fixturize.stats";
+
+    /**
+     * The name of the option that defines the file to which recorded processing statistics are written.
+     */
+    public static final String STATS_FILE = "fixturize.statsFile";
+
+    /**
+     * Whether values created by fallback value providers are cached for the duration of a processing round. Enabled by
+     * default, can be disabled for debugging purposes.
+     */
+    boolean valueCacheEnabled;
+
+    /**
+     * The maximum number of nested types that are resolved by fallback value providers below the type of a fixture.
+     * Defaults to 10.
+     */
+    int maxDepth;
+
+    /**
+     * The strategy used to create values for types that are cut off during fallback value resolution. Defaults to
+     * {@link CutOffStrategy#NULL}.
+     */
+    CutOffStrategy cutOffStrategy;
+
+    /**
+     * Whether values for types annotated with {@link de.floydkretschmar.fixturize.annotations.Fixture} are created by
+     * referencing the default creation method of their fixture instead of inlining a builder or constructor call.
+     * Disabled by default.
+     */
+    boolean fixtureReferencesEnabled;
+
+    /**
+     * Whether constants of types other than primitives, their wrappers and strings are initialized by holder classes on
+     * first access instead of during the initialization of the fixture class. Disabled by default.
+     */
+    boolean lazyConstantsEnabled;
+
+    /**
+     * Whether constants of immutable types are declared final and constants of known mutable types are replaced by
+     * methods creating a new value on every call. Disabled by default.
+     */
+    boolean finalConstantsEnabled;
+
+    /**
+     * Whether default values for UUIDs and temporal types are derived from the name of the field or fixed instead of
+     * being random or depending on the current time, so that generated fixtures are identical across builds. Disabled by
+     * default.
+     */
+    boolean deterministic;
+
+    /**
+     * Whether a bulk creation method returning a list of instances with unique values is generated for every creation
+     * method. Disabled by default.
+     */
+    boolean bulkCreationMethodsEnabled;
+
+    /**
+     * Whether a creation method returning a lazy stream of instances with unique values is generated for every creation
+     * method. Disabled by default.
+     */
+    boolean streamCreationMethodsEnabled;
+
+    /**
+     * Whether a creation method creating an instance with random values drawn from a provided random generator is
+     * generated for every creation method. Disabled by default.
+     */
+    boolean randomCreationMethodsEnabled;
+
+    /**
+     * The number of threads used to create and render the fixture models of a processing round. Values of 0 and 1
+     * create all models on the processor thread. Defaults to 1.
+     */
+    int parallelism;
+
+    /**
+     * The directory in which the sources of generated fixtures are cached across builds. Null if no directory has been
+     * configured, which disables the cache.
+     */
+    Path cacheDirectory;
+
+    /**
+     * Whether timers and counters are recorded during processing and reported at the end of the compilation. Disabled
+     * by default.
+     */
+    boolean statsEnabled;
+
+    /**
+     * The file to which recorded statistics are written as JSON. Null if no file has been configured, in which case the
+     * statistics are only reported as a compiler note.
+     */
+    Path statsFile;
+
+    /**
+     * Returns whether fixture models are created on a separate pool of threads.
+     *
+     * @return true, if more than one thread has been configured, otherwise false
+     */
+    public boolean isParallel() {
+        return parallelism > 1;
+    }
+
+    /**
+     * Returns whether fixtures have to contain a default creation method, because other fixtures may reference it.
+     *
+     * @return true, if default creation methods have to be generated, otherwise false
+     */
+    public boolean requiresDefaultCreationMethods() {
+        return fixtureReferencesEnabled || cutOffStrategy == CutOffStrategy.FIXTURE_REFERENCE;
+    }
+
+    /**
+     * Returns a description of all options that influence the source of generated fixtures, so that fixtures cached with
+     * different options are never reused.
+     *
+     * @return the description of the options
+     */
+    public String describeGenerationOptions() {
+        return "%s=%s;%s=%s;%s=%s;%s=%s;%s=%s;%s=%s;%s=%s;%s=%s;%s=%s".formatted(
+                MAX_DEPTH, maxDepth,
+                CUT_OFF_STRATEGY, cutOffStrategy,
+                FIXTURE_REFERENCES, fixtureReferencesEnabled,
+                LAZY_CONSTANTS, lazyConstantsEnabled,
+                FINAL_CONSTANTS, finalConstantsEnabled,
+                DETERMINISTIC, deterministic,
+                BULK_CREATION_METHODS, bulkCreationMethodsEnabled,
+                STREAM_CREATION_METHODS, streamCreationMethodsEnabled,
+                RANDOM_CREATION_METHODS, randomCreationMethodsEnabled);
+    }
+
+    /**
+     * Creates the processor options from the options passed to the annotation processor.
+     *
+     * @param options - passed to the annotation processor
+     * @return the processor options
+     */
+    public static ProcessorOptions from(Map<String, String> options) {
+        return ProcessorOptions.builder()
+                .valueCacheEnabled(getBoolean(options, VALUE_CACHE, true))
+                .maxDepth(getInt(options, MAX_DEPTH, 10))
+                .cutOffStrategy(getEnum(options, CUT_OFF_STRATEGY, CutOffStrategy.class, CutOffStrategy.NULL))
+                .fixtureReferencesEnabled(getBoolean(options, FIXTURE_REFERENCES, false))
+                .lazyConstantsEnabled(getBoolean(options, LAZY_CONSTANTS, false))
+                .finalConstantsEnabled(getBoolean(options, FINAL_CONSTANTS, false))
+                .deterministic(getBoolean(options, DETERMINISTIC, false))
+                .bulkCreationMethodsEnabled(getBoolean(options, BULK_CREATION_METHODS, false))
+                .streamCreationMethodsEnabled(getBoolean(options, STREAM_CREATION_METHODS, false))
+                .randomCreationMethodsEnabled(getBoolean(options, RANDOM_CREATION_METHODS, false))
+                .parallelism(getInt(options, PARALLELISM, 1))
+                .cacheDirectory(getPath(options, CACHE_DIRECTORY))
+                .statsEnabled(getBoolean(options, STATS, false))
+                .statsFile(getPath(options, STATS_FILE))
+                .build();
+    }
+
+    private static boolean getBoolean(Map<String, String> options, String name, boolean defaultValue) {
+        final var value = options.get(name);
+        return Objects.isNull(value) ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    private static Path getPath(Map<String, String> options, String name) {
+        final var value = options.get(name);
+        if (Objects.isNull(value) || value.isBlank())
+            return null;
+
+        try {
+            return Path.of(value.trim());
+        } catch (InvalidPathException e) {
+            throw new FixtureCreationException("The option %s must be a valid path but was %s".formatted(name, value));
+        }
+    }
+
+    private static int getInt(Map<String, String> options, String name, int defaultValue) {
+        final var value = options.get(name);
+        if (Objects.isNull(value))
+            return defaultValue;
+
+        try {
+            final var intValue = Integer.parseInt(value.trim());
+            if (intValue < 0)
+                throw new FixtureCreationException("The option %s must not be negative but was %s".formatted(name, value));
+            return intValue;
+        } catch (NumberFormatException e) {
+            throw new FixtureCreationException("The option %s must be an integer but was %s".formatted(name, value));
+        }
+    }
+
+    private static <T extends Enum<T>> T getEnum(Map<String, String> options, String name, Class<T> enumType, T defaultValue) {
+        final var value = options.get(name);
+        if (Objects.isNull(value))
+            return defaultValue;
+
+        try {
+            return Enum.valueOf(enumType, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new FixtureCreationException("The option %s must be one of %s but was %s"
+                    .formatted(name, Arrays.toString(enumType.getEnumConstants()), value));
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package de.floydkretschmar.fixturize;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Serializes all access to the {@link javax.lang.model} API of the compiler, which is not thread safe, so that fixture
+ * models can be created on a pool of threads. Every object of the API that is passed to a worker thread has to be wrapped
+ * by this class: the wrapper implements the same {@link javax.lang.model} interfaces as the wrapped object, calls it while
+ * holding the lock of this class and wraps every object of the API it returns in turn, including the elements of
+ * returned lists, sets and maps. Arguments are unwrapped before they are passed to the compiler. Every object is only
+ * wrapped once, so that wrappers can be compared by identity just like the objects of the compiler.
+ * <br><br>
+ * An instance should only be used for the duration of a single processing round, during which the processor thread must
+ * not access the compiler while worker threads are running.
+ *
+ * @author Floyd Kretschmar
+ */
+public class SynchronizedModelAccess {
+
+    private static final String MODEL_PACKAGE_PREFIX = "javax.lang.model.";
+
+    /**
+     * The wrappers of all objects of the API that have been wrapped so far.
+     */
+    private final Map<Object, Object> wrappers = new IdentityHashMap<>();
+
+    /**
+     * The {@link javax.lang.model} interfaces implemented by each wrapped class.
+     */
+    private final Map<Class<?>, Class<?>[]> modelInterfaces = new LinkedHashMap<>();
+
+    /**
+     * Returns the wrapper of the specified object of the {@link javax.lang.model} API, e.g. an element, type mirror or
+     * the {@link javax.lang.model.util.Elements} and {@link javax.lang.model.util.Types} utilities. Lists, sets and maps
+     * are copied with all of their objects wrapped. All other objects are returned unchanged.
+     *
+     * @param value - that is wrapped
+     * @param <T>   the type of the value
+     * @return the wrapped value
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T> T wrap(T value) {
+        if (Objects.isNull(value) || isWrapper(value))
+            return value;
+
+        if (value instanceof List<?> list) {
+            final var wrappedList = new ArrayList<>(list.size());
+            list.forEach(item -> wrappedList.add(wrap(item)));
+            return (T) Collections.unmodifiableList(wrappedList);
+        }
+        if (value instanceof Set<?> set) {
+            final var wrappedSet = new LinkedHashSet<>();
+            set.forEach(item -> wrappedSet.add(wrap(item)));
+            return (T) Collections.unmodifiableSet(wrappedSet);
+        }
+        if (value instanceof Map<?, ?> map) {
+            final var wrappedMap = new LinkedHashMap<>();
+            map.forEach((key, item) -> wrappedMap.put(wrap(key), wrap(item)));
+            return (T) Collections.unmodifiableMap(wrappedMap);
+        }
+
+        final var interfaces = modelInterfaces.computeIfAbsent(value.getClass(), SynchronizedModelAccess::collectModelInterfaces);
+        if (interfaces.length == 0)
+            return value;
+
+        return (T) wrappers.computeIfAbsent(value, target ->
+                Proxy.newProxyInstance(SynchronizedModelAccess.class.getClassLoader(), interfaces, new SynchronizedInvocationHandler(target)));
+    }
+
+    private boolean isWrapper(Object value) {
+        return Proxy.isProxyClass(value.getClass()) && Proxy.getInvocationHandler(value) instanceof SynchronizedInvocationHandler handler
+                && handler.getAccess() == this;
+    }
+
+    private Object unwrap(Object value) {
+        if (Objects.isNull(value))
+            return null;
+
+        if (isWrapper(value))
+            return ((SynchronizedInvocationHandler) Proxy.getInvocationHandler(value)).target;
+
+        if (value.getClass().isArray() && !value.getClass().getComponentType().isPrimitive()) {
+            final var length = Array.getLength(value);
+            final var unwrappedArray = Array.newInstance(value.getClass().getComponentType(), length);
+            for (int i = 0; i < length; i++) {
+                Array.set(unwrappedArray, i, unwrap(Array.get(value, i)));
+            }
+            return unwrappedArray;
+        }
+        return value;
+    }
+
+    private static Class<?>[] collectModelInterfaces(Class<?> type) {
+        final var interfaces = new LinkedHashSet<Class<?>>();
+        for (var currentType = type; Objects.nonNull(currentType); currentType = currentType.getSuperclass()) {
+            collectModelInterfaces(currentType.getInterfaces(), interfaces);
+        }
+        return interfaces.toArray(Class<?>[]::new);
+    }
+
+    private static void collectModelInterfaces(Class<?>[] candidates, Set<Class<?>> interfaces) {
+        for (Class<?> candidate : candidates) {
+            if (candidate.getName().startsWith(MODEL_PACKAGE_PREFIX))
+                interfaces.add(candidate);
+
+            collectModelInterfaces(candidate.getInterfaces(), interfaces);
+        }
+    }
+
+    /**
+     * Calls the wrapped object while holding the lock of the access, unwrapping all arguments and wrapping the result.
+     */
+    private class SynchronizedInvocationHandler implements InvocationHandler {
+        private final Object target;
+
+        private SynchronizedInvocationHandler(Object target) {
+            this.target = target;
+        }
+
+        private SynchronizedModelAccess getAccess() {
+            return SynchronizedModelAccess.this;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("equals") && method.getParameterCount() == 1)
+                return target.equals(unwrap(args[0]));
+
+            if (method.getName().equals("hashCode") && method.getParameterCount() == 0)
+                return target.hashCode();
+
+            synchronized (SynchronizedModelAccess.this) {
+                final var unwrappedArgs = Objects.isNull(args) ? null : new Object[args.length];
+                for (int i = 0; Objects.nonNull(args) && i < args.length; i++) {
+                    unwrappedArgs[i] = unwrap(args[i]);
+                }
+
+                try {
+                    return wrap(method.invoke(target, unwrappedArgs));
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        }
+    }
+}
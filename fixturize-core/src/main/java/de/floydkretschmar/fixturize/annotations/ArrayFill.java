@@ -0,0 +1,31 @@
+package de.floydkretschmar.fixturize.annotations;
+
+/**
+ * Defines how the elements of an array created for a field annotated with {@link FixtureArray} are filled.
+ *
+ * @author Floyd Kretschmar
+ */
+public enum ArrayFill {
+    /**
+     * The elements keep the default value of the component type.
+     */
+    ZERO,
+
+    /**
+     * Every element is assigned {@link FixtureArray#value()} via <b>java.util.Arrays.fill</b>.
+     */
+    CONSTANT,
+
+    /**
+     * Every element is assigned its own index. Only supported for arrays of <b>int</b>, <b>long</b>, <b>double</b> and
+     * <b>byte</b>, where the index of <b>byte</b> arrays wraps around.
+     */
+    INDEX,
+
+    /**
+     * The elements are drawn from a {@link java.util.SplittableRandom} seeded with {@link FixtureArray#seed()}, so that
+     * the array has the same content in every build. Only supported for arrays of <b>int</b>, <b>long</b>, <b>double</b>
+     * and <b>byte</b>.
+     */
+    RANDOM
+}
@@ -0,0 +1,46 @@
+package de.floydkretschmar.fixturize.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defines the length and content of the array created for an annotated array field. Instead of an array initializer
+ * listing every element, the array is created with its length and then filled according to {@link #fill()}, so that
+ * large arrays neither bloat the generated source nor the constant pool of the fixture.
+ *
+ * @author Floyd Kretschmar
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.SOURCE)
+public @interface FixtureArray {
+    /**
+     * Returns the length of the created array.
+     *
+     * @return the array length
+     */
+    int length();
+
+    /**
+     * Returns how the elements of the created array are filled.
+     *
+     * @return the fill pattern
+     */
+    ArrayFill fill() default ArrayFill.ZERO;
+
+    /**
+     * Returns the string representation of the value assigned to every element when using {@link ArrayFill#CONSTANT}.
+     * This could be a static value as well as valid inline java code.
+     *
+     * @return the representation of the element value
+     */
+    String value() default "0";
+
+    /**
+     * Returns the seed of the random generator used to fill the array when using {@link ArrayFill#RANDOM}.
+     *
+     * @return the seed
+     */
+    long seed() default 0L;
+}
@@ -0,0 +1,42 @@
+package de.floydkretschmar.fixturize.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defines how the instances created by the bulk and stream creation methods of a fixture share the values of all
+ * constants matching the specified target type. Constants of types without a sharing policy keep their default
+ * behaviour: numbers, strings and identifiers are varied by the index of the instance, all other values are shared.
+ *
+ * @author Floyd Kretschmar
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+@Repeatable(FixtureSharings.class)
+public @interface FixtureSharing {
+    /**
+     * Returns the string representation of the type for which the sharing policy is defined, e.g.
+     * <b>de.example.Customer</b>. Generic types can be matched with or without their generic part.
+     *
+     * @return the target type representation
+     */
+    String targetType();
+
+    /**
+     * Returns how the values of the target type are shared by the created instances.
+     *
+     * @return the sharing policy
+     */
+    SharingPolicy policy();
+
+    /**
+     * Returns the number of distinct values created for the target type when using {@link SharingPolicy#POOLED}. Has to
+     * be at least 1.
+     *
+     * @return the number of pooled values
+     */
+    int cardinality() default 1;
+}
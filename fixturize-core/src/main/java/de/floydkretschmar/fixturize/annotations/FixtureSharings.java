@@ -0,0 +1,21 @@
+package de.floydkretschmar.fixturize.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotation container that allows the repeated use of {@link FixtureSharing}.
+ *
+ * @author Floyd Kretschmar
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface FixtureSharings {
+    /**
+     * Returns all instances of {@link FixtureSharing} with which the target has been annotated.
+     * @return all fixture sharing annotations
+     */
+    FixtureSharing[] value();
+}
@@ -1,6 +1,7 @@
 package de.floydkretschmar.fixturize.annotations;
 
 import de.floydkretschmar.fixturize.stategies.metadata.TypeMetadata;
+import de.floydkretschmar.fixturize.stategies.value.providers.ValueProvider;
 
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Repeatable;
@@ -16,6 +17,8 @@ import java.lang.annotation.Target;
  *     <li>{@link javax.lang.model.type.TypeKind}</li>
  *     <li>on a per class level</li>
  * </ul>
+ * The value provider itself is either defined as javascript code using {@link FixtureValueProvider#valueProviderCallback()}
+ * or as a compiled java class using {@link FixtureValueProvider#providerClass()}. Exactly one of the two has to be set.
  *
  * @author Floyd Kretschmar
  */
@@ -35,9 +38,20 @@ public @interface FixtureValueProvider {
      * Returns the code that should be executed to provide the value for all constants
      * of the same type as specified by {@link FixtureValueProvider#targetType()}. Code can access information
      * about the field for which the value should be provided via the variable <b>field</b> of type {@link javax.lang.model.element.Element}
-     * and <b>names</b> of type {@link TypeMetadata}
+     * and <b>names</b> of type {@link TypeMetadata}. Evaluating javascript callbacks requires <b>org.graalvm.js:js</b> to
+     * be present on the annotation processor path.
      *
      * @return the code to provide values for all constants of a type
      */
-    String valueProviderCallback();
+    String valueProviderCallback() default "";
+
+    /**
+     * Returns the compiled java implementation of {@link ValueProvider} that should be used to provide the value for all
+     * constants of the same type as specified by {@link FixtureValueProvider#targetType()}. The class has to be present on
+     * the annotation processor path and either be registered as a service for {@link ValueProvider} or declare a public
+     * no-argument constructor.
+     *
+     * @return the class of the value provider
+     */
+    Class<? extends ValueProvider> providerClass() default ValueProvider.class;
 }
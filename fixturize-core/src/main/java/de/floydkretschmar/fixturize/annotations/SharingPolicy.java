@@ -0,0 +1,25 @@
+package de.floydkretschmar.fixturize.annotations;
+
+/**
+ * Defines how the instances created by bulk and stream creation methods share the value of a constant.
+ *
+ * @author Floyd Kretschmar
+ */
+public enum SharingPolicy {
+    /**
+     * Every instance gets a newly created value.
+     */
+    NEW,
+
+    /**
+     * All instances share the value of the constant.
+     */
+    SHARED,
+
+    /**
+     * The instances share a pool of {@link FixtureSharing#cardinality()} values, which is created the first time a bulk
+     * or stream creation method is called. The instance with index <b>i</b> gets the value at position
+     * <b>i mod cardinality</b> of the pool.
+     */
+    POOLED
+}
@@ -0,0 +1,116 @@
+package de.floydkretschmar.fixturize.cache;
+
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+
+/**
+ * Stores the rendered source of fixtures in a directory that outlives a single compilation, so that fixtures of
+ * unchanged types can be written without analyzing the type again. Every source is stored in a file named after its
+ * cache key, see {@link TypeFingerprint}.
+ *
+ * @author Floyd Kretschmar
+ */
+@RequiredArgsConstructor
+public class FixtureSourceCache {
+    private static final String FILE_EXTENSION = ".java";
+
+    /**
+     * The directory in which the sources are stored. Null if the cache is disabled.
+     */
+    private final Path directory;
+
+    /**
+     * The number of requested sources that have been found in the cache.
+     */
+    private int hits;
+
+    /**
+     * The number of requested sources that have not been found in the cache.
+     */
+    private int misses;
+
+    /**
+     * Returns whether sources are actually cached.
+     *
+     * @return true, if a cache directory has been configured, otherwise false
+     */
+    public boolean isEnabled() {
+        return Objects.nonNull(directory);
+    }
+
+    /**
+     * Returns the cached source for the specified key.
+     *
+     * @param key - for which the source is being retrieved
+     * @return the cached source or null, if no source has been cached for the key or the cache is disabled
+     * @throws IOException if an existing cache entry could not be read
+     */
+    public String get(String key) throws IOException {
+        if (!isEnabled())
+            return null;
+
+        final var file = getFile(key);
+        if (!Files.isRegularFile(file)) {
+            misses++;
+            return null;
+        }
+
+        hits++;
+        return Files.readString(file, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Caches the source for the specified key, unless the cache is disabled. The source is written to a temporary file
+     * first and then moved to its final location, so that concurrent compilations never read partially written entries.
+     *
+     * @param key    - for which the source is cached
+     * @param source - that is cached
+     * @throws IOException if the cache entry could not be written
+     */
+    public void put(String key, String source) throws IOException {
+        if (!isEnabled())
+            return;
+
+        Files.createDirectories(directory);
+        final var temporaryFile = Files.createTempFile(directory, key, ".tmp");
+        try {
+            Files.writeString(temporaryFile, source, StandardCharsets.UTF_8);
+            try {
+                Files.move(temporaryFile, getFile(key), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, getFile(key), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * Returns the number of requested sources that have been found in the cache.
+     *
+     * @return the number of cache hits
+     */
+    public int getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of requested sources that have not been found in the cache.
+     *
+     * @return the number of cache misses
+     */
+    public int getMisses() {
+        return misses;
+    }
+
+    private Path getFile(String key) {
+        return directory.resolve(key + FILE_EXTENSION);
+    }
+}
@@ -0,0 +1,156 @@
+package de.floydkretschmar.fixturize.cache;
+
+import de.floydkretschmar.fixturize.exceptions.FixtureCreationException;
+import lombok.RequiredArgsConstructor;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Creates the keys under which the sources of fixtures are stored in a {@link FixtureSourceCache}. A key is the SHA-256
+ * hash of the structure of an annotated type: its annotations (including custom value provider callbacks), its members
+ * with their modifiers, types, parameters, annotations and constant values, as well as the structure of all types
+ * reachable from these members. Types of the java platform (<b>java.*</b> and <b>javax.*</b>) are only included by name.
+ * The version of the processor and all processor options that influence the generated source are part of every key.
+ * <br><br>
+ * The structure of every type is only described and hashed once, so a fingerprint should be created for each
+ * processing round and shared by all fixtures of that round.
+ * <br><br>
+ * Changes to the implementation of java value providers referenced via their class name are not detected.
+ *
+ * @author Floyd Kretschmar
+ */
+@RequiredArgsConstructor
+public class TypeFingerprint {
+    /**
+     * The version of the fingerprint format. Has to be increased whenever the fingerprint or the rendered fixtures
+     * change in a way that is not covered by the processor version.
+     */
+    private static final String FORMAT_VERSION = "2";
+
+    /**
+     * The version of the processor that renders the cached sources.
+     */
+    private final String processorVersion;
+
+    /**
+     * The description of all processor options that influence the generated source.
+     */
+    private final String generationOptions;
+
+    /**
+     * The hashes of the structure of all types that have been described so far, by qualified name.
+     */
+    private final Map<String, String> typeHashes = new HashMap<>();
+
+    /**
+     * The types referenced by all types that have been described so far, by qualified name.
+     */
+    private final Map<String, List<TypeElement>> referencedTypes = new HashMap<>();
+
+    /**
+     * Returns the cache key for the fixture of the specified type.
+     *
+     * @param type - for which the fixture is generated
+     * @return the hexadecimal SHA-256 hash of the structure of the type
+     */
+    public String createKey(TypeElement type) {
+        final var fingerprint = new StringBuilder()
+                .append(FORMAT_VERSION).append('\n')
+                .append(processorVersion).append('\n')
+                .append(generationOptions).append('\n');
+        appendType(type, new HashSet<>(), fingerprint);
+        return sha256(fingerprint.toString());
+    }
+
+    private void appendType(TypeElement type, Set<String> visitedTypes, StringBuilder fingerprint) {
+        final var qualifiedName = type.getQualifiedName().toString();
+        if (!visitedTypes.add(qualifiedName))
+            return;
+
+        if (!typeHashes.containsKey(qualifiedName))
+            describeType(type);
+
+        fingerprint.append(qualifiedName).append(' ').append(typeHashes.get(qualifiedName)).append('\n');
+        referencedTypes.get(qualifiedName).forEach(referencedType -> appendType(referencedType, visitedTypes, fingerprint));
+    }
+
+    private void describeType(TypeElement type) {
+        final var description = new StringBuilder();
+        description.append(type.getKind()).append(' ').append(type.getModifiers()).append(' ')
+                .append(type.getQualifiedName()).append(" extends ").append(type.getSuperclass()).append('\n');
+        appendAnnotations(type, description);
+
+        final var referencedTypeMirrors = new ArrayList<TypeMirror>();
+        referencedTypeMirrors.add(type.getSuperclass());
+        for (Element member : type.getEnclosedElements()) {
+            description.append(member.getKind()).append(' ').append(member.getModifiers()).append(' ')
+                    .append(member.getSimpleName()).append(": ").append(member.asType()).append('\n');
+            appendAnnotations(member, description);
+
+            if (member instanceof ExecutableElement executable) {
+                for (VariableElement parameter : executable.getParameters()) {
+                    description.append("parameter ").append(parameter.getSimpleName()).append(": ").append(parameter.asType()).append('\n');
+                    referencedTypeMirrors.add(parameter.asType());
+                }
+                referencedTypeMirrors.add(executable.getReturnType());
+            } else {
+                if (member instanceof VariableElement field && Objects.nonNull(field.getConstantValue()))
+                    description.append("constant value: ").append(field.getConstantValue()).append('\n');
+                referencedTypeMirrors.add(member.asType());
+            }
+        }
+
+        final var typeElements = new ArrayList<TypeElement>();
+        referencedTypeMirrors.forEach(referencedType -> collectTypeElements(referencedType, typeElements));
+        typeHashes.put(type.getQualifiedName().toString(), sha256(description.toString()));
+        referencedTypes.put(type.getQualifiedName().toString(), typeElements);
+    }
+
+    private static void collectTypeElements(TypeMirror type, List<TypeElement> typeElements) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            collectTypeElements(((ArrayType) type).getComponentType(), typeElements);
+            return;
+        }
+        if (type.getKind() != TypeKind.DECLARED)
+            return;
+
+        final var declaredType = (DeclaredType) type;
+        declaredType.getTypeArguments().forEach(typeArgument -> collectTypeElements(typeArgument, typeElements));
+
+        final var element = (TypeElement) declaredType.asElement();
+        final var qualifiedName = element.getQualifiedName().toString();
+        if (!qualifiedName.startsWith("java.") && !qualifiedName.startsWith("javax."))
+            typeElements.add(element);
+    }
+
+    private static void appendAnnotations(Element element, StringBuilder fingerprint) {
+        element.getAnnotationMirrors().forEach(annotation -> fingerprint.append(annotation).append('\n'));
+    }
+
+    private static String sha256(String value) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new FixtureCreationException("Fixture caching requires SHA-256, which is not supported by the java runtime.");
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package de.floydkretschmar.fixturize.rendering;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Objects;
+
+/**
+ * Writes rendered fixtures through the {@link Filer}. Every fixture has to be created on every compilation, so that it
+ * is compiled together with the annotated classes. If the build tool keeps the generated sources of a previous
+ * compilation and the rendered fixture is identical to that output, the last modification time of the previous output
+ * is restored after writing, so that tools relying on timestamps do not consider the fixture changed.
+ * <br><br>
+ * Gradle deletes the generated sources before every full recompilation, so there is no previous output to compare
+ * against. Fixtures written from a {@link de.floydkretschmar.fixturize.cache.FixtureSourceCache} without a previous
+ * output are new files for every tool relying on timestamps. They keep the time they have been written at and are
+ * counted as restored fixtures.
+ *
+ * @author Floyd Kretschmar
+ */
+@RequiredArgsConstructor
+public class FixtureFileWriter {
+    private static final String JAVA_FILE_EXTENSION = ".java";
+
+    private final Filer filer;
+
+    /**
+     * The number of written fixtures that differ from the previous output or did not exist before.
+     */
+    private int changedFixtures;
+
+    /**
+     * The number of written fixtures that are identical to the previous output.
+     */
+    private int unchangedFixtures;
+
+    /**
+     * The number of written fixtures that have been read from the cache and did not exist before.
+     */
+    private int restoredFixtures;
+
+    /**
+     * Writes the source of the fixture with the specified name.
+     *
+     * @param qualifiedFixtureClassName - of the fixture
+     * @param fixture                   - the rendered source of the fixture
+     * @param originatingElement        - the annotated class the fixture has been generated for
+     * @throws IOException if the fixture could not be written
+     */
+    public void write(String qualifiedFixtureClassName, String fixture, Element originatingElement) throws IOException {
+        write(qualifiedFixtureClassName, fixture, originatingElement, false);
+    }
+
+    /**
+     * Writes the source of the fixture with the specified name, which may have been read from the cache. A cached
+     * fixture without a previous output is counted as restored instead of changed.
+     *
+     * @param qualifiedFixtureClassName - of the fixture
+     * @param fixture                   - the rendered or cached source of the fixture
+     * @param originatingElement        - the annotated class the fixture has been generated for
+     * @param cached                    - true, if the source has been read from the cache
+     * @throws IOException if the fixture could not be written
+     */
+    public void write(String qualifiedFixtureClassName, String fixture, Element originatingElement, boolean cached) throws IOException {
+        final var previousFixture = readPreviousFixture(qualifiedFixtureClassName);
+        final var fixtureFile = filer.createSourceFile(qualifiedFixtureClassName, originatingElement);
+        try (final var fixtureWriter = fixtureFile.openWriter()) {
+            fixtureWriter.write(fixture);
+        }
+
+        if (Objects.nonNull(previousFixture) && fixture.contentEquals(previousFixture.getContent())) {
+            unchangedFixtures++;
+            restoreLastModified(fixtureFile, previousFixture.getLastModified());
+        } else if (Objects.isNull(previousFixture) && cached) {
+            restoredFixtures++;
+        } else {
+            changedFixtures++;
+        }
+    }
+
+    /**
+     * Returns the number of written fixtures that differ from the previous output or did not exist before.
+     *
+     * @return the number of changed fixtures
+     */
+    public int getChangedFixtures() {
+        return changedFixtures;
+    }
+
+    /**
+     * Returns the number of written fixtures that are identical to the previous output.
+     *
+     * @return the number of unchanged fixtures
+     */
+    public int getUnchangedFixtures() {
+        return unchangedFixtures;
+    }
+
+    /**
+     * Returns the number of written fixtures that have been read from the cache and did not exist before.
+     *
+     * @return the number of restored fixtures
+     */
+    public int getRestoredFixtures() {
+        return restoredFixtures;
+    }
+
+    private PreviousFixture readPreviousFixture(String qualifiedFixtureClassName) {
+        final var packageSeparator = qualifiedFixtureClassName.lastIndexOf('.');
+        final var packageName = packageSeparator < 0 ? "" : qualifiedFixtureClassName.substring(0, packageSeparator);
+        final var fileName = qualifiedFixtureClassName.substring(packageSeparator + 1) + JAVA_FILE_EXTENSION;
+        try {
+            final var previousFile = filer.getResource(StandardLocation.SOURCE_OUTPUT, packageName, fileName);
+            final var lastModified = previousFile.getLastModified();
+            if (lastModified <= 0)
+                return null;
+
+            return new PreviousFixture(previousFile.getCharContent(true), lastModified);
+        } catch (IOException | IllegalArgumentException | UnsupportedOperationException e) {
+            // the build tool does not keep or expose the previous output, which is treated like a new fixture
+            return null;
+        }
+    }
+
+    private static void restoreLastModified(FileObject fixtureFile, long lastModified) {
+        final var uri = fixtureFile.toUri();
+        if (!"file".equals(uri.getScheme()))
+            return;
+
+        try {
+            Files.setLastModifiedTime(Path.of(uri), FileTime.fromMillis(lastModified));
+        } catch (IOException | IllegalArgumentException e) {
+            // restoring the timestamp is best effort, the written fixture is correct either way
+        }
+    }
+
+    @Value
+    private static class PreviousFixture {
+        CharSequence content;
+        long lastModified;
+    }
+}
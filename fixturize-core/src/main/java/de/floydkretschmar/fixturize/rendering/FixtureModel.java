@@ -0,0 +1,55 @@
+package de.floydkretschmar.fixturize.rendering;
+
+import de.floydkretschmar.fixturize.stategies.constants.Constant;
+import de.floydkretschmar.fixturize.stategies.creation.CreationMethod;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Contains everything needed to render a fixture class, independent of the {@link javax.lang.model} API. A model is
+ * immutable and can therefore be cached, compared and rendered without access to the compiler.
+ *
+ * @author Floyd Kretschmar
+ */
+@Value
+@Builder
+public class FixtureModel {
+    /**
+     * The name of the package of the fixture. Empty if the fixture is located in the base package.
+     */
+    String packageName;
+
+    /**
+     * The simple class name of the fixture.
+     */
+    String fixtureClassName;
+
+    /**
+     * The fully qualified class name of the fixture.
+     */
+    String qualifiedFixtureClassName;
+
+    /**
+     * The constants of the fixture in the order in which they are rendered.
+     */
+    @Singular
+    List<Constant> constants;
+
+    /**
+     * The creation methods of the fixture in the order in which they are rendered.
+     */
+    @Singular
+    List<CreationMethod> creationMethods;
+
+    /**
+     * Returns a boolean indicating if a package name exists, or if the fixture is part of the base package.
+     *
+     * @return true if the package name exists, false if it is an empty string
+     */
+    public boolean hasPackageName() {
+        return !this.packageName.isEmpty();
+    }
+}
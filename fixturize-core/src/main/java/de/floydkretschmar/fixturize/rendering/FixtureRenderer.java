@@ -0,0 +1,17 @@
+package de.floydkretschmar.fixturize.rendering;
+
+/**
+ * Defines the method used to render a {@link FixtureModel} into the source code of a fixture class.
+ *
+ * @author Floyd Kretschmar
+ */
+public interface FixtureRenderer {
+
+    /**
+     * Renders the source code of the fixture class described by the specified model.
+     *
+     * @param model - of the fixture
+     * @return the source code of the fixture
+     */
+    String render(FixtureModel model);
+}
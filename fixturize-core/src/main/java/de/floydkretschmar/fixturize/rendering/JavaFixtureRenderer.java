@@ -0,0 +1,137 @@
+package de.floydkretschmar.fixturize.rendering;
+
+import de.floydkretschmar.fixturize.stategies.constants.Constant;
+import de.floydkretschmar.fixturize.stategies.constants.ConstantDeclaration;
+import de.floydkretschmar.fixturize.stategies.creation.CreationMethod;
+
+/**
+ * Renders a {@link FixtureModel} as a java class in the following format:
+ * <br><br>
+ * package <b>packageName</b>;<br>
+ * <br>
+ * public class <b>fixtureClassName</b> { <br>
+ * public static <b>type</b> <b>name</b> = <b>value</b>;<br>
+ * public static final <b>type</b> <b>name</b> = <b>value</b>;<br>
+ * private static final <b>type</b> <b>name</b> = <b>value</b>;<br>
+ * ...<br>
+ * <br>
+ * private static final class <b>name</b>_HOLDER {<br>
+ * private static final <b>type</b> VALUE = <b>value</b>;<br>
+ * }<br>
+ * <br>
+ * public static <b>type</b> <b>name</b>() {<br>
+ * return <b>name</b>_HOLDER.VALUE;<br>
+ * }<br>
+ * <br>
+ * public static <b>type</b> <b>name</b>() {<br>
+ * return <b>value</b>;<br>
+ * }<br>
+ * ...<br>
+ * <br>
+ * public static <b>returnType</b> <b>name</b>(<b>parameters</b>) {<br>
+ * return <b>returnValue</b>;<br>
+ * }<br>
+ * ...<br>
+ * }<br>
+ * <br>
+ * Constants are rendered according to their {@link ConstantDeclaration}: holder constants as initialization-on-demand
+ * holder classes with an accessor method, so that their value is only created when the accessor is called for the first
+ * time, and factory method constants as accessor methods that create a new value on every call. The whole class is
+ * written into a single buffer that is sized up front from the lengths of all parts of the model.
+ *
+ * @author Floyd Kretschmar
+ */
+public class JavaFixtureRenderer implements FixtureRenderer {
+    private static final String WHITESPACE_4 = " ".repeat(4);
+    private static final String WHITESPACE_8 = " ".repeat(8);
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    /**
+     * The number of characters of a rendered constant that do not depend on the constant itself.
+     */
+    private static final int CONSTANT_OVERHEAD = 32;
+
+    /**
+     * The number of characters of a rendered creation method that do not depend on the creation method itself.
+     */
+    private static final int CREATION_METHOD_OVERHEAD = 64;
+
+    /**
+     * The number of characters of a rendered holder constant that do not depend on the constant itself.
+     */
+    private static final int HOLDER_CONSTANT_OVERHEAD = 160;
+
+    /**
+     * The suffix of the holder classes of holder constants.
+     */
+    private static final String HOLDER_SUFFIX = "_HOLDER";
+
+    @Override
+    public String render(FixtureModel model) {
+        final var fixture = new StringBuilder(estimateLength(model));
+        if (model.hasPackageName()) {
+            fixture.append("package ").append(model.getPackageName()).append(';').append(LINE_SEPARATOR)
+                    .append(LINE_SEPARATOR);
+        }
+
+        fixture.append("public class ").append(model.getFixtureClassName()).append(" {").append(LINE_SEPARATOR);
+        for (Constant constant : model.getConstants()) {
+            if (constant.getDeclaration().isMethod())
+                continue;
+            fixture.append(WHITESPACE_4).append(getModifiers(constant.getDeclaration()))
+                    .append(constant.getType()).append(' ')
+                    .append(constant.getName()).append(" = ").append(constant.getValue()).append(';').append(LINE_SEPARATOR);
+        }
+        for (Constant constant : model.getConstants()) {
+            if (constant.getDeclaration() == ConstantDeclaration.HOLDER) {
+                fixture.append(LINE_SEPARATOR)
+                        .append(WHITESPACE_4).append("private static final class ").append(constant.getName()).append(HOLDER_SUFFIX)
+                        .append(" {").append(LINE_SEPARATOR)
+                        .append(WHITESPACE_8).append("private static final ").append(constant.getType()).append(" VALUE = ")
+                        .append(constant.getValue()).append(';').append(LINE_SEPARATOR)
+                        .append(WHITESPACE_4).append('}').append(LINE_SEPARATOR);
+                appendMethod(fixture, constant.getType(), constant.getName(), "", constant.getName() + HOLDER_SUFFIX + ".VALUE");
+            } else if (constant.getDeclaration() == ConstantDeclaration.FACTORY_METHOD) {
+                appendMethod(fixture, constant.getType(), constant.getName(), "", constant.getValue());
+            }
+        }
+        for (CreationMethod method : model.getCreationMethods()) {
+            appendMethod(fixture, method.getReturnType(), method.getName(), method.getParameters(), method.getReturnValue());
+        }
+        fixture.append('}').append(LINE_SEPARATOR);
+        return fixture.toString();
+    }
+
+    private static String getModifiers(ConstantDeclaration declaration) {
+        return switch (declaration) {
+            case FINAL_FIELD -> "public static final ";
+            case PRIVATE_FINAL_FIELD -> "private static final ";
+            default -> "public static ";
+        };
+    }
+
+    private static void appendMethod(StringBuilder fixture, String returnType, String name, String parameters, String returnValue) {
+        fixture.append(LINE_SEPARATOR)
+                .append(WHITESPACE_4).append("public static ").append(returnType).append(' ')
+                .append(name).append('(').append(parameters).append(") {").append(LINE_SEPARATOR)
+                .append(WHITESPACE_8).append("return ").append(returnValue).append(';').append(LINE_SEPARATOR)
+                .append(WHITESPACE_4).append('}').append(LINE_SEPARATOR);
+    }
+
+    private static int estimateLength(FixtureModel model) {
+        var length = model.getPackageName().length() + model.getFixtureClassName().length() + 64;
+        for (Constant constant : model.getConstants()) {
+            length += constant.getType().length() + constant.getName().length() + constant.getValue().length()
+                    + switch (constant.getDeclaration()) {
+                        case FIELD, FINAL_FIELD, PRIVATE_FINAL_FIELD -> CONSTANT_OVERHEAD;
+                        case HOLDER -> constant.getType().length() + 2 * constant.getName().length() + HOLDER_CONSTANT_OVERHEAD;
+                        case FACTORY_METHOD -> CREATION_METHOD_OVERHEAD;
+                    };
+        }
+        for (CreationMethod method : model.getCreationMethods()) {
+            length += method.getReturnType().length() + method.getName().length() + method.getParameters().length()
+                    + method.getReturnValue().length() + CREATION_METHOD_OVERHEAD;
+        }
+        return length;
+    }
+}
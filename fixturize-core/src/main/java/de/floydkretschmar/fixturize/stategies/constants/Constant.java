@@ -1,16 +1,27 @@
 package de.floydkretschmar.fixturize.stategies.constants;
 
+import de.floydkretschmar.fixturize.annotations.SharingPolicy;
 import lombok.Builder;
 import lombok.Value;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+import java.util.UUID;
+
 /**
  * Contains all data used to construct a constant in a generated fixture.
  *
  * @author Floyd Kretschmar
  */
 @Value
-@Builder
+@Builder(toBuilder = true)
 public class Constant {
+    /**
+     * The suffix of the constants containing the pool of a pooled constant.
+     */
+    public static final String POOL_SUFFIX = "_POOL";
+
     /**
      * The type of the constant
      */
@@ -30,4 +41,80 @@ public class Constant {
      * The name of the original field from which the constant was generated.
      */
     String originalFieldName;
+
+    /**
+     * How the constant is declared in the generated fixture. Defaults to {@link ConstantDeclaration#FIELD}.
+     */
+    @Builder.Default
+    ConstantDeclaration declaration = ConstantDeclaration.FIELD;
+
+    /**
+     * The name of the variable that contains the index of the instance created by a bulk creation method. Null if the
+     * constant is not referenced from within a bulk creation method.
+     */
+    String indexVariable;
+
+    /**
+     * The expression creating a random value of the type of the constant from the
+     * {@link RandomValueStrategy#RANDOM_VARIABLE}. Null if no random value can be created for the type of the constant.
+     */
+    String randomValue;
+
+    /**
+     * Whether the constant is referenced from within a random creation method and therefore replaced by its random value.
+     */
+    boolean randomized;
+
+    /**
+     * How the instances created by a bulk creation method share the value of the constant. Null if the value is varied
+     * by the index of the instance or shared according to the type of the constant.
+     */
+    SharingPolicy sharingPolicy;
+
+    /**
+     * The number of values in the pool of the constant, if the constant is shared using {@link SharingPolicy#POOLED}.
+     */
+    int poolSize;
+
+    /**
+     * Returns the expression used to reference the constant from within the generated fixture. If an index variable is
+     * set, the value of constants of numeric types, {@link String}s, {@link UUID}s, {@link BigDecimal}s and
+     * {@link BigInteger}s is varied by the index, so that every instance created by a bulk creation method gets unique
+     * values. The index variable may be of type <b>int</b> or <b>long</b>. Constants of all other types are shared by all
+     * instances. If the constant has a {@link SharingPolicy}, the policy decides instead whether the constant is created
+     * anew, shared or taken from its pool by the index. If the constant is randomized and has a random value, the random
+     * value is used instead.
+     *
+     * @return the accessor method call if the constant is declared as a method, otherwise the name of the constant
+     */
+    public String getReference() {
+        if (randomized && Objects.nonNull(randomValue))
+            return randomValue;
+
+        final var reference = declaration.isMethod() ? "%s()".formatted(name) : name;
+        if (Objects.isNull(indexVariable))
+            return reference;
+
+        if (Objects.nonNull(sharingPolicy)) {
+            return switch (sharingPolicy) {
+                case NEW -> value;
+                case SHARED -> reference;
+                case POOLED -> "%s%s().get(java.lang.Math.floorMod(%s, %d))".formatted(name, POOL_SUFFIX, indexVariable, poolSize);
+            };
+        }
+
+        return switch (type) {
+            case "java.lang.String" -> "%s + \"_\" + %s".formatted(reference, indexVariable);
+            case "long", "float", "double", "java.lang.Long", "java.lang.Float", "java.lang.Double" ->
+                    "%s + %s".formatted(reference, indexVariable);
+            case "int", "java.lang.Integer" -> "(int) (%s + %s)".formatted(reference, indexVariable);
+            case "short", "java.lang.Short" -> "(short) (%s + %s)".formatted(reference, indexVariable);
+            case "byte", "java.lang.Byte" -> "(byte) (%s + %s)".formatted(reference, indexVariable);
+            case "java.util.UUID" -> "new java.util.UUID(%1$s.getMostSignificantBits(), %1$s.getLeastSignificantBits() + %2$s)"
+                    .formatted(reference, indexVariable);
+            case "java.math.BigDecimal" -> "%s.add(java.math.BigDecimal.valueOf(%s))".formatted(reference, indexVariable);
+            case "java.math.BigInteger" -> "%s.add(java.math.BigInteger.valueOf(%s))".formatted(reference, indexVariable);
+            default -> reference;
+        };
+    }
 }
@@ -0,0 +1,46 @@
+package de.floydkretschmar.fixturize.stategies.constants;
+
+/**
+ * Defines how a {@link Constant} is declared in a generated fixture and therefore when its value is created.
+ *
+ * @author Floyd Kretschmar
+ */
+public enum ConstantDeclaration {
+    /**
+     * A <b>public static</b> field that is initialized together with the fixture class.
+     */
+    FIELD,
+
+    /**
+     * A <b>public static final</b> field that is initialized together with the fixture class. Only used for immutable
+     * types, so that the value can neither be reassigned nor modified by a test.
+     */
+    FINAL_FIELD,
+
+    /**
+     * A <b>private static final</b> field that is initialized together with the fixture class. Only used for values
+     * that support other members of the fixture, e.g. the cached constants of an enum.
+     */
+    PRIVATE_FINAL_FIELD,
+
+    /**
+     * An accessor method returning the value of a holder class, so that the value is only created once the accessor is
+     * called for the first time.
+     */
+    HOLDER,
+
+    /**
+     * An accessor method that creates a new value on every call. Used for mutable types, so that modifications made by
+     * one test are never visible to another.
+     */
+    FACTORY_METHOD;
+
+    /**
+     * Returns whether a constant with this declaration is accessed through a method instead of a field.
+     *
+     * @return true, if the constant is accessed through a method, otherwise false
+     */
+    public boolean isMethod() {
+        return this == HOLDER || this == FACTORY_METHOD;
+    }
+}
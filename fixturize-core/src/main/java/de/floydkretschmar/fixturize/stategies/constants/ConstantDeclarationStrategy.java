@@ -0,0 +1,149 @@
+package de.floydkretschmar.fixturize.stategies.constants;
+
+import lombok.RequiredArgsConstructor;
+
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * The strategy used to decide how a generated constant is declared in its fixture:
+ * <ul>
+ *     <li>when final constants are enabled, constants of known mutable types, e.g. arrays, {@link Date} or containers
+ *     that are not created via <b>List.of</b>, <b>Set.of</b> or <b>Map.of</b> or whose element types are not
+ *     immutable themselves, are declared as {@link ConstantDeclaration#FACTORY_METHOD}</li>
+ *     <li>when lazy constants are enabled, constants of all types except primitives, their wrappers and {@link String}
+ *     are declared as {@link ConstantDeclaration#HOLDER}</li>
+ *     <li>when final constants are enabled, constants of immutable types, e.g. primitives, {@link String},
+ *     {@link UUID}, {@link BigDecimal}, <b>java.time</b> types, enums or immutable containers, are declared as
+ *     {@link ConstantDeclaration#FINAL_FIELD}</li>
+ *     <li>all other constants are declared as {@link ConstantDeclaration#FIELD}</li>
+ * </ul>
+ *
+ * @author Floyd Kretschmar
+ */
+@RequiredArgsConstructor
+public class ConstantDeclarationStrategy {
+    /**
+     * The types of constants that are cheap to create and therefore never initialized lazily
+     */
+    private static final Set<String> EAGER_TYPES = Set.of(
+            "boolean", "byte", "char", "double", "float", "int", "long", "short",
+            Boolean.class.getName(), Byte.class.getName(), Character.class.getName(), Double.class.getName(),
+            Float.class.getName(), Integer.class.getName(), Long.class.getName(), Short.class.getName(),
+            String.class.getName());
+
+    /**
+     * The immutable types of constants in addition to the eager types, enums and the types of the java.time package
+     */
+    private static final Set<String> IMMUTABLE_TYPES = Set.of(
+            UUID.class.getName(), BigDecimal.class.getName(), BigInteger.class.getName());
+
+    /**
+     * The container types whose constants are immutable if created by one of the {@link #IMMUTABLE_CONTAINER_FACTORIES}
+     * with immutable element types and mutable otherwise
+     */
+    private static final Set<String> CONTAINER_TYPES = Set.of(
+            Collection.class.getName(), List.class.getName(), Set.class.getName(), Map.class.getName(),
+            Queue.class.getName(), Deque.class.getName());
+
+    /**
+     * The factory methods creating immutable containers
+     */
+    private static final List<String> IMMUTABLE_CONTAINER_FACTORIES = List.of(
+            "java.util.List.of(", "java.util.Set.of(", "java.util.Map.of(");
+
+    /**
+     * The mutable types of constants in addition to arrays and containers
+     */
+    private static final Set<String> MUTABLE_TYPES = Set.of(
+            Date.class.getName(), Calendar.class.getName(), StringBuilder.class.getName(), StringBuffer.class.getName(),
+            ArrayList.class.getName(), LinkedList.class.getName(), HashMap.class.getName(),
+            LinkedHashMap.class.getName(), TreeMap.class.getName(), HashSet.class.getName(),
+            LinkedHashSet.class.getName(), TreeSet.class.getName(), PriorityQueue.class.getName(),
+            ArrayDeque.class.getName());
+
+    /**
+     * Whether constants of types that are expensive to create are initialized lazily
+     */
+    private final boolean lazyConstantsEnabled;
+
+    /**
+     * Whether constants of immutable types are declared final and constants of mutable types are created on every access
+     */
+    private final boolean finalConstantsEnabled;
+
+    /**
+     * Returns the {@link ConstantDeclaration} of a constant with the provided type and value.
+     *
+     * @param type  - of the constant
+     * @param value - of the constant
+     * @return the declaration of the constant
+     */
+    public ConstantDeclaration getDeclaration(TypeMirror type, String value) {
+        final var typeName = getErasedTypeName(type);
+        if (finalConstantsEnabled && isMutable(type, typeName, value))
+            return ConstantDeclaration.FACTORY_METHOD;
+        if (lazyConstantsEnabled && !EAGER_TYPES.contains(typeName))
+            return ConstantDeclaration.HOLDER;
+        if (finalConstantsEnabled && isImmutable(type, typeName, value))
+            return ConstantDeclaration.FINAL_FIELD;
+        return ConstantDeclaration.FIELD;
+    }
+
+    private static boolean isMutable(TypeMirror type, String typeName, String value) {
+        if (typeName.endsWith("[]") || MUTABLE_TYPES.contains(typeName))
+            return true;
+
+        return CONTAINER_TYPES.contains(typeName) && !isImmutableContainer(type, value);
+    }
+
+    private static boolean isImmutable(TypeMirror type, String typeName, String value) {
+        if (EAGER_TYPES.contains(typeName) || IMMUTABLE_TYPES.contains(typeName) || typeName.startsWith("java.time."))
+            return true;
+
+        if (type instanceof DeclaredType declaredType && declaredType.asElement().getKind() == ElementKind.ENUM)
+            return true;
+
+        return CONTAINER_TYPES.contains(typeName) && isImmutableContainer(type, value);
+    }
+
+    private static boolean isImmutableContainer(TypeMirror type, String value) {
+        if (Objects.isNull(value) || IMMUTABLE_CONTAINER_FACTORIES.stream().noneMatch(value::startsWith))
+            return false;
+
+        // the values of nested containers are unknown, so only element types that are immutable regardless of their
+        // value make the container immutable
+        return type instanceof DeclaredType declaredType && !declaredType.getTypeArguments().isEmpty()
+                && declaredType.getTypeArguments().stream()
+                .allMatch(elementType -> isImmutable(elementType, getErasedTypeName(elementType), null));
+    }
+
+    private static String getErasedTypeName(TypeMirror type) {
+        final var typeName = type.toString();
+        final var genericStart = typeName.indexOf('<');
+        return genericStart < 0 ? typeName : typeName.substring(0, genericStart);
+    }
+}
@@ -4,6 +4,8 @@ import de.floydkretschmar.fixturize.ElementUtils;
 import de.floydkretschmar.fixturize.annotations.Fixture;
 import de.floydkretschmar.fixturize.annotations.FixtureConstant;
 import de.floydkretschmar.fixturize.annotations.FixtureValueProvider;
+import de.floydkretschmar.fixturize.exceptions.FixtureCreationException;
+import de.floydkretschmar.fixturize.stategies.metadata.TypeMemberIndex;
 import de.floydkretschmar.fixturize.stategies.metadata.TypeMetadata;
 import de.floydkretschmar.fixturize.stategies.metadata.VariableElementMetadata;
 import de.floydkretschmar.fixturize.stategies.constants.naming.NamingStrategy;
@@ -12,9 +14,12 @@ import de.floydkretschmar.fixturize.stategies.value.providers.ValueProvider;
 import lombok.RequiredArgsConstructor;
 
 import javax.lang.model.element.TypeElement;
-import javax.lang.model.util.ElementFilter;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -44,6 +49,14 @@ import java.util.stream.Stream;
  * <p>
  * When <b>field</b> is annotated with one or more {@link FixtureConstant} annotations, then one constant per annotation
  * is generated.
+ * <p>
+ * Whether a constant is declared as a field or as an accessor method is decided by the
+ * {@link ConstantDeclarationStrategy}.
+ * <p>
+ * When random values are enabled, each constant also carries the expression used by random creation methods instead of
+ * its value, as created by the {@link RandomValueStrategy}. In this case the constants caching the values of all used
+ * enums and the seed of the fixture are generated as well. Constants of types with a sharing policy carry that policy,
+ * as decided by the {@link ConstantSharingStrategy}, and a pool constant is generated for every pooled constant.
  *
  * @author Floyd Kretschmar
  */
@@ -59,6 +72,26 @@ public class ConstantGenerationStrategy {
      */
     private final ValueProviderService valueProviderService;
 
+    /**
+     * The index used to look up the fields of the fixture class
+     */
+    private final TypeMemberIndex memberIndex;
+
+    /**
+     * The strategy used to decide how a generated constant is declared
+     */
+    private final ConstantDeclarationStrategy declarationStrategy;
+
+    /**
+     * The strategy used to create the random values of generated constants
+     */
+    private final RandomValueStrategy randomValueStrategy;
+
+    /**
+     * The strategy used to decide how bulk creation methods share the values of generated constants
+     */
+    private final ConstantSharingStrategy sharingStrategy;
+
     /**
      * Returns a {@link ConstantMap} containing all {@link Constant}s that have been generated
      * for the provided element according to all specified strategies.
@@ -67,8 +100,16 @@ public class ConstantGenerationStrategy {
      * @return the {@link ConstantMap} containing all constant definitions
      */
     public ConstantMap generateConstants(TypeElement element, TypeMetadata metadata) {
-        final var fields = metadata.createVariableElementMetadata(ElementFilter.fieldsIn(element.getEnclosedElements()));
-        final var linkedHashMap = createConstantsForFields(fields.stream())
+        final var fields = metadata.createVariableElementMetadata(memberIndex.getFields(element));
+        final var fieldConstants = createConstantsForFields(fields.stream()).toList();
+        final var poolConstants = fieldConstants.stream()
+                .flatMap(entry -> sharingStrategy.createPoolConstant(entry.getValue()).stream())
+                .map(constant -> Map.entry(constant.getName(), constant))
+                .toList();
+        final var randomConstants = createRandomConstants(fields, metadata).toList();
+        verifyUniqueNames(fieldConstants, Stream.concat(poolConstants.stream(), randomConstants.stream()).toList(), metadata);
+        final var linkedHashMap = Stream.of(fieldConstants.stream(), poolConstants.stream(), randomConstants.stream())
+                .flatMap(Function.identity())
                 .collect(ElementUtils.toLinkedMap(
                         Map.Entry::getKey,
                         Map.Entry::getValue));
@@ -80,25 +121,51 @@ public class ConstantGenerationStrategy {
             final var constantsAnnotations = field.getAnnotationsByType(FixtureConstant.class);
 
             if (constantsAnnotations.length == 0) {
-                final var constantDefinition = createConstant(field);
+                final var constantDefinition = sharingStrategy.applySharing(createConstant(field));
                 final var key = field.getName();
                 return Stream.of(Map.entry(key, constantDefinition));
             }
 
             return Arrays.stream(constantsAnnotations)
                     .map(constantAnnotation -> {
-                        final var constantDefinition = createConstant(constantAnnotation, field);
+                        final var constantDefinition = sharingStrategy.applySharing(createConstant(constantAnnotation, field));
                         return Map.entry(constantDefinition.getName(), constantDefinition);
                     });
         });
     }
 
+    private static void verifyUniqueNames(List<Map.Entry<String, Constant>> fieldConstants, List<Map.Entry<String, Constant>> generatedConstants, TypeMetadata metadata) {
+        final var names = fieldConstants.stream()
+                .map(entry -> entry.getValue().getName())
+                .collect(Collectors.toCollection(HashSet::new));
+        generatedConstants.stream()
+                .map(Map.Entry::getKey)
+                .filter(name -> !names.add(name))
+                .findFirst()
+                .ifPresent(name -> {
+                    throw new FixtureCreationException("The constant %s generated for class %s clashes with another constant of its fixture. Rename the field or the constant defined by FixtureConstant."
+                            .formatted(name, metadata.getQualifiedClassName()));
+                });
+    }
+
+    private Stream<Map.Entry<String, Constant>> createRandomConstants(List<VariableElementMetadata> fields, TypeMetadata metadata) {
+        final var valuesConstants = fields.stream()
+                .flatMap(field -> randomValueStrategy.createValuesConstants(field.getTypedElement().asType()))
+                .distinct();
+        return Stream.concat(valuesConstants, randomValueStrategy.createSeedConstant(metadata.getQualifiedFixtureClassName()).stream())
+                .map(constant -> Map.entry(constant.getName(), constant));
+    }
+
     private Constant createConstant(FixtureConstant constantAnnotation, VariableElementMetadata field) {
+        final var type = field.getTypedElement().asType();
+        final var value = getValue(constantAnnotation, field);
         return Constant.builder()
-                .type(field.getTypedElement().asType().toString())
+                .type(type.toString())
                 .name(constantAnnotation.name())
-                .value(getValue(constantAnnotation, field))
+                .value(value)
                 .originalFieldName(field.getName())
+                .declaration(declarationStrategy.getDeclaration(type, value))
+                .randomValue(randomValueStrategy.getRandomValue(type))
                 .build();
     }
 
@@ -112,11 +179,15 @@ public class ConstantGenerationStrategy {
 
     private Constant createConstant(VariableElementMetadata field) {
         final var originalFieldName = field.getName();
+        final var type = field.getTypedElement().asType();
+        final var value = this.valueProviderService.getValueFor(field.getTypedElement());
         return Constant.builder()
-                .type(field.getTypedElement().asType().toString())
+                .type(type.toString())
                 .name(namingStrategy.createName(originalFieldName))
-                .value(this.valueProviderService.getValueFor(field.getTypedElement()))
+                .value(value)
                 .originalFieldName(originalFieldName)
+                .declaration(declarationStrategy.getDeclaration(type, value))
+                .randomValue(randomValueStrategy.getRandomValue(type))
                 .build();
     }
 }
@@ -18,4 +18,21 @@ public interface ConstantMap extends Map<String, Constant> {
      * @return the collection of {@link Constant}s
      */
     Map<String, Optional<Constant>> getMatchingConstants(Collection<String> keys);
+
+    /**
+     * Returns a copy of this map in which all {@link Constant}s are referenced with the provided index variable, so that
+     * their values vary between the instances created by a bulk creation method.
+     *
+     * @param indexVariable - the name of the variable containing the index of the created instance
+     * @return the copy of the map
+     */
+    ConstantMap withIndexVariable(String indexVariable);
+
+    /**
+     * Returns a copy of this map in which all {@link Constant}s are referenced with their random value, so that their
+     * values are drawn from the random generator of a random creation method.
+     *
+     * @return the copy of the map
+     */
+    ConstantMap withRandomValues();
 }
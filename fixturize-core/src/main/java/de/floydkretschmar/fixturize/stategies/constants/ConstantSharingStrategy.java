@@ -0,0 +1,163 @@
+package de.floydkretschmar.fixturize.stategies.constants;
+
+import de.floydkretschmar.fixturize.annotations.FixtureSharing;
+import de.floydkretschmar.fixturize.annotations.SharingPolicy;
+import de.floydkretschmar.fixturize.exceptions.FixtureCreationException;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * The strategy used to decide how the instances created by bulk and stream creation methods share the values of
+ * constants, as defined by the {@link FixtureSharing} annotations of a fixture. Sharing policies are only applied if
+ * bulk or stream creation methods are enabled.
+ * <p>
+ * For constants shared using {@link SharingPolicy#POOLED} a pool constant is generated, which is declared as
+ * {@link ConstantDeclaration#HOLDER}, so that the pool is only created once a bulk or stream creation method is called.
+ * If the value of the constant references the default creation method of another fixture, the pool is created by the
+ * bulk or stream creation method of that fixture, so that the pooled values are unique. Values of types that bulk
+ * creation methods vary by index, e.g. strings and numbers, are varied by their position in the pool instead. Pooling
+ * any other value would only create identical copies and is rejected.
+ *
+ * @author Floyd Kretschmar
+ */
+public class ConstantSharingStrategy {
+    /**
+     * Matches values that reference the default creation method of another fixture.
+     */
+    private static final Pattern FIXTURE_REFERENCE_PATTERN = Pattern.compile("^[\\w.$]+Fixture\\.create\\w+\\(\\)$");
+
+    /**
+     * The name of the variable containing the position of a value in its pool.
+     */
+    private static final String POOL_INDEX_VARIABLE = "poolIndex";
+
+    /**
+     * The wrapper types in which pools store the values of primitive constants.
+     */
+    private static final Map<String, String> WRAPPER_TYPES = Map.of(
+            "boolean", "java.lang.Boolean",
+            "byte", "java.lang.Byte",
+            "char", "java.lang.Character",
+            "short", "java.lang.Short",
+            "int", "java.lang.Integer",
+            "long", "java.lang.Long",
+            "float", "java.lang.Float",
+            "double", "java.lang.Double");
+
+    /**
+     * The sharing annotations by their target type
+     */
+    private final Map<String, FixtureSharing> sharingsByTargetType;
+
+    /**
+     * Whether bulk creation methods returning lists are generated
+     */
+    private final boolean listEnabled;
+
+    /**
+     * Whether creation methods returning streams are generated
+     */
+    private final boolean streamEnabled;
+
+    /**
+     * Constructs a {@link ConstantSharingStrategy} using the sharing annotations of a fixture.
+     *
+     * @param sharings      - with which the fixture has been annotated
+     * @param listEnabled   - whether bulk creation methods returning lists are generated
+     * @param streamEnabled - whether creation methods returning streams are generated
+     * @throws FixtureCreationException if a target type is defined more than once or a pooled sharing policy defines a
+     *                                  cardinality below 1
+     */
+    public ConstantSharingStrategy(FixtureSharing[] sharings, boolean listEnabled, boolean streamEnabled) {
+        this.listEnabled = listEnabled;
+        this.streamEnabled = streamEnabled;
+        for (FixtureSharing sharing : sharings)
+            validate(sharing);
+
+        this.sharingsByTargetType = Arrays.stream(sharings)
+                .collect(Collectors.toMap(FixtureSharing::targetType, Function.identity(), (first, second) -> {
+                    throw new FixtureCreationException("The sharing policy for target type %s has been defined more than once."
+                            .formatted(first.targetType()));
+                }));
+    }
+
+    /**
+     * Returns a copy of the provided constant that carries the sharing policy defined for its type.
+     *
+     * @param constant - to which the sharing policy is applied
+     * @return the constant with its sharing policy or the provided constant, if no sharing policy is defined for its type
+     */
+    public Constant applySharing(Constant constant) {
+        return getSharing(constant)
+                .map(sharing -> constant.toBuilder().sharingPolicy(sharing.policy()).poolSize(sharing.cardinality()).build())
+                .orElse(constant);
+    }
+
+    /**
+     * Returns the constant containing the pool of the provided constant.
+     *
+     * @param constant - for which the pool is created
+     * @return the {@link Optional} containing the pool constant or an empty {@link Optional}, if the provided constant is
+     * not pooled
+     * @throws FixtureCreationException if the value of the constant neither references a fixture nor can be varied by
+     *                                  its position in the pool
+     */
+    public Optional<Constant> createPoolConstant(Constant constant) {
+        if (constant.getSharingPolicy() != SharingPolicy.POOLED)
+            return Optional.empty();
+
+        return Optional.of(Constant.builder()
+                .type("java.util.List<%s>".formatted(getElementType(constant)))
+                .name(constant.getName() + Constant.POOL_SUFFIX)
+                .value(createPool(constant))
+                .declaration(ConstantDeclaration.HOLDER)
+                .build());
+    }
+
+    private String createPool(Constant constant) {
+        final var value = constant.getValue();
+        final var poolSize = constant.getPoolSize();
+        if (FIXTURE_REFERENCE_PATTERN.matcher(value).matches()) {
+            final var creationMethod = value.substring(0, value.length() - 2);
+            if (listEnabled)
+                return "%sList(%d)".formatted(creationMethod, poolSize);
+            return "%sStream(%d, 0).toList()".formatted(creationMethod, poolSize);
+        }
+
+        final var unsharedConstant = constant.toBuilder().sharingPolicy(null).build();
+        final var pooledValue = unsharedConstant.toBuilder().indexVariable(POOL_INDEX_VARIABLE).build().getReference();
+        if (pooledValue.equals(unsharedConstant.getReference()))
+            throw new FixtureCreationException(("The pooled sharing policy for target type %s requires values that reference a fixture or can be varied by index. " +
+                    "Annotate the type with Fixture and enable fixturize.fixtureReferences, or use the sharing policy NEW or SHARED.").formatted(constant.getType()));
+
+        return "java.util.stream.IntStream.range(0, %d).<%s>mapToObj(%s -> %s).toList()".formatted(poolSize, getElementType(constant), POOL_INDEX_VARIABLE, pooledValue);
+    }
+
+    private static String getElementType(Constant constant) {
+        return WRAPPER_TYPES.getOrDefault(constant.getType(), constant.getType());
+    }
+
+    private Optional<FixtureSharing> getSharing(Constant constant) {
+        if (!listEnabled && !streamEnabled)
+            return Optional.empty();
+
+        final var type = constant.getType();
+        final var sharing = sharingsByTargetType.get(type);
+        if (Objects.nonNull(sharing) || !type.contains("<"))
+            return Optional.ofNullable(sharing);
+
+        return Optional.ofNullable(sharingsByTargetType.get(type.substring(0, type.indexOf('<'))));
+    }
+
+    private static void validate(FixtureSharing sharing) {
+        if (sharing.policy() == SharingPolicy.POOLED && sharing.cardinality() < 1)
+            throw new FixtureCreationException("The cardinality of the pooled sharing policy for target type %s has to be at least 1."
+                    .formatted(sharing.targetType()));
+    }
+}
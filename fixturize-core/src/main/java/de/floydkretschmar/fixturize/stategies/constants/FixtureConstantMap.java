@@ -43,4 +43,29 @@ public class FixtureConstantMap extends LinkedHashMap<String, Constant> implemen
                 Map.Entry::getKey,
                 Map.Entry::getValue));
     }
+
+    /**
+     * Returns a copy of this map in which all {@link Constant}s are referenced with the provided index variable.
+     *
+     * @param indexVariable - the name of the variable containing the index of the created instance
+     * @return the copy of the map
+     */
+    @Override
+    public ConstantMap withIndexVariable(String indexVariable) {
+        return new FixtureConstantMap(this.entrySet().stream().collect(ElementUtils.toLinkedMap(
+                Map.Entry::getKey,
+                entry -> entry.getValue().toBuilder().indexVariable(indexVariable).build())));
+    }
+
+    /**
+     * Returns a copy of this map in which all {@link Constant}s are referenced with their random value.
+     *
+     * @return the copy of the map
+     */
+    @Override
+    public ConstantMap withRandomValues() {
+        return new FixtureConstantMap(this.entrySet().stream().collect(ElementUtils.toLinkedMap(
+                Map.Entry::getKey,
+                entry -> entry.getValue().toBuilder().randomized(true).build())));
+    }
 }
@@ -0,0 +1,227 @@
+package de.floydkretschmar.fixturize.stategies.constants;
+
+import com.google.common.base.CaseFormat;
+import lombok.RequiredArgsConstructor;
+
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The strategy used to create the expressions that random creation methods use instead of the values of constants. All
+ * expressions draw their values from a {@link java.util.SplittableRandom} stored in the {@link #RANDOM_VARIABLE}, so
+ * that the created values only depend on the seed of the random generator. Random values are created for:
+ * <ul>
+ *     <li>primitives, their wrappers, {@link String}, {@link java.util.UUID}, {@link java.math.BigDecimal},
+ *     {@link java.math.BigInteger}, {@link java.util.Date} and the <b>java.time</b> types supported by the default
+ *     value providers</li>
+ *     <li>enums, by picking one of the enum constants from a cached <b>values()</b> array</li>
+ *     <li>arrays, lists, sets, queues and maps of a random length whose elements are random values themselves</li>
+ * </ul>
+ * Constants of all other types keep their value in random creation methods.
+ *
+ * @author Floyd Kretschmar
+ */
+@RequiredArgsConstructor
+public class RandomValueStrategy {
+    /**
+     * The name of the variable containing the random generator.
+     */
+    public static final String RANDOM_VARIABLE = "random";
+
+    /**
+     * The name of the constant containing the seed for the random generators of a fixture.
+     */
+    public static final String RANDOM_SEED = "RANDOM_SEED";
+
+    /**
+     * The exclusive upper bound of the length of random arrays and containers.
+     */
+    static final int RANDOM_LENGTH_BOUND = 8;
+
+    /**
+     * The suffix of the constants caching the values of an enum. The constants are named after the qualified name of
+     * the enum, so that enums with the same simple name in different packages get different constants.
+     */
+    private static final String VALUES_SUFFIX = "_VALUES";
+
+    /**
+     * Whether random values are created at all
+     */
+    private final boolean enabled;
+
+    /**
+     * Returns the expression creating a random value of the provided type.
+     *
+     * @param type - for which the random value is created
+     * @return the expression creating the random value or null, if random values are disabled or not supported for the
+     * provided type
+     */
+    public String getRandomValue(TypeMirror type) {
+        if (!enabled)
+            return null;
+
+        return createRandomValue(type);
+    }
+
+    /**
+     * Returns the constant containing the seed for the random generators of the provided fixture. The seed is derived
+     * from the name of the fixture, so that it is stable across builds but differs between fixtures.
+     *
+     * @param qualifiedFixtureClassName - the fully qualified name of the fixture
+     * @return the {@link Optional} containing the seed constant or an empty {@link Optional}, if random values are
+     * disabled
+     */
+    public Optional<Constant> createSeedConstant(String qualifiedFixtureClassName) {
+        if (!enabled)
+            return Optional.empty();
+
+        return Optional.of(Constant.builder()
+                .type("long")
+                .name(RANDOM_SEED)
+                .value("%dL".formatted(qualifiedFixtureClassName.hashCode()))
+                .declaration(ConstantDeclaration.FINAL_FIELD)
+                .build());
+    }
+
+    /**
+     * Returns the constants caching the values of all enums that are used by the random value of the provided type.
+     *
+     * @param type - for which the random value is created
+     * @return the {@link Stream} of {@link Constant}s declared as {@link ConstantDeclaration#PRIVATE_FINAL_FIELD}
+     */
+    public Stream<Constant> createValuesConstants(TypeMirror type) {
+        if (!enabled)
+            return Stream.empty();
+
+        return switch (type.getKind()) {
+            case ARRAY -> createValuesConstants(((ArrayType) type).getComponentType());
+            case DECLARED -> {
+                final var declaredType = (DeclaredType) type;
+                final var element = (TypeElement) declaredType.asElement();
+                if (element.getKind() == ElementKind.ENUM) {
+                    final var enumType = element.getQualifiedName().toString();
+                    yield Stream.of(Constant.builder()
+                            .type("%s[]".formatted(enumType))
+                            .name(getValuesConstantName(element))
+                            .value("%s.values()".formatted(enumType))
+                            .declaration(ConstantDeclaration.PRIVATE_FINAL_FIELD)
+                            .build());
+                }
+                yield declaredType.getTypeArguments().stream().flatMap(this::createValuesConstants);
+            }
+            default -> Stream.empty();
+        };
+    }
+
+    private String createRandomValue(TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN, BYTE, CHAR, SHORT, INT, LONG, FLOAT, DOUBLE -> createRandomValue(type.toString());
+            case ARRAY -> createRandomArray((ArrayType) type);
+            case DECLARED -> createRandomValue((DeclaredType) type);
+            default -> null;
+        };
+    }
+
+    private String createRandomValue(DeclaredType type) {
+        final var element = (TypeElement) type.asElement();
+        if (element.getKind() == ElementKind.ENUM)
+            return "%1$s[%2$s.nextInt(%1$s.length)]".formatted(getValuesConstantName(element), RANDOM_VARIABLE);
+
+        final var qualifiedName = element.getQualifiedName().toString();
+        if (type.getTypeArguments().isEmpty())
+            return createRandomValue(qualifiedName);
+
+        final var elementValues = type.getTypeArguments().stream().map(this::createRandomValue).toList();
+        if (elementValues.stream().anyMatch(Objects::isNull))
+            return null;
+
+        return switch (qualifiedName) {
+            case "java.util.List", "java.util.Collection" -> "%s.toList()".formatted(generate(elementValues.get(0)));
+            case "java.util.Set" -> "%s.collect(java.util.stream.Collectors.toSet())".formatted(generate(elementValues.get(0)));
+            case "java.util.Queue" -> "%s.collect(java.util.stream.Collectors.toCollection(java.util.ArrayDeque::new))"
+                    .formatted(generate(elementValues.get(0)));
+            case "java.util.Map" -> ("%s.collect(java.util.stream.Collectors.toMap(java.util.Map.Entry::getKey, " +
+                    "java.util.Map.Entry::getValue, (first, second) -> first))")
+                    .formatted(generate("java.util.Map.entry(%s, %s)".formatted(elementValues.get(0), elementValues.get(1))));
+            default -> null;
+        };
+    }
+
+    private String createRandomArray(ArrayType type) {
+        final var length = "%s.nextInt(%d)".formatted(RANDOM_VARIABLE, RANDOM_LENGTH_BOUND);
+        final var componentType = type.getComponentType();
+        return switch (componentType.getKind()) {
+            case INT -> "%s.ints(%s).toArray()".formatted(RANDOM_VARIABLE, length);
+            case LONG -> "%s.longs(%s).toArray()".formatted(RANDOM_VARIABLE, length);
+            case DOUBLE -> "%s.doubles(%s).toArray()".formatted(RANDOM_VARIABLE, length);
+            case ARRAY, DECLARED -> {
+                final var elementValue = createRandomValue(componentType);
+                yield Objects.isNull(elementValue) ? createEmptyArray(type, length)
+                        : "%s.toArray(%s[]::new)".formatted(generate(elementValue), erase(componentType.toString()));
+            }
+            default -> createEmptyArray(type, length);
+        };
+    }
+
+    private static String createEmptyArray(ArrayType type, String length) {
+        return "new %s".formatted(erase(type.toString()).replaceFirst("\\[]", "[%s]".formatted(length)));
+    }
+
+    private static String generate(String elementValue) {
+        return "java.util.stream.Stream.generate(() -> %s).limit(%s.nextInt(%d))"
+                .formatted(elementValue, RANDOM_VARIABLE, RANDOM_LENGTH_BOUND);
+    }
+
+    private static String createRandomValue(String type) {
+        return switch (type) {
+            case "boolean", "java.lang.Boolean" -> "%s.nextBoolean()".formatted(RANDOM_VARIABLE);
+            case "byte", "java.lang.Byte" -> "(byte) %s.nextInt()".formatted(RANDOM_VARIABLE);
+            case "char", "java.lang.Character" -> "(char) ('a' + %s.nextInt(26))".formatted(RANDOM_VARIABLE);
+            case "short", "java.lang.Short" -> "(short) %s.nextInt()".formatted(RANDOM_VARIABLE);
+            case "int", "java.lang.Integer" -> "%s.nextInt()".formatted(RANDOM_VARIABLE);
+            case "long", "java.lang.Long" -> "%s.nextLong()".formatted(RANDOM_VARIABLE);
+            case "float", "java.lang.Float" -> "%s.nextFloat()".formatted(RANDOM_VARIABLE);
+            case "double", "java.lang.Double" -> "%s.nextDouble()".formatted(RANDOM_VARIABLE);
+            case "java.lang.String" -> "java.lang.Long.toHexString(%s.nextLong())".formatted(RANDOM_VARIABLE);
+            case "java.util.UUID" -> "new java.util.UUID(%1$s.nextLong(), %1$s.nextLong())".formatted(RANDOM_VARIABLE);
+            case "java.math.BigDecimal" -> "java.math.BigDecimal.valueOf(%s.nextLong(), 2)".formatted(RANDOM_VARIABLE);
+            case "java.math.BigInteger" -> "java.math.BigInteger.valueOf(%s.nextLong())".formatted(RANDOM_VARIABLE);
+            case "java.time.Duration" -> "java.time.Duration.ofSeconds(%s.nextLong(0L, 86400L))".formatted(RANDOM_VARIABLE);
+            case "java.time.Instant" -> "java.time.Instant.ofEpochSecond(%s.nextLong(0L, 4102444800L))".formatted(RANDOM_VARIABLE);
+            case "java.time.LocalDate" -> "java.time.LocalDate.ofEpochDay(%s.nextLong(0L, 47482L))".formatted(RANDOM_VARIABLE);
+            case "java.time.LocalDateTime" ->
+                    "java.time.LocalDateTime.ofEpochSecond(%s.nextLong(0L, 4102444800L), 0, java.time.ZoneOffset.UTC)".formatted(RANDOM_VARIABLE);
+            case "java.time.LocalTime" -> "java.time.LocalTime.ofSecondOfDay(%s.nextLong(86400L))".formatted(RANDOM_VARIABLE);
+            case "java.util.Date" -> "new java.util.Date(%s.nextLong(0L, 4102444800000L))".formatted(RANDOM_VARIABLE);
+            default -> null;
+        };
+    }
+
+    private static String getValuesConstantName(TypeElement enumElement) {
+        return Arrays.stream(enumElement.getQualifiedName().toString().split("\\."))
+                .map(part -> CaseFormat.UPPER_CAMEL.to(CaseFormat.UPPER_UNDERSCORE, part))
+                .collect(Collectors.joining("_", "", VALUES_SUFFIX));
+    }
+
+    private static String erase(String type) {
+        final var erasedType = new StringBuilder(type.length());
+        var depth = 0;
+        for (char character : type.toCharArray()) {
+            if (character == '<')
+                depth++;
+            else if (character == '>')
+                depth--;
+            else if (depth == 0)
+                erasedType.append(character);
+        }
+        return erasedType.toString();
+    }
+}
@@ -73,7 +73,7 @@ public class BuilderCreationMethodStrategy implements CreationMethodGenerationSt
         final var valueToConstant = constantMap.getMatchingConstants(valueToSetterMethod.keySet().stream().toList());
         final var setterAndValue = valueToConstant.entrySet().stream().map(valueAndOptionalConstant -> {
             final var value = valueAndOptionalConstant.getValue()
-                    .map(Constant::getName)
+                    .map(Constant::getReference)
                     .orElse(valueProviderService.resolveValuesForDefaultPlaceholders(valueAndOptionalConstant.getKey()));
             return Map.entry(valueToSetterMethod.get(valueAndOptionalConstant.getKey()), value);
         }).collect(ElementUtils.toLinkedMap(Map.Entry::getKey, Map.Entry::getValue));
@@ -0,0 +1,105 @@
+package de.floydkretschmar.fixturize.stategies.creation;
+
+import de.floydkretschmar.fixturize.stategies.constants.ConstantMap;
+import de.floydkretschmar.fixturize.stategies.metadata.TypeMetadata;
+import lombok.RequiredArgsConstructor;
+
+import javax.lang.model.element.TypeElement;
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * The strategy that generates bulk creation methods for each creation method of a delegate strategy. A list creation
+ * method has the following format:
+ * <br><br>
+ * public static java.util.List&lt;<b>returnType</b>&gt; <b>methodName</b>List(int count) {<br>
+ * return java.util.stream.IntStream.range(0, count).&lt;<b>returnType</b>&gt;mapToObj(index -&gt; <b>returnValue</b>)
+ * .collect(java.util.stream.Collectors.toCollection(() -&gt; new java.util.ArrayList&lt;&gt;(count)));<br>
+ * }
+ * <br><br>
+ * A stream creation method has the following format:
+ * <br><br>
+ * public static java.util.stream.Stream&lt;<b>returnType</b>&gt; <b>methodName</b>Stream(long count, long seed) {<br>
+ * return java.util.stream.LongStream.range(java.lang.Math.multiplyExact(seed, count),
+ * java.lang.Math.addExact(java.lang.Math.multiplyExact(seed, count), count))
+ * .&lt;<b>returnType</b>&gt;mapToObj(index -&gt; <b>returnValue</b>);<br>
+ * }
+ * <br><br>
+ * The delegate strategy is called with a copy of the constants that references them with the index of the created
+ * instance, so that identifiers, strings and numbers are unique per instance. All other constants are shared by the
+ * created instances. The instances of a stream are created lazily and only depend on the seed and their position, so
+ * that the stream can be split by position ranges and processed in parallel with the same result. The index of an
+ * instance is its position added to <b>seed * count</b>, which is computed once per stream. Consecutive indexes keep
+ * the instances of a stream unique even for values narrowed to int, short or byte (as far as the type can hold them),
+ * keep them non-negative for non-negative seeds and streams of the same count but different seeds do not overlap.
+ *
+ * @author Floyd Kretschmar
+ */
+@RequiredArgsConstructor
+public class BulkCreationMethodStrategy implements CreationMethodGenerationStrategy {
+    /**
+     * The name of the variable containing the index of the created instance.
+     */
+    public static final String INDEX_VARIABLE = "index";
+
+    /**
+     * The expression computing the index of the first instance of a stream from its seed and count.
+     */
+    private static final String STREAM_FIRST_INDEX = "java.lang.Math.multiplyExact(seed, count)";
+
+    /**
+     * The strategy generating the creation methods for which bulk creation methods are generated. Any value provider
+     * service used by the strategy has to reference the constants with the {@link #INDEX_VARIABLE} as well.
+     */
+    private final CreationMethodGenerationStrategy delegate;
+
+    /**
+     * Whether a creation method returning a list of instances is generated
+     */
+    private final boolean listEnabled;
+
+    /**
+     * Whether a creation method returning a lazy stream of instances is generated
+     */
+    private final boolean streamEnabled;
+
+    /**
+     * Returns a {@link Collection} containing the enabled bulk {@link CreationMethod}s for each creation method generated
+     * by the delegate strategy.
+     *
+     * @param element     - for which the creation methods are being generated
+     * @param constantMap - which contains the already generated constants for reference
+     * @return a {@link Collection} of generated bulk {@link CreationMethod}s
+     */
+    @Override
+    public Collection<CreationMethod> generateCreationMethods(TypeElement element, ConstantMap constantMap, TypeMetadata metadata) {
+        final var bulkCreationMethods = new ArrayList<CreationMethod>();
+        for (CreationMethod creationMethod : delegate.generateCreationMethods(element, constantMap.withIndexVariable(INDEX_VARIABLE), metadata)) {
+            if (listEnabled)
+                bulkCreationMethods.add(createListCreationMethod(creationMethod));
+            if (streamEnabled)
+                bulkCreationMethods.add(createStreamCreationMethod(creationMethod));
+        }
+        return bulkCreationMethods;
+    }
+
+    private static CreationMethod createListCreationMethod(CreationMethod creationMethod) {
+        return CreationMethod.builder()
+                .returnType("java.util.List<%s>".formatted(creationMethod.getReturnType()))
+                .name("%sList".formatted(creationMethod.getName()))
+                .parameters("int count")
+                .returnValue("java.util.stream.IntStream.range(0, count).<%s>mapToObj(%s -> %s).collect(java.util.stream.Collectors.toCollection(() -> new java.util.ArrayList<>(count)))"
+                        .formatted(creationMethod.getReturnType(), INDEX_VARIABLE, creationMethod.getReturnValue()))
+                .build();
+    }
+
+    private static CreationMethod createStreamCreationMethod(CreationMethod creationMethod) {
+        return CreationMethod.builder()
+                .returnType("java.util.stream.Stream<%s>".formatted(creationMethod.getReturnType()))
+                .name("%sStream".formatted(creationMethod.getName()))
+                .parameters("long count, long seed")
+                .returnValue("java.util.stream.LongStream.range(%1$s, java.lang.Math.addExact(%1$s, count)).<%2$s>mapToObj(%3$s -> %4$s)"
+                        .formatted(STREAM_FIRST_INDEX, creationMethod.getReturnType(), INDEX_VARIABLE, creationMethod.getReturnValue()))
+                .build();
+    }
+}
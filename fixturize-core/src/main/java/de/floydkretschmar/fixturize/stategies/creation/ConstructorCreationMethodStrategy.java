@@ -63,7 +63,7 @@ public class ConstructorCreationMethodStrategy implements CreationMethodGenerati
         final var parameterToConstant = constantMap.getMatchingConstants(Arrays.asList(annotation.constructorParameters()));
         final var parameterValues = parameterToConstant.entrySet().stream().map(parameterAndOptionalConstant ->
                         parameterAndOptionalConstant.getValue()
-                                .map(Constant::getName)
+                                .map(Constant::getReference)
                                 .orElse(valueProviderService.resolveValuesForDefaultPlaceholders(parameterAndOptionalConstant.getKey())))
                 .toList();
         return createReturnValueString(className, parameterValues);
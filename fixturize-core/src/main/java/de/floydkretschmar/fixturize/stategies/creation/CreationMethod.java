@@ -21,6 +21,12 @@ public class CreationMethod {
      */
     String name;
 
+    /**
+     * The parameter declarations of the method, e.g. <b>int count</b>. Empty if the method has no parameters.
+     */
+    @Builder.Default
+    String parameters = "";
+
     /**
      * The return value of the method
      */
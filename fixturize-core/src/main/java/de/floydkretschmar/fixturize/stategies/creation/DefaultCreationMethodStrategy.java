@@ -0,0 +1,63 @@
+package de.floydkretschmar.fixturize.stategies.creation;
+
+import de.floydkretschmar.fixturize.annotations.Fixture;
+import de.floydkretschmar.fixturize.annotations.FixtureBuilder;
+import de.floydkretschmar.fixturize.annotations.FixtureConstructor;
+import de.floydkretschmar.fixturize.stategies.constants.ConstantMap;
+import de.floydkretschmar.fixturize.stategies.metadata.TypeMetadata;
+import de.floydkretschmar.fixturize.stategies.value.providers.ValueProvider;
+import de.floydkretschmar.fixturize.stategies.value.providers.fallback.FixtureReferenceValueProvider;
+import lombok.RequiredArgsConstructor;
+
+import javax.lang.model.element.TypeElement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static de.floydkretschmar.fixturize.stategies.value.providers.ValueProvider.DEFAULT_VALUE;
+
+/**
+ * The strategy that generates the default creation method <b>create{className}</b> for a class annotated with
+ * {@link Fixture}, which is referenced by other fixtures in place of inlined values. The default creation method uses
+ * a builder if one is available and the constructor with the most parameters otherwise, passing the generated constants
+ * as values. No default creation method is generated if a {@link FixtureBuilder} or {@link FixtureConstructor} already
+ * defines a method with the same name.
+ *
+ * @author Floyd Kretschmar
+ */
+@RequiredArgsConstructor
+public class DefaultCreationMethodStrategy implements CreationMethodGenerationStrategy {
+
+    private final ValueProvider builderValueProvider;
+
+    private final ValueProvider constructorValueProvider;
+
+    /**
+     * Returns a {@link Collection} containing the default {@link CreationMethod} for the provided element.
+     *
+     * @param element     - for which the creation methods are being generated
+     * @param constantMap - which contains the already generated constants for reference
+     * @return a {@link Collection} containing the default creation method
+     */
+    @Override
+    public Collection<CreationMethod> generateCreationMethods(TypeElement element, ConstantMap constantMap, TypeMetadata metadata) {
+        final var methodName = FixtureReferenceValueProvider.getDefaultCreationMethodName(metadata);
+        final var isMethodNameTaken = Stream.concat(
+                        Arrays.stream(element.getAnnotationsByType(FixtureBuilder.class)).map(FixtureBuilder::methodName),
+                        Arrays.stream(element.getAnnotationsByType(FixtureConstructor.class)).map(FixtureConstructor::methodName))
+                .anyMatch(methodName::equals);
+        if (isMethodNameTaken)
+            return List.of();
+
+        var returnValue = builderValueProvider.provideValueAsString(element, metadata);
+        if (returnValue.equals(DEFAULT_VALUE))
+            returnValue = constructorValueProvider.provideValueAsString(element, metadata);
+
+        return List.of(CreationMethod.builder()
+                .returnType(metadata.getQualifiedClassName())
+                .name(methodName)
+                .returnValue(returnValue)
+                .build());
+    }
+}
@@ -0,0 +1,53 @@
+package de.floydkretschmar.fixturize.stategies.creation;
+
+import de.floydkretschmar.fixturize.stategies.constants.ConstantMap;
+import de.floydkretschmar.fixturize.stategies.constants.RandomValueStrategy;
+import de.floydkretschmar.fixturize.stategies.metadata.TypeMetadata;
+import lombok.RequiredArgsConstructor;
+
+import javax.lang.model.element.TypeElement;
+import java.util.Collection;
+
+/**
+ * The strategy that generates a random creation method for each creation method of a delegate strategy. A random
+ * creation method has the following format:
+ * <br><br>
+ * public static <b>returnType</b> <b>methodName</b>Random(java.util.SplittableRandom random) {<br>
+ * return <b>returnValue</b>;<br>
+ * }
+ * <br><br>
+ * The delegate strategy is called with a copy of the constants that references them with their random values, so that
+ * every call draws new values from the provided random generator. Constants of types without a random value are shared
+ * by the created instances. The same seed always creates the same sequence of instances, e.g.
+ * <b>new java.util.SplittableRandom(RANDOM_SEED)</b> with the seed of the fixture.
+ *
+ * @author Floyd Kretschmar
+ */
+@RequiredArgsConstructor
+public class RandomCreationMethodStrategy implements CreationMethodGenerationStrategy {
+    /**
+     * The strategy generating the creation methods for which random creation methods are generated. Any value provider
+     * service used by the strategy has to reference the constants with their random values as well.
+     */
+    private final CreationMethodGenerationStrategy delegate;
+
+    /**
+     * Returns a {@link Collection} containing a random {@link CreationMethod} for each creation method generated by the
+     * delegate strategy.
+     *
+     * @param element     - for which the creation methods are being generated
+     * @param constantMap - which contains the already generated constants for reference
+     * @return a {@link Collection} of generated random {@link CreationMethod}s
+     */
+    @Override
+    public Collection<CreationMethod> generateCreationMethods(TypeElement element, ConstantMap constantMap, TypeMetadata metadata) {
+        return delegate.generateCreationMethods(element, constantMap.withRandomValues(), metadata).stream()
+                .map(creationMethod -> CreationMethod.builder()
+                        .returnType(creationMethod.getReturnType())
+                        .name("%sRandom".formatted(creationMethod.getName()))
+                        .parameters("java.util.SplittableRandom %s".formatted(RandomValueStrategy.RANDOM_VARIABLE))
+                        .returnValue(creationMethod.getReturnValue())
+                        .build())
+                .toList();
+    }
+}
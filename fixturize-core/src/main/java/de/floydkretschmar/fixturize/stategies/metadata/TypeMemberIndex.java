@@ -0,0 +1,171 @@
+package de.floydkretschmar.fixturize.stategies.metadata;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import java.lang.annotation.Annotation;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static javax.lang.model.element.Modifier.PUBLIC;
+
+/**
+ * Caches the members and annotations of type elements, so that the enclosed elements of every type only have to be
+ * scanned once, no matter how many value providers and strategies inspect the type. All members are computed lazily
+ * the first time they are requested. An index should only be used for the duration of a single processing round. All
+ * methods are thread safe, because fixture models can be created on a pool of threads.
+ *
+ * @author Floyd Kretschmar
+ */
+public class TypeMemberIndex {
+
+    private final Map<Element, List<? extends Element>> enclosedElements = new HashMap<>();
+
+    private final Map<Element, List<VariableElement>> fields = new HashMap<>();
+
+    private final Map<Element, List<ExecutableElement>> publicConstructors = new HashMap<>();
+
+    private final Map<Element, List<ExecutableElement>> methods = new HashMap<>();
+
+    private final Map<Element, List<Element>> enumConstants = new HashMap<>();
+
+    private final Map<Element, Map<Class<? extends Annotation>, Boolean>> annotationPresence = new HashMap<>();
+
+    private final Map<Element, Map<Class<? extends Annotation>, Annotation[]>> annotations = new HashMap<>();
+
+    private final Map<Element, Set<String>> reachableTypes = new HashMap<>();
+
+    /**
+     * Returns all fields declared by the specified type in declaration order.
+     *
+     * @param type - whose fields are returned
+     * @return the fields of the type
+     */
+    public synchronized List<VariableElement> getFields(Element type) {
+        return fields.computeIfAbsent(type, key -> ElementFilter.fieldsIn(getEnclosedElements(key)));
+    }
+
+    /**
+     * Returns all public constructors declared by the specified type sorted by their number of parameters in descending
+     * order. Constructors with the same number of parameters keep their declaration order.
+     *
+     * @param type - whose constructors are returned
+     * @return the public constructors of the type
+     */
+    public synchronized List<ExecutableElement> getPublicConstructors(Element type) {
+        return publicConstructors.computeIfAbsent(type, key -> ElementFilter.constructorsIn(getEnclosedElements(key)).stream()
+                .filter(constructor -> constructor.getModifiers().contains(PUBLIC))
+                .sorted(Comparator.comparing((ExecutableElement constructor) -> constructor.getParameters().size()).reversed())
+                .toList());
+    }
+
+    /**
+     * Returns all methods declared by the specified type in declaration order.
+     *
+     * @param type - whose methods are returned
+     * @return the methods of the type
+     */
+    public synchronized List<ExecutableElement> getMethods(Element type) {
+        return methods.computeIfAbsent(type, key -> ElementFilter.methodsIn(getEnclosedElements(key)));
+    }
+
+    /**
+     * Returns all enum constants declared by the specified type in declaration order.
+     *
+     * @param type - whose enum constants are returned
+     * @return the enum constants of the type
+     */
+    public synchronized List<Element> getEnumConstants(Element type) {
+        return enumConstants.computeIfAbsent(type, key -> getEnclosedElements(key).stream()
+                .filter(element -> element.getKind().equals(ElementKind.ENUM_CONSTANT))
+                .map(Element.class::cast)
+                .toList());
+    }
+
+    /**
+     * Returns whether the specified type is annotated with the specified annotation, e.g. one of the lombok annotations.
+     *
+     * @param type           - which is checked for the annotation
+     * @param annotationType - which is checked
+     * @return true, if the type is annotated with the annotation, otherwise false
+     */
+    public synchronized boolean hasAnnotation(Element type, Class<? extends Annotation> annotationType) {
+        return annotationPresence.computeIfAbsent(type, key -> new HashMap<>())
+                .computeIfAbsent(annotationType, key -> Objects.nonNull(type.getAnnotation(annotationType)));
+    }
+
+    /**
+     * Returns all annotations of the specified type present on the specified type element, including repeated annotations.
+     *
+     * @param type           - whose annotations are returned
+     * @param annotationType - of the returned annotations
+     * @param <A>            the annotation type
+     * @return the annotations present on the type element
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <A extends Annotation> A[] getAnnotationsByType(Element type, Class<A> annotationType) {
+        return (A[]) annotations.computeIfAbsent(type, key -> new HashMap<>())
+                .computeIfAbsent(annotationType, key -> type.getAnnotationsByType(annotationType));
+    }
+
+    /**
+     * Returns the qualified names of all types that are reachable from the specified type through the types of fields
+     * and the parameters of public constructors, including type arguments and array components. Types of the java
+     * platform (<b>java.*</b> and <b>javax.*</b>) are included, but not traversed any further.
+     *
+     * @param type - from which the reachable types are collected
+     * @return the qualified names of the reachable types without generics
+     */
+    public synchronized Set<String> getReachableTypes(Element type) {
+        return reachableTypes.computeIfAbsent(type, this::collectReachableTypes);
+    }
+
+    private Set<String> collectReachableTypes(Element type) {
+        final var reachable = new HashSet<String>();
+        final Deque<Element> pendingTypes = new ArrayDeque<>();
+        pendingTypes.push(type);
+        while (!pendingTypes.isEmpty()) {
+            final var currentType = pendingTypes.pop();
+            getFields(currentType).forEach(field -> collectReachableType(field.asType(), reachable, pendingTypes));
+            getPublicConstructors(currentType).stream()
+                    .flatMap(constructor -> constructor.getParameters().stream())
+                    .forEach(parameter -> collectReachableType(parameter.asType(), reachable, pendingTypes));
+        }
+        return reachable;
+    }
+
+    private static void collectReachableType(TypeMirror type, Set<String> reachable, Deque<Element> pendingTypes) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            collectReachableType(((ArrayType) type).getComponentType(), reachable, pendingTypes);
+            return;
+        }
+        if (type.getKind() != TypeKind.DECLARED)
+            return;
+
+        final var declaredType = (DeclaredType) type;
+        declaredType.getTypeArguments().forEach(typeArgument -> collectReachableType(typeArgument, reachable, pendingTypes));
+
+        final var element = (TypeElement) declaredType.asElement();
+        final var qualifiedName = element.getQualifiedName().toString();
+        if (reachable.add(qualifiedName) && !qualifiedName.startsWith("java.") && !qualifiedName.startsWith("javax."))
+            pendingTypes.push(element);
+    }
+
+    private List<? extends Element> getEnclosedElements(Element type) {
+        return enclosedElements.computeIfAbsent(type, Element::getEnclosedElements);
+    }
+}
@@ -1,22 +1,25 @@
 package de.floydkretschmar.fixturize.stategies.metadata;
 
-import de.floydkretschmar.fixturize.ElementUtils;
 import de.floydkretschmar.fixturize.exceptions.FixtureCreationException;
 import lombok.RequiredArgsConstructor;
 
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static javax.lang.model.type.TypeKind.DECLARED;
 
 /**
- * Creates metadata for {@link TypeMirror}s.
+ * Creates metadata for {@link TypeMirror}s. Created metadata is cached by the canonical name of the type it has been
+ * created for, which is why a factory should only be used for the duration of a single processing round. All methods
+ * are thread safe, because fixture models can be created on a pool of threads.
  *
  * @author Floyd Kretschmar
  */
@@ -25,28 +28,96 @@ public class TypeMetadataFactory implements MetadataFactory {
 
     private final Elements elementUtils;
 
+    /**
+     * The already created metadata by the canonical name of the type and the generic implementations it has been
+     * created for.
+     */
+    private final Map<String, TypeMetadata> metadataCache = new HashMap<>();
+
+    /**
+     * The already created generic type maps by the canonical name of the type including its concrete generics.
+     */
+    private final Map<String, Map<? extends TypeMirror, ? extends DeclaredType>> genericMapCache = new HashMap<>();
+
+    /**
+     * The number of metadata requests that have been answered from the cache.
+     */
+    private int cacheHits;
+
+    /**
+     * The number of metadata requests for which metadata had to be created.
+     */
+    private int cacheMisses;
+
     @Override
-    public TypeMetadata createMetadataFrom(TypeMirror type) {
-        List<? extends TypeMirror> concreteTypesSetForGenerics = List.of();
-        if (type.getKind() == DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty()) {
-            concreteTypesSetForGenerics = ((DeclaredType) type).getTypeArguments();
-        }
-        return createMetadata(type.toString(), concreteTypesSetForGenerics, elementUtils);
+    public synchronized TypeMetadata createMetadataFrom(TypeMirror type) {
+        final var qualifiedClassName = type.toString();
+        return getOrCreateMetadata(qualifiedClassName, () -> {
+            List<? extends TypeMirror> concreteTypesSetForGenerics = List.of();
+            if (type.getKind() == DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty()) {
+                concreteTypesSetForGenerics = ((DeclaredType) type).getTypeArguments();
+            }
+            return createMetadata(qualifiedClassName, concreteTypesSetForGenerics);
+        });
     }
 
     @Override
-    public TypeMetadata createMetadataFrom(TypeMirror type, List<String> genericTypeImplementations) {
-        final var concreteTypesSetForGenerics = genericTypeImplementations.stream().map(typeString -> {
-            var typeElement = elementUtils.getTypeElement(typeString);
-            if (Objects.isNull(typeElement))
-                throw new FixtureCreationException("The type %s defined for class %s does not exist".formatted(typeString, type.toString()));
-            return typeElement.asType();
-        }).toList();
-        return createMetadata(type.toString(), concreteTypesSetForGenerics, elementUtils);
+    public synchronized TypeMetadata createMetadataFrom(TypeMirror type, List<String> genericTypeImplementations) {
+        final var qualifiedClassName = type.toString();
+        return getOrCreateMetadata("%s%s".formatted(qualifiedClassName, genericTypeImplementations), () -> {
+            final var concreteTypesSetForGenerics = genericTypeImplementations.stream().map(typeString -> {
+                var typeElement = elementUtils.getTypeElement(typeString);
+                if (Objects.isNull(typeElement))
+                    throw new FixtureCreationException("The type %s defined for class %s does not exist".formatted(typeString, qualifiedClassName));
+                return typeElement.asType();
+            }).toList();
+            return createMetadata(qualifiedClassName, concreteTypesSetForGenerics);
+        });
+    }
+
+    /**
+     * Returns the number of metadata requests that have been answered from the cache.
+     *
+     * @return the number of cache hits
+     */
+    public synchronized int getCacheHits() {
+        return this.cacheHits;
+    }
+
+    /**
+     * Returns the number of metadata requests for which metadata had to be created.
+     *
+     * @return the number of cache misses
+     */
+    public synchronized int getCacheMisses() {
+        return this.cacheMisses;
     }
 
-    private static Map<? extends TypeMirror, ? extends DeclaredType> createGenericMap(
-            List<? extends TypeMirror> concreteTypesSetForGenerics, String qualifiedClassNameWithoutGeneric, Elements elementUtils) {
+    private TypeMetadata getOrCreateMetadata(String cacheKey, Supplier<TypeMetadata> metadataSupplier) {
+        final var cachedMetadata = this.metadataCache.get(cacheKey);
+        if (Objects.nonNull(cachedMetadata)) {
+            this.cacheHits++;
+            return cachedMetadata;
+        }
+
+        this.cacheMisses++;
+        final var metadata = metadataSupplier.get();
+        this.metadataCache.put(cacheKey, metadata);
+        return metadata;
+    }
+
+    private Map<? extends TypeMirror, ? extends DeclaredType> getOrCreateGenericMap(
+            List<? extends TypeMirror> concreteTypesSetForGenerics, String qualifiedClassNameWithoutGeneric, String qualifiedClassName) {
+        var genericMap = this.genericMapCache.get(qualifiedClassName);
+        if (Objects.isNull(genericMap)) {
+            genericMap = createGenericMap(concreteTypesSetForGenerics, qualifiedClassNameWithoutGeneric);
+            this.genericMapCache.put(qualifiedClassName, genericMap);
+        }
+        return genericMap;
+    }
+
+    private Map<? extends TypeMirror, ? extends DeclaredType> createGenericMap(
+            List<? extends TypeMirror> concreteTypesSetForGenerics, String qualifiedClassNameWithoutGeneric) {
         final var fieldElementWithoutGenericsSet = elementUtils.getTypeElement(qualifiedClassNameWithoutGeneric);
         final var genericsDefinedOnType = ((DeclaredType) fieldElementWithoutGenericsSet.asType()).getTypeArguments();
 
@@ -54,12 +125,14 @@ public class TypeMetadataFactory implements MetadataFactory {
             throw new FixtureCreationException(("There is a mismatch in the number of defined generics and actual concrete types " +
                     "defined for these generics for class %s").formatted(qualifiedClassNameWithoutGeneric));
 
-        return genericsDefinedOnType.stream().collect(ElementUtils.toLinkedMap(
-                Function.identity(),
-                value -> (DeclaredType) concreteTypesSetForGenerics.get(genericsDefinedOnType.indexOf(value))));
+        final var genericMap = new LinkedHashMap<TypeMirror, DeclaredType>();
+        for (int i = 0; i < genericsDefinedOnType.size(); i++) {
+            genericMap.put(genericsDefinedOnType.get(i), (DeclaredType) concreteTypesSetForGenerics.get(i));
+        }
+        return genericMap;
     }
 
-    private static TypeMetadata createMetadata(String qualifiedClassName, List<? extends TypeMirror> concreteTypesForGenerics, Elements elementUtils) {
+    private TypeMetadata createMetadata(String qualifiedClassName, List<? extends TypeMirror> concreteTypesForGenerics) {
         final var genericStartIndex = qualifiedClassName.indexOf('<');
         final var qualifiedClassNameWithoutGeneric = genericStartIndex > 0 ?
                 qualifiedClassName.substring(0, genericStartIndex) : qualifiedClassName;
@@ -81,7 +154,6 @@ public class TypeMetadataFactory implements MetadataFactory {
         setGenericPart(
                 builder,
                 concreteTypesForGenerics,
-                elementUtils,
                 genericStartIndex,
                 simpleClassNameWithoutGeneric,
                 qualifiedClassNameWithoutGeneric);
@@ -89,10 +161,9 @@ public class TypeMetadataFactory implements MetadataFactory {
         return builder.build();
     }
 
-    private static void setGenericPart(
+    private void setGenericPart(
             TypeMetadata.TypeMetadataBuilder builder,
             List<? extends TypeMirror> concreteTypesForGenerics,
-            Elements elementUtils,
             int genericStartIndex,
             String simpleClassNameWithoutGeneric,
             String qualifiedClassNameWithoutGeneric) {
@@ -100,13 +171,14 @@ public class TypeMetadataFactory implements MetadataFactory {
             final var genericPart = "<%s>".formatted(concreteTypesForGenerics.stream()
                     .map(TypeMirror::toString)
                     .collect(Collectors.joining(", ")));
+            final var qualifiedClassName = "%s%s".formatted(qualifiedClassNameWithoutGeneric, genericPart);
             builder.genericPart(genericPart)
                     .simpleClassName("%s%s".formatted(simpleClassNameWithoutGeneric, genericPart))
-                    .qualifiedClassName("%s%s".formatted(qualifiedClassNameWithoutGeneric, genericPart))
-                    .genericTypeMap(createGenericMap(
+                    .qualifiedClassName(qualifiedClassName)
+                    .genericTypeMap(getOrCreateGenericMap(
                             concreteTypesForGenerics,
                             qualifiedClassNameWithoutGeneric,
-                            elementUtils));
+                            qualifiedClassName));
         } else {
             builder.genericPart("")
                     .simpleClassName(simpleClassNameWithoutGeneric)
@@ -1,7 +1,10 @@
 package de.floydkretschmar.fixturize.stategies.value;
 
+import de.floydkretschmar.fixturize.annotations.FixtureArray;
 import de.floydkretschmar.fixturize.exceptions.FixtureCreationException;
+import de.floydkretschmar.fixturize.statistics.ProcessingStatistics;
 import de.floydkretschmar.fixturize.stategies.metadata.MetadataFactory;
+import de.floydkretschmar.fixturize.stategies.metadata.TypeMetadata;
 import de.floydkretschmar.fixturize.stategies.value.providers.FallbackValueProvider;
 import de.floydkretschmar.fixturize.stategies.value.providers.ValueProvider;
 import de.floydkretschmar.fixturize.stategies.value.providers.ValueProviderFactory;
@@ -10,11 +13,10 @@ import javax.lang.model.element.Element;
 import javax.lang.model.element.VariableElement;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 /**
  * Decides which value during constant creation should be used for a given {@link VariableElement}.
@@ -43,20 +45,51 @@ public class ConstantValueProviderService implements ValueProviderService {
      */
     private final Elements elementUtils;
 
+    /**
+     * The cache for values created by the fallback value providers.
+     */
+    private final FallbackValueCache fallbackValueCache;
+
+    /**
+     * The context keeping track of the types currently being resolved by fallback value providers.
+     */
+    private final ResolutionContext resolutionContext;
+
+    /**
+     * The statistics in which all value provider calls and resolution depths are recorded.
+     */
+    private final ProcessingStatistics statistics;
+
+    /**
+     * The already parsed templates by the value strings they have been parsed from.
+     */
+    private final Map<String, PlaceholderTemplate> placeholderTemplates = new HashMap<>();
+
     public ConstantValueProviderService(
             Map<String, ValueProvider> customValueProviders,
             ValueProviderFactory valueProviderFactory,
             Elements elementUtils,
             Types typeUtils,
-            MetadataFactory metadataFactory) {
+            MetadataFactory metadataFactory,
+            FallbackValueCache fallbackValueCache,
+            ResolutionContext resolutionContext,
+            ProcessingStatistics statistics) {
         this.valueProviders = valueProviderFactory.createValueProviders(customValueProviders, typeUtils, this);
-        this.fallbackValueProviders = valueProviderFactory.createFallbackValueProviders(this);
+        this.fallbackValueProviders = valueProviderFactory.createFallbackValueProviders(this, resolutionContext.getRootType());
         this.metadataFactory = metadataFactory;
         this.elementUtils = elementUtils;
+        this.fallbackValueCache = fallbackValueCache;
+        this.resolutionContext = resolutionContext;
+        this.statistics = statistics;
     }
 
     /**
-     * Returns the correct value that should be used for constant generation for the specified element.
+     * Returns the correct value that should be used for constant generation for the specified element. Values created by
+     * fallback value providers only depend on the type of the element and are therefore cached by type, except for
+     * elements annotated with {@link FixtureArray}, whose value depends on the annotation as well. Types that are
+     * already being resolved or that exceed the maximum resolution depth are cut off according to the
+     * {@link ResolutionContext} before the cache is consulted, so that a cached value never reintroduces a cycle, and
+     * cached values are only used where all of their nested types could be resolved again.
      *
      * @param element - for which the value is being retrieved
      * @return the value used for constant construction
@@ -65,23 +98,57 @@ public class ConstantValueProviderService implements ValueProviderService {
     public String getValueFor(Element element) {
         final var type = element.asType();
         final var metadata = metadataFactory.createMetadataFrom(type);
-        var value = ValueProvider.DEFAULT_VALUE;
 
         if (valueProviders.containsKey(metadata.getQualifiedClassName())) {
-            value = valueProviders.get(metadata.getQualifiedClassName()).provideValueAsString(element, metadata);
+            final var value = this.provideValue(valueProviders.get(metadata.getQualifiedClassName()), element, metadata);
+            return this.resolveValuesForDefaultPlaceholders(value);
         }
         else if (valueProviders.containsKey(metadata.getQualifiedClassNameWithoutGeneric())) {
-            value = valueProviders.get(metadata.getQualifiedClassNameWithoutGeneric()).provideValueAsString(element, metadata);
+            final var value = this.provideValue(valueProviders.get(metadata.getQualifiedClassNameWithoutGeneric()), element, metadata);
+            return this.resolveValuesForDefaultPlaceholders(value);
         }
-        else {
-            value = this.fallbackValueProviders.stream()
-                    .filter(provider -> provider.canProvideFallback(element, metadata))
-                    .findFirst()
-                    .map(provider -> provider.provideValueAsString(element, metadata))
-                    .orElse(ValueProvider.DEFAULT_VALUE);
+
+        final var qualifiedClassName = metadata.getQualifiedClassName();
+        if (resolutionContext.requiresCutOff(qualifiedClassName))
+            return resolutionContext.cutOff(element, metadata);
+
+        final var cacheable = Objects.isNull(element.getAnnotation(FixtureArray.class));
+        final var cachedValue = cacheable ? fallbackValueCache.get(qualifiedClassName, resolutionContext.getRemainingDepth()) : null;
+        if (Objects.nonNull(cachedValue)) {
+            resolutionContext.require(cachedValue.requiredDepth());
+            return cachedValue.value();
+        }
+
+        final var cutOffCount = resolutionContext.getCutOffCount();
+        final String value;
+        final int requiredDepth;
+        resolutionContext.enter(qualifiedClassName);
+        statistics.recordResolutionDepth(resolutionContext.getDepth());
+        try {
+            value = this.resolveValuesForDefaultPlaceholders(getFallbackValueFor(element, metadata));
+        } finally {
+            requiredDepth = resolutionContext.exit();
         }
 
-        return this.resolveValuesForDefaultPlaceholders(value);
+        if (cacheable && cutOffCount == resolutionContext.getCutOffCount())
+            fallbackValueCache.put(qualifiedClassName, value, requiredDepth);
+
+        return value;
+    }
+
+    private String getFallbackValueFor(Element element, TypeMetadata metadata) {
+        return this.fallbackValueProviders.stream()
+                .filter(provider -> provider.canProvideFallback(element, metadata))
+                .findFirst()
+                .map(provider -> this.provideValue(provider, element, metadata))
+                .orElse(ValueProvider.DEFAULT_VALUE);
+    }
+
+    private String provideValue(ValueProvider valueProvider, Element element, TypeMetadata metadata) {
+        final var start = statistics.startProviderCall();
+        final var value = valueProvider.provideValueAsString(element, metadata);
+        statistics.recordProviderCall(valueProvider, start);
+        return value;
     }
 
     /**
@@ -92,21 +159,17 @@ public class ConstantValueProviderService implements ValueProviderService {
      */
     @Override
     public String resolveValuesForDefaultPlaceholders(String valueStringWithPlaceholders) {
-        final var valuePattern = Pattern.compile("(?<defaultValueType>\\#\\{[^\\{\\}\\$]*\\})");
-        final var regex = valuePattern.matcher(valueStringWithPlaceholders);
-        final var values = new ArrayList<String>();
-
-        var value = valueStringWithPlaceholders;
-        while (regex.find()) {
-            final var defaultValueTypeNameWildcard = regex.group("defaultValueType");
-            final var defaultValueTypeName = defaultValueTypeNameWildcard.substring(2, defaultValueTypeNameWildcard.length() - 1);
+        var template = this.placeholderTemplates.get(valueStringWithPlaceholders);
+        if (Objects.isNull(template)) {
+            template = PlaceholderTemplate.parse(valueStringWithPlaceholders);
+            this.placeholderTemplates.put(valueStringWithPlaceholders, template);
+        }
+
+        return template.resolve(defaultValueTypeName -> {
             final var element = elementUtils.getTypeElement(defaultValueTypeName);
             if (Objects.isNull(element))
                 throw new FixtureCreationException("%s is not a valid type that can be used for default value generation".formatted(defaultValueTypeName));
-            values.add(this.getValueFor(element));
-            value = value.replace(defaultValueTypeNameWildcard, "%s");
-        }
-
-        return value.formatted(values.toArray());
+            return this.getValueFor(element);
+        });
     }
 }
@@ -29,7 +29,7 @@ public class CreationMethodValueProviderService implements ValueProviderService
     /**
      * Returns the corresponding constant name registered in the constant map for the provided element.
      * @param field - for which the value is being retrieved
-     * @return the name of the corresponding constant as the field value
+     * @return the reference to the corresponding constant as the field value
      */
     @Override
     public String getValueFor(Element field) {
@@ -38,7 +38,7 @@ public class CreationMethodValueProviderService implements ValueProviderService
                 .map(FixtureConstant::name)
                 .orElse(field.toString());
         if (constantMap.containsKey(constantKey))
-            return constantMap.get(constantKey).getName();
+            return constantMap.get(constantKey).getReference();
 
         return defaultValueService.getValueFor(field);
     }
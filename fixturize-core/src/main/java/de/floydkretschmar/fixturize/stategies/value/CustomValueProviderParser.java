@@ -2,35 +2,144 @@ package de.floydkretschmar.fixturize.stategies.value;
 
 import de.floydkretschmar.fixturize.exceptions.FixtureCreationException;
 import de.floydkretschmar.fixturize.stategies.value.providers.ValueProvider;
-import lombok.RequiredArgsConstructor;
 import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.HostAccess;
+import org.graalvm.polyglot.Source;
 
 import java.io.Closeable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 
 /**
- * Creates value providers from string definitions using the nashorn script engine.
+ * Creates value providers from string definitions using the GraalVM javascript engine. The underlying polyglot
+ * {@link Engine} is created on first use and shared between all parsers of the same JVM, so that processor instances
+ * living in the same build daemon reuse the engine and its code cache. The {@link Context} of a parser is only created
+ * once the first value provider is actually parsed. Identical definitions are only evaluated once per parser. A parser and
+ * its value providers can be used by multiple threads, but the context is only ever entered by one thread at a time.
  *
  * @author Floyd Kretschmar
  */
-@RequiredArgsConstructor
 public class CustomValueProviderParser implements Closeable {
 
-    private final Context context;
+    /**
+     * The context used to evaluate value provider definitions. Null until the first definition has been parsed.
+     */
+    private Context context;
+
+    /**
+     * The already parsed value providers by their definition.
+     */
+    private final Map<String, ValueProvider> parsedValueProviders = new HashMap<>();
+
+    /**
+     * The number of requested definitions that have been answered with an already parsed value provider.
+     */
+    private int cacheHits;
+
+    /**
+     * The number of requested definitions that had to be evaluated.
+     */
+    private int cacheMisses;
+
     /**
      * Returns a valid {@link ValueProvider} for a provided string representation defining a custom {@link ValueProvider}.
      * The string representation has to be a single line of code that in the end returns a string, which will in turn be used
      * to create a constant during fixture generation.
      * @param valueProviderDefinition - that defines the value provider function as a string
      * @return the parsed {@link ValueProvider}
-     * @throws FixtureCreationException if the provided definition is not a valid line of code
+     * @throws FixtureCreationException if the provided definition is not a valid line of code or the GraalVM javascript
+     * engine is not present on the annotation processor path
      */
-    public ValueProvider parseValueProvider(String valueProviderDefinition) {
-        var jsFunctionValue = this.context.eval("js", "(%s)".formatted(valueProviderDefinition));
-        return jsFunctionValue.as(ValueProvider.class);
+    public synchronized ValueProvider parseValueProvider(String valueProviderDefinition) {
+        try {
+            return parseCachedValueProvider(valueProviderDefinition);
+        } catch (NoClassDefFoundError e) {
+            throw new FixtureCreationException("Custom value provider callbacks require org.graalvm.js:js on the annotation processor path. " +
+                    "Either add the dependency or use FixtureValueProvider#providerClass instead.");
+        }
     }
 
+    /**
+     * Returns the number of parsed definitions that could be answered from the cache.
+     *
+     * @return the number of cache hits
+     */
+    public synchronized int getCacheHits() {
+        return this.cacheHits;
+    }
+
+    /**
+     * Returns the number of parsed definitions that had to be evaluated by the javascript engine.
+     *
+     * @return the number of cache misses
+     */
+    public synchronized int getCacheMisses() {
+        return this.cacheMisses;
+    }
+
+    /**
+     * Closes the context of this parser, if one has been created, and discards all value providers parsed with it. The
+     * shared engine stays open, so that it can be reused by subsequent parsers.
+     */
     @Override
-    public void close() {
-        this.context.close();
+    public synchronized void close() {
+        this.parsedValueProviders.clear();
+        if (Objects.nonNull(this.context)) {
+            this.context.close();
+            this.context = null;
+        }
+    }
+
+    private ValueProvider parseCachedValueProvider(String valueProviderDefinition) {
+        final var parsedValueProvider = this.parsedValueProviders.get(valueProviderDefinition);
+        if (Objects.nonNull(parsedValueProvider)) {
+            this.cacheHits++;
+            return parsedValueProvider;
+        }
+
+        this.cacheMisses++;
+        final var source = Source.newBuilder("js", "(%s)".formatted(valueProviderDefinition), "FixtureValueProvider.js")
+                .cached(true)
+                .buildLiteral();
+        final var valueProvider = this.serialize(this.getContext().eval(source).as(ValueProvider.class));
+        this.parsedValueProviders.put(valueProviderDefinition, valueProvider);
+        return valueProvider;
+    }
+
+    /**
+     * Returns a proxy for the specified value provider that calls it while holding the lock of this parser, because the
+     * javascript context must not be entered by multiple threads at the same time.
+     */
+    private ValueProvider serialize(ValueProvider valueProvider) {
+        return (ValueProvider) Proxy.newProxyInstance(ValueProvider.class.getClassLoader(), new Class<?>[]{ValueProvider.class}, (proxy, method, args) -> {
+            synchronized (this) {
+                try {
+                    return method.invoke(valueProvider, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        });
+    }
+
+    private Context getContext() {
+        if (Objects.isNull(this.context)) {
+            this.context = Context.newBuilder("js")
+                    .engine(SharedEngineHolder.ENGINE)
+                    .allowHostAccess(HostAccess.ALL)
+                    .build();
+        }
+        return this.context;
+    }
+
+    /**
+     * Lazily initializes the engine shared by all parsers the first time it is accessed.
+     */
+    private static final class SharedEngineHolder {
+        private static final Engine ENGINE = Engine.create("js");
     }
 }
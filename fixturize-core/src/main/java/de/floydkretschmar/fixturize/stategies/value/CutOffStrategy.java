@@ -0,0 +1,23 @@
+package de.floydkretschmar.fixturize.stategies.value;
+
+/**
+ * Defines which value is used for a type that can not be resolved any further during fallback value resolution, either
+ * because the type is already being resolved further up in the object graph (a cycle) or because the maximum resolution
+ * depth has been reached.
+ *
+ * @author Floyd Kretschmar
+ */
+public enum CutOffStrategy {
+    /**
+     * The value <b>null</b> is used.
+     */
+    NULL,
+
+    /**
+     * If the type is annotated with {@link de.floydkretschmar.fixturize.annotations.Fixture} a call to the default
+     * creation method of the generated fixture is used, otherwise <b>null</b>. Cycles back to the type of the fixture
+     * itself always use <b>null</b>, because the fixture can not reference its own creation methods while its constants
+     * are initialized.
+     */
+    FIXTURE_REFERENCE
+}
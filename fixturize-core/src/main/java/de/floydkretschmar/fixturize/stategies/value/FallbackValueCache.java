@@ -0,0 +1,66 @@
+package de.floydkretschmar.fixturize.stategies.value;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the values created by fallback value providers by the type they have been created for, so that the value for
+ * a type that is referenced from many fields or fixtures only has to be derived once per processing round. Every value
+ * is cached together with the number of nested types resolved below its type and is only reused where the same number
+ * of nested types could be resolved again, so that the cache never changes the generated value. A cache can be shared
+ * by fixtures whose models are created on a pool of threads.
+ *
+ * @author Floyd Kretschmar
+ */
+@RequiredArgsConstructor
+public class FallbackValueCache {
+
+    /**
+     * Whether values are actually cached. If disabled, every value will be computed again.
+     */
+    private final boolean enabled;
+
+    /**
+     * The cached values by the qualified class name of the type they have been created for.
+     */
+    private final Map<String, CachedValue> values = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cached value for the specified type, if it can be used at a position with the specified remaining depth.
+     *
+     * @param qualifiedClassName - of the type for which the value is being retrieved
+     * @param remainingDepth     - the number of nested types that can still be resolved below the type
+     * @return the cached value or null, if no usable value has been cached yet or caching is disabled
+     */
+    public CachedValue get(String qualifiedClassName, int remainingDepth) {
+        if (!enabled)
+            return null;
+
+        final var cachedValue = values.get(qualifiedClassName);
+        return Objects.nonNull(cachedValue) && cachedValue.requiredDepth() <= remainingDepth ? cachedValue : null;
+    }
+
+    /**
+     * Caches the value for the specified type, unless caching is disabled.
+     *
+     * @param qualifiedClassName - of the type for which the value has been created
+     * @param value              - that has been created
+     * @param requiredDepth      - the number of nested types that have been resolved below the type
+     */
+    public void put(String qualifiedClassName, String value, int requiredDepth) {
+        if (enabled)
+            values.put(qualifiedClassName, new CachedValue(value, requiredDepth));
+    }
+
+    /**
+     * A cached value and the number of nested types that have been resolved below its type.
+     *
+     * @param value         - that has been created
+     * @param requiredDepth - the number of nested types that have been resolved below the type
+     */
+    public record CachedValue(String value, int requiredDepth) {
+    }
+}
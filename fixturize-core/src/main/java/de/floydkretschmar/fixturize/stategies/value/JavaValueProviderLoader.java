@@ -0,0 +1,78 @@
+package de.floydkretschmar.fixturize.stategies.value;
+
+import de.floydkretschmar.fixturize.exceptions.FixtureCreationException;
+import de.floydkretschmar.fixturize.stategies.value.providers.ValueProvider;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceLoader;
+
+/**
+ * Loads compiled java implementations of {@link ValueProvider} from the annotation processor path. Implementations
+ * registered as a service for {@link ValueProvider} are discovered using {@link ServiceLoader}. Any other implementation
+ * is instantiated using its public no-argument constructor.
+ *
+ * @author Floyd Kretschmar
+ */
+@RequiredArgsConstructor
+public class JavaValueProviderLoader {
+
+    /**
+     * The class loader used to discover and load value provider implementations.
+     */
+    private final ClassLoader classLoader;
+
+    /**
+     * All value providers that have been loaded so far by their binary class name. Null until the first value provider
+     * is requested.
+     */
+    private Map<String, ValueProvider> loadedValueProviders;
+
+    /**
+     * Returns the {@link ValueProvider} implemented by the class with the specified binary name.
+     *
+     * @param className - the binary name of the value provider implementation
+     * @return the loaded {@link ValueProvider}
+     * @throws FixtureCreationException if the class could not be found, does not implement {@link ValueProvider} or could
+     * not be instantiated
+     */
+    public synchronized ValueProvider loadValueProvider(String className) {
+        final var valueProviders = getLoadedValueProviders();
+        final var registeredValueProvider = valueProviders.get(className);
+        if (Objects.nonNull(registeredValueProvider))
+            return registeredValueProvider;
+
+        final var valueProvider = instantiateValueProvider(className);
+        valueProviders.put(className, valueProvider);
+        return valueProvider;
+    }
+
+    private Map<String, ValueProvider> getLoadedValueProviders() {
+        if (Objects.isNull(this.loadedValueProviders)) {
+            this.loadedValueProviders = new HashMap<>();
+            ServiceLoader.load(ValueProvider.class, this.classLoader)
+                    .forEach(valueProvider -> this.loadedValueProviders.putIfAbsent(valueProvider.getClass().getName(), valueProvider));
+        }
+        return this.loadedValueProviders;
+    }
+
+    private ValueProvider instantiateValueProvider(String className) {
+        final Class<?> valueProviderClass;
+        try {
+            valueProviderClass = Class.forName(className, true, this.classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            throw new FixtureCreationException("The value provider %s could not be found on the annotation processor path.".formatted(className));
+        }
+
+        if (!ValueProvider.class.isAssignableFrom(valueProviderClass))
+            throw new FixtureCreationException("The value provider %s does not implement %s.".formatted(className, ValueProvider.class.getName()));
+
+        try {
+            return (ValueProvider) valueProviderClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new FixtureCreationException("The value provider %s could not be instantiated using a public no-argument constructor.".formatted(className));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package de.floydkretschmar.fixturize.stategies.value;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A value string that has been split into its literal parts and the default value wildcards (<b>#{qualifiedTypeName}</b>)
+ * between them. A template is parsed once in a single pass and can then be resolved any number of times.
+ *
+ * @author Floyd Kretschmar
+ */
+public class PlaceholderTemplate {
+    private static final String PLACEHOLDER_START = "#{";
+    private static final char PLACEHOLDER_END = '}';
+
+    /**
+     * The literal parts of the template. Contains exactly one more element than {@link #placeholderTypeNames}, because
+     * every wildcard is surrounded by two (possibly empty) literal parts.
+     */
+    private final List<String> literals;
+
+    /**
+     * The qualified type names of all wildcards in the order in which they appear in the template.
+     */
+    private final List<String> placeholderTypeNames;
+
+    /**
+     * The length of all literal parts combined.
+     */
+    private final int literalLength;
+
+    private PlaceholderTemplate(List<String> literals, List<String> placeholderTypeNames) {
+        this.literals = literals;
+        this.placeholderTypeNames = placeholderTypeNames;
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * Parses the specified value string into a template. A wildcard starts with <b>#{</b> and ends with the next <b>}</b>.
+     * Character sequences that contain <b>{</b> or <b>$</b> before that are not considered wildcards and are kept as
+     * they are.
+     *
+     * @param valueStringWithPlaceholders - that contains 0 to N default value wildcards
+     * @return the parsed template
+     */
+    public static PlaceholderTemplate parse(String valueStringWithPlaceholders) {
+        final var literals = new ArrayList<String>();
+        final var placeholderTypeNames = new ArrayList<String>();
+
+        var literalStart = 0;
+        var index = valueStringWithPlaceholders.indexOf(PLACEHOLDER_START);
+        while (index >= 0) {
+            final var placeholderEnd = findPlaceholderEnd(valueStringWithPlaceholders, index + PLACEHOLDER_START.length());
+            if (placeholderEnd < 0) {
+                index = valueStringWithPlaceholders.indexOf(PLACEHOLDER_START, index + 1);
+                continue;
+            }
+
+            literals.add(valueStringWithPlaceholders.substring(literalStart, index));
+            placeholderTypeNames.add(valueStringWithPlaceholders.substring(index + PLACEHOLDER_START.length(), placeholderEnd));
+            literalStart = placeholderEnd + 1;
+            index = valueStringWithPlaceholders.indexOf(PLACEHOLDER_START, literalStart);
+        }
+        literals.add(valueStringWithPlaceholders.substring(literalStart));
+
+        return new PlaceholderTemplate(List.copyOf(literals), List.copyOf(placeholderTypeNames));
+    }
+
+    /**
+     * Returns whether the template contains at least one default value wildcard.
+     *
+     * @return true, if the template contains wildcards, otherwise false
+     */
+    public boolean hasPlaceholders() {
+        return !this.placeholderTypeNames.isEmpty();
+    }
+
+    /**
+     * Returns the qualified type names of all wildcards in the order in which they appear in the template.
+     *
+     * @return the type names of all wildcards
+     */
+    public List<String> getPlaceholderTypeNames() {
+        return this.placeholderTypeNames;
+    }
+
+    /**
+     * Returns the value string with every wildcard replaced by the value returned by the specified resolver. The resolver
+     * is called once per distinct type name, even if the same wildcard appears multiple times.
+     *
+     * @param placeholderResolver - that returns the value for the qualified type name of a wildcard
+     * @return the fully resolved value
+     */
+    public String resolve(Function<String, String> placeholderResolver) {
+        if (!this.hasPlaceholders())
+            return this.literals.get(0);
+
+        final var resolvedValues = new HashMap<String, String>();
+        final var resolvedPlaceholders = new ArrayList<String>(this.placeholderTypeNames.size());
+        var resultLength = this.literalLength;
+        for (var typeName : this.placeholderTypeNames) {
+            final var value = resolvedValues.computeIfAbsent(typeName, placeholderResolver);
+            resolvedPlaceholders.add(value);
+            resultLength += value.length();
+        }
+
+        final var result = new StringBuilder(resultLength);
+        for (int i = 0; i < resolvedPlaceholders.size(); i++) {
+            result.append(this.literals.get(i)).append(resolvedPlaceholders.get(i));
+        }
+        return result.append(this.literals.get(this.literals.size() - 1)).toString();
+    }
+
+    private static int findPlaceholderEnd(String value, int contentStart) {
+        for (int i = contentStart; i < value.length(); i++) {
+            final var character = value.charAt(i);
+            if (character == PLACEHOLDER_END)
+                return i;
+            if (character == '{' || character == '$')
+                return -1;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,172 @@
+package de.floydkretschmar.fixturize.stategies.value;
+
+import de.floydkretschmar.fixturize.stategies.metadata.TypeMetadata;
+import de.floydkretschmar.fixturize.stategies.value.providers.ValueProvider;
+
+import javax.lang.model.element.Element;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Keeps track of all types that are currently being resolved by fallback value providers while generating the constants
+ * of a single fixture, starting with the type of the fixture itself. Types that are already being resolved or that
+ * would exceed the maximum resolution depth are cut off using the configured cut-off value provider.
+ *
+ * @author Floyd Kretschmar
+ */
+public class ResolutionContext {
+
+    /**
+     * The qualified class name of the type for which the fixture is generated.
+     */
+    private final String rootType;
+
+    /**
+     * The types currently being resolved, the most recently entered type first.
+     */
+    private final Deque<String> visitedTypes = new ArrayDeque<>();
+
+    /**
+     * The maximum number of nested types that will be resolved below the type of the fixture.
+     */
+    private final int maxDepth;
+
+    /**
+     * The value provider used to create the value for types that have been cut off.
+     */
+    private final ValueProvider cutOffValueProvider;
+
+    /**
+     * The number of cut-offs that occurred using this context.
+     */
+    private int cutOffCount;
+
+    /**
+     * The lowest remaining depth required by any type resolved since the most recently entered type has been entered.
+     */
+    private int lowestRemainingDepth;
+
+    /**
+     * The remaining depth at which each entered type has been entered and the lowest remaining depth of the enclosing
+     * type at that time, the most recently entered type first.
+     */
+    private final Deque<EnteredType> enteredTypes = new ArrayDeque<>();
+
+    /**
+     * Creates a new resolution context for the fixture of the specified type.
+     *
+     * @param rootType            - the qualified class name of the type for which the fixture is generated
+     * @param maxDepth            - the maximum number of nested types that will be resolved below the root type
+     * @param cutOffValueProvider - used to create the value for types that have been cut off
+     */
+    public ResolutionContext(String rootType, int maxDepth, ValueProvider cutOffValueProvider) {
+        this.rootType = rootType;
+        this.maxDepth = maxDepth;
+        this.cutOffValueProvider = cutOffValueProvider;
+        this.visitedTypes.push(rootType);
+        this.lowestRemainingDepth = getRemainingDepth();
+    }
+
+    /**
+     * Returns the type for which the fixture is generated.
+     *
+     * @return the qualified class name of the root type
+     */
+    public String getRootType() {
+        return rootType;
+    }
+
+    /**
+     * Returns whether the specified type has to be cut off instead of being resolved.
+     *
+     * @param qualifiedClassName - of the type that is about to be resolved
+     * @return true, if the type is already being resolved or the maximum depth has been reached, otherwise false
+     */
+    public boolean requiresCutOff(String qualifiedClassName) {
+        return getRemainingDepth() < 0 || visitedTypes.contains(qualifiedClassName);
+    }
+
+    /**
+     * Returns the number of nested types that can still be resolved below a type that is about to be resolved at the
+     * current position.
+     *
+     * @return the remaining depth, which is negative if the maximum depth has been exceeded
+     */
+    public int getRemainingDepth() {
+        return maxDepth - visitedTypes.size();
+    }
+
+    /**
+     * Records that a value which required the specified number of nested types below its own type has been used at the
+     * current position, e.g. because it has been taken from a cache instead of being resolved.
+     *
+     * @param requiredDepth - the number of nested types that have been resolved below the type of the value
+     */
+    public void require(int requiredDepth) {
+        lowestRemainingDepth = Math.min(lowestRemainingDepth, getRemainingDepth() - requiredDepth);
+    }
+
+    /**
+     * Returns the value used for an element whose type has been cut off.
+     *
+     * @param element  - whose type has been cut off
+     * @param metadata - of the type
+     * @return the cut-off value
+     */
+    public String cutOff(Element element, TypeMetadata metadata) {
+        cutOffCount++;
+        return cutOffValueProvider.provideValueAsString(element, metadata);
+    }
+
+    /**
+     * Marks the specified type as being resolved.
+     *
+     * @param qualifiedClassName - of the type that is being resolved
+     */
+    public void enter(String qualifiedClassName) {
+        final var remainingDepth = getRemainingDepth();
+        enteredTypes.push(new EnteredType(remainingDepth, lowestRemainingDepth));
+        lowestRemainingDepth = remainingDepth;
+        visitedTypes.push(qualifiedClassName);
+    }
+
+    /**
+     * Marks the most recently entered type as resolved.
+     *
+     * @return the number of nested types that have been resolved below the type, which is the depth a value created
+     * for the type requires to be created identically at another position
+     */
+    public int exit() {
+        visitedTypes.pop();
+        final var enteredType = enteredTypes.pop();
+        final var requiredDepth = enteredType.remainingDepth() - lowestRemainingDepth;
+        lowestRemainingDepth = Math.min(enteredType.enclosingLowestRemainingDepth(), lowestRemainingDepth);
+        return requiredDepth;
+    }
+
+    /**
+     * Returns the number of nested types that are currently being resolved below the root type.
+     *
+     * @return the current resolution depth
+     */
+    public int getDepth() {
+        return visitedTypes.size() - 1;
+    }
+
+    /**
+     * Returns the number of cut-offs that occurred using this context. Values that have been resolved while cut-offs
+     * occurred depend on the types being resolved at that time and must therefore not be cached.
+     *
+     * @return the number of cut-offs
+     */
+    public int getCutOffCount() {
+        return cutOffCount;
+    }
+
+    /**
+     * The remaining depth at which a type has been entered and the lowest remaining depth of its enclosing type at that
+     * time.
+     */
+    private record EnteredType(int remainingDepth, int enclosingLowestRemainingDepth) {
+    }
+}
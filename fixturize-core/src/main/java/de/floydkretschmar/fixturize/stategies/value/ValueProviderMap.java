@@ -43,11 +43,14 @@ public class ValueProviderMap extends HashMap<String, ValueProvider> {
      * classes, given no custom {@link ValueProvider} has been provided for the specified class.
      *
      * @param customClassValueProviders - the list of custom {@link ValueProvider}s
+     * @param deterministic - whether the default {@link ValueProvider}s for {@link UUID}s and temporal types provide
+     *                      values that are identical across builds instead of random values or the current time
      */
     public ValueProviderMap(
             Map<? extends String, ? extends ValueProvider> customClassValueProviders,
             Types typeUtils,
-            ValueProviderService valueProviderService) {
+            ValueProviderService valueProviderService,
+            boolean deterministic) {
         super(customClassValueProviders);
         this.putIfAbsent(boolean.class.getName(), new BooleanValueProvider());
         this.putIfAbsent(byte.class.getName(), new ByteValueProvider());
@@ -58,7 +61,7 @@ public class ValueProviderMap extends HashMap<String, ValueProvider> {
         this.putIfAbsent(long.class.getName(), new LongValueProvider());
         this.putIfAbsent(short.class.getName(), new ShortValueProvider());
         this.putIfAbsent(String.class.getName(), new StringValueProvider());
-        this.putIfAbsent(UUID.class.getName(), new UUIDValueProvider());
+        this.putIfAbsent(UUID.class.getName(), new UUIDValueProvider(deterministic));
         this.putIfAbsent(Boolean.class.getName(),  new BooleanValueProvider());
         this.putIfAbsent(Byte.class.getName(), new ByteValueProvider());
         this.putIfAbsent(Character.class.getName(), new CharacterValueProvider());
@@ -69,12 +72,20 @@ public class ValueProviderMap extends HashMap<String, ValueProvider> {
         this.putIfAbsent(Short.class.getName(), new ShortValueProvider());
         this.putIfAbsent(BigDecimal.class.getName(), (field, names) -> "java.math.BigDecimal.ZERO");
         this.putIfAbsent(BigInteger.class.getName(), (field, names) -> "java.math.BigInteger.ZERO");
-        this.putIfAbsent(Instant.class.getName(), (field, names) -> "java.time.Instant.now()");
         this.putIfAbsent(Duration.class.getName(), (field, names) -> "java.time.Duration.ZERO");
-        this.putIfAbsent(LocalDate.class.getName(), (field, names) -> "java.time.LocalDate.now()");
-        this.putIfAbsent(LocalDateTime.class.getName(), (field, names) -> "java.time.LocalDateTime.now()");
-        this.putIfAbsent(LocalTime.class.getName(), (field, names) -> "java.time.LocalTime.now()");
-        this.putIfAbsent(Date.class.getName(), (field, names) -> "new java.util.Date()");
+        if (deterministic) {
+            this.putIfAbsent(Instant.class.getName(), (field, names) -> "java.time.Instant.parse(\"2000-01-01T00:00:00Z\")");
+            this.putIfAbsent(LocalDate.class.getName(), (field, names) -> "java.time.LocalDate.of(2000, 1, 1)");
+            this.putIfAbsent(LocalDateTime.class.getName(), (field, names) -> "java.time.LocalDateTime.of(2000, 1, 1, 0, 0)");
+            this.putIfAbsent(LocalTime.class.getName(), (field, names) -> "java.time.LocalTime.MIDNIGHT");
+            this.putIfAbsent(Date.class.getName(), (field, names) -> "new java.util.Date(946684800000L)");
+        } else {
+            this.putIfAbsent(Instant.class.getName(), (field, names) -> "java.time.Instant.now()");
+            this.putIfAbsent(LocalDate.class.getName(), (field, names) -> "java.time.LocalDate.now()");
+            this.putIfAbsent(LocalDateTime.class.getName(), (field, names) -> "java.time.LocalDateTime.now()");
+            this.putIfAbsent(LocalTime.class.getName(), (field, names) -> "java.time.LocalTime.now()");
+            this.putIfAbsent(Date.class.getName(), (field, names) -> "new java.util.Date()");
+        }
 
         this.putIfAbsent(Map.class.getName(), new ContainerValueProvider(
                 valueProviderService, typeUtils, "java.util.Map.of(%s)"));
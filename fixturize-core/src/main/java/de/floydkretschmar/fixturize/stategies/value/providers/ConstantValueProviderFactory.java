@@ -1,8 +1,10 @@
 package de.floydkretschmar.fixturize.stategies.value.providers;
 
+import de.floydkretschmar.fixturize.stategies.metadata.TypeMemberIndex;
 import de.floydkretschmar.fixturize.stategies.value.ValueProviderMap;
 import de.floydkretschmar.fixturize.stategies.value.ValueProviderService;
 import de.floydkretschmar.fixturize.stategies.value.providers.fallback.*;
+import lombok.RequiredArgsConstructor;
 
 import javax.lang.model.util.Types;
 import java.util.Collection;
@@ -10,28 +12,52 @@ import java.util.List;
 import java.util.Map;
 
 
+/**
+ * Creates the default value providers. All created value providers inspect types through the same {@link TypeMemberIndex}.
+ * If fixture references are enabled, classes with a generated fixture are referenced instead of inlined. If the factory
+ * is deterministic, the default value providers create values that are identical across builds.
+ *
+ * @author Floyd Kretschmar
+ */
+@RequiredArgsConstructor
 public class ConstantValueProviderFactory implements ValueProviderFactory {
+
+    private final TypeMemberIndex memberIndex;
+
+    private final boolean fixtureReferencesEnabled;
+
+    private final boolean deterministic;
+
     @Override
     public ValueProviderMap createValueProviders(Map<String, ValueProvider> customValueProviders, Types typeUtils, ValueProviderService valueProviderService) {
-        return new ValueProviderMap(customValueProviders, typeUtils, valueProviderService);
+        return new ValueProviderMap(customValueProviders, typeUtils, valueProviderService, deterministic);
     }
 
     @Override
-    public Collection<FallbackValueProvider> createFallbackValueProviders(ValueProviderService valueProviderService) {
+    public Collection<FallbackValueProvider> createFallbackValueProviders(ValueProviderService valueProviderService, String rootType) {
         return List.of(
-                new ClassValueProvider(this.createBuilderValueProvider(valueProviderService), this.createConstructorValueProvider(valueProviderService)),
-                new EnumValueProvider(),
+                new ClassValueProvider(
+                        this.createBuilderValueProvider(valueProviderService),
+                        this.createConstructorValueProvider(valueProviderService),
+                        fixtureReferencesEnabled ? this.createFixtureReferenceValueProvider(rootType) : (field, metadata) -> ValueProvider.DEFAULT_VALUE,
+                        memberIndex),
+                new EnumValueProvider(memberIndex),
                 new ArrayValueProvider()
         );
     }
 
     @Override
     public ValueProvider createConstructorValueProvider(ValueProviderService valueProviderService) {
-        return new ConstructorValueProvider(valueProviderService);
+        return new ConstructorValueProvider(valueProviderService, memberIndex);
     }
 
     @Override
     public BuilderValueProvider createBuilderValueProvider(ValueProviderService valueProviderService) {
-        return new BuilderValueProvider(valueProviderService);
+        return new BuilderValueProvider(valueProviderService, memberIndex);
+    }
+
+    @Override
+    public FixtureReferenceValueProvider createFixtureReferenceValueProvider(String rootType) {
+        return new FixtureReferenceValueProvider(memberIndex, rootType);
     }
 }
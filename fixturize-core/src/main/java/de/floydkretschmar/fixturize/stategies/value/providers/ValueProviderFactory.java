@@ -3,6 +3,7 @@ package de.floydkretschmar.fixturize.stategies.value.providers;
 import de.floydkretschmar.fixturize.stategies.value.ValueProviderMap;
 import de.floydkretschmar.fixturize.stategies.value.ValueProviderService;
 import de.floydkretschmar.fixturize.stategies.value.providers.fallback.BuilderValueProvider;
+import de.floydkretschmar.fixturize.stategies.value.providers.fallback.FixtureReferenceValueProvider;
 
 import javax.lang.model.util.Types;
 import java.util.Collection;
@@ -27,11 +28,21 @@ public interface ValueProviderFactory {
      * Creates the collection of {@link FallbackValueProvider}s that will be used for {@link javax.lang.model.element.Element}
      * instances with no specific value provider registered for their {@link javax.lang.model.type.TypeMirror}.
      * @param valueProviderService - that is used to retrieve the corresponding value representation for a given {@link javax.lang.model.element.Element}.
+     * @param rootType - the qualified class name of the type for which the fixture is generated
      * @return the collection of fallback value providers
      */
-    Collection<FallbackValueProvider> createFallbackValueProviders(ValueProviderService valueProviderService);
+    Collection<FallbackValueProvider> createFallbackValueProviders(ValueProviderService valueProviderService, String rootType);
 
     ValueProvider createConstructorValueProvider(ValueProviderService valueProviderService);
 
     BuilderValueProvider createBuilderValueProvider(ValueProviderService valueProviderService);
+
+    /**
+     * Creates the value provider that references the default creation method of generated fixtures from the fixture of
+     * the specified type.
+     *
+     * @param rootType - the qualified class name of the type for which the referencing fixture is generated
+     * @return the fixture reference value provider
+     */
+    FixtureReferenceValueProvider createFixtureReferenceValueProvider(String rootType);
 }
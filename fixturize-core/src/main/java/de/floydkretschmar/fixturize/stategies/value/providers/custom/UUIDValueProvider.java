@@ -2,8 +2,11 @@ package de.floydkretschmar.fixturize.stategies.value.providers.custom;
 
 import de.floydkretschmar.fixturize.stategies.metadata.TypeMetadata;
 import de.floydkretschmar.fixturize.stategies.value.providers.ValueProvider;
+import lombok.RequiredArgsConstructor;
 
 import javax.lang.model.element.Element;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -11,17 +14,43 @@ import java.util.UUID;
  *
  * @author Floyd Kretschmar
  */
+@RequiredArgsConstructor
 public class UUIDValueProvider implements ValueProvider {
 
+    /**
+     * Whether the provided UUIDs are derived from the name of the field instead of being randomly generated
+     */
+    private final boolean deterministic;
+
+    /**
+     * Constructs a {@link UUIDValueProvider} that provides randomly generated UUIDs.
+     */
+    public UUIDValueProvider() {
+        this(false);
+    }
+
     /**
      * Returns the default value to use for constants of type {@link UUID}. The default value for {@link UUID} constants
-     * is "java.util.UUID.fromString(<b>uuid</b>) where <b>uuid</b> is a randomly generated UUID.
+     * is "java.util.UUID.fromString(<b>uuid</b>) where <b>uuid</b> is a randomly generated UUID. If the provider is
+     * deterministic, <b>uuid</b> is instead derived from the qualified name of the field, so that the same field always
+     * gets the same UUID.
      *
      * @param field - for which the value should be provided
      * @return the text representation of the constant value
      */
     @Override
     public String provideValueAsString(Element field, TypeMetadata metadata) {
-        return "java.util.UUID.fromString(\"%s\")".formatted(UUID.randomUUID().toString());
+        final var uuid = deterministic
+                ? UUID.nameUUIDFromBytes(getQualifiedName(field).getBytes(StandardCharsets.UTF_8))
+                : UUID.randomUUID();
+        return "java.util.UUID.fromString(\"%s\")".formatted(uuid.toString());
+    }
+
+    private static String getQualifiedName(Element field) {
+        final var enclosingElement = field.getEnclosingElement();
+        if (Objects.isNull(enclosingElement))
+            return field.toString();
+
+        return "%s.%s".formatted(enclosingElement, field.getSimpleName());
     }
 }
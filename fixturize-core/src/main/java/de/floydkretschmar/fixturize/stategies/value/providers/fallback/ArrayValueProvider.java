@@ -1,11 +1,23 @@
 package de.floydkretschmar.fixturize.stategies.value.providers.fallback;
 
+import de.floydkretschmar.fixturize.annotations.ArrayFill;
+import de.floydkretschmar.fixturize.annotations.FixtureArray;
+import de.floydkretschmar.fixturize.exceptions.FixtureCreationException;
 import de.floydkretschmar.fixturize.stategies.metadata.TypeMetadata;
 import de.floydkretschmar.fixturize.stategies.value.providers.FallbackValueProvider;
 
 import javax.lang.model.element.Element;
+import javax.lang.model.type.ArrayType;
 import javax.lang.model.type.TypeKind;
+import java.util.Objects;
 
+/**
+ * Default value provider for arrays. Arrays are empty, unless the field is annotated with {@link FixtureArray}, in
+ * which case an array of the configured length is created and filled inside a single expression: via
+ * <b>java.util.Arrays.fill</b>, <b>java.util.Arrays.setAll</b>, a generated loop or a seeded
+ * {@link java.util.SplittableRandom}. The variables of the generated fill statements end with <b>$</b>, so that they
+ * cannot clash with variables of the expressions the array is inlined into, e.g. the index of bulk creation methods.
+ */
 public class ArrayValueProvider implements FallbackValueProvider {
 
     @Override
@@ -15,6 +27,50 @@ public class ArrayValueProvider implements FallbackValueProvider {
 
     @Override
     public String provideValueAsString(Element field, TypeMetadata metadata) {
-        return "new %s {}".formatted(metadata.getQualifiedClassName());
+        final var arrayAnnotation = field.getAnnotation(FixtureArray.class);
+        if (Objects.isNull(arrayAnnotation))
+            return "new %s {}".formatted(metadata.getQualifiedClassName());
+
+        return createArray(field, ((ArrayType) field.asType()).getComponentType().getKind(), metadata.getQualifiedClassName(), arrayAnnotation);
+    }
+
+    private static String createArray(Element field, TypeKind componentKind, String arrayType, FixtureArray arrayAnnotation) {
+        final var length = arrayAnnotation.length();
+        if (length < 0)
+            throw new FixtureCreationException("The length of the array for field %s must not be negative.".formatted(field.getSimpleName()));
+        if (componentKind == TypeKind.ARRAY)
+            throw new FixtureCreationException("The array for field %s has to be one-dimensional to be configured by FixtureArray.".formatted(field.getSimpleName()));
+
+        final var componentType = arrayType.substring(0, arrayType.length() - 2);
+        final var newArray = "new %s[%d]".formatted(componentType, length);
+        return switch (arrayAnnotation.fill()) {
+            case ZERO -> newArray;
+            case CONSTANT -> fillArray(arrayType, newArray, "java.util.Arrays.fill(array$, (%s) (%s));".formatted(componentType, arrayAnnotation.value()));
+            case INDEX -> switch (componentKind) {
+                case INT, LONG, DOUBLE -> fillArray(arrayType, newArray, "java.util.Arrays.setAll(array$, i$ -> i$);");
+                case BYTE -> fillArray(arrayType, newArray, "for (int i$ = 0; i$ < array$.length; i$++) array$[i$] = (byte) i$;");
+                default -> throw unsupportedFill(field, arrayAnnotation.fill());
+            };
+            case RANDOM -> {
+                final var random = "new java.util.SplittableRandom(%dL)".formatted(arrayAnnotation.seed());
+                yield switch (componentKind) {
+                    case INT -> "%s.ints(%d).toArray()".formatted(random, length);
+                    case LONG -> "%s.longs(%d).toArray()".formatted(random, length);
+                    case DOUBLE -> "%s.doubles(%d).toArray()".formatted(random, length);
+                    case BYTE -> fillArray(arrayType, newArray, "%s.nextBytes(array$);".formatted(random));
+                    default -> throw unsupportedFill(field, arrayAnnotation.fill());
+                };
+            }
+        };
+    }
+
+    private static String fillArray(String arrayType, String newArray, String fillStatement) {
+        return "((java.util.function.Supplier<%1$s>) () -> { final %1$s array$ = %2$s; %3$s return array$; }).get()"
+                .formatted(arrayType, newArray, fillStatement);
+    }
+
+    private static FixtureCreationException unsupportedFill(Element field, ArrayFill fill) {
+        return new FixtureCreationException("The fill %s of the array for field %s is only supported for arrays of int, long, double and byte."
+                .formatted(fill, field.getSimpleName()));
     }
 }
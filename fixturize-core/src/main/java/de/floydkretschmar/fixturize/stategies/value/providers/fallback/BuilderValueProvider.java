@@ -1,6 +1,7 @@
 package de.floydkretschmar.fixturize.stategies.value.providers.fallback;
 
 import de.floydkretschmar.fixturize.ElementUtils;
+import de.floydkretschmar.fixturize.stategies.metadata.TypeMemberIndex;
 import de.floydkretschmar.fixturize.stategies.metadata.TypeMetadata;
 import de.floydkretschmar.fixturize.stategies.metadata.VariableElementMetadata;
 import de.floydkretschmar.fixturize.stategies.value.ValueProviderService;
@@ -10,13 +11,13 @@ import lombok.RequiredArgsConstructor;
 
 import javax.lang.model.element.Element;
 import javax.lang.model.type.DeclaredType;
-import javax.lang.model.util.ElementFilter;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
 import static de.floydkretschmar.fixturize.ElementUtils.findMethodWithModifiersByReturnType;
-import static de.floydkretschmar.fixturize.ElementUtils.findSetterForFields;
+import static de.floydkretschmar.fixturize.ElementUtils.findSetterForField;
+import static de.floydkretschmar.fixturize.ElementUtils.indexSettersByFieldName;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
 
@@ -25,6 +26,8 @@ public class BuilderValueProvider implements ValueProvider {
 
     private final ValueProviderService valueProviderService;
 
+    private final TypeMemberIndex memberIndex;
+
     @Override
     public String provideValueAsString(Element field, TypeMetadata metadata) {
         return provideValueAsString(field, metadata, "builder", "build");
@@ -33,8 +36,8 @@ public class BuilderValueProvider implements ValueProvider {
     public String provideValueAsString(Element field, TypeMetadata metadata, String builderMethodName, String buildMethodName) {
         final var fieldType = ((DeclaredType) field.asType());
         final var fieldTypeElement = fieldType.asElement();
-        if (Objects.nonNull(fieldType.asElement().getAnnotation(Builder.class))) {
-            final var fields = metadata.createVariableElementMetadata(ElementFilter.fieldsIn(fieldTypeElement.getEnclosedElements()));
+        if (memberIndex.hasAnnotation(fieldTypeElement, Builder.class)) {
+            final var fields = metadata.createVariableElementMetadata(memberIndex.getFields(fieldTypeElement));
             return createBuilderValue(
                     fields.stream().collect(ElementUtils.toLinkedMap(VariableElementMetadata::getName, data -> valueProviderService.getValueFor(data.getTypedElement()))),
                     metadata.getQualifiedClassNameWithoutGeneric(),
@@ -42,23 +45,25 @@ public class BuilderValueProvider implements ValueProvider {
                     buildMethodName);
         }
 
-        return provideBuildMethodAsValue(fieldTypeElement, metadata, valueProviderService, builderMethodName, buildMethodName);
+        return provideBuildMethodAsValue(fieldTypeElement, metadata, builderMethodName, buildMethodName);
     }
 
-    private static String provideBuildMethodAsValue(Element declaredElement, TypeMetadata metadata, ValueProviderService valueProviderService, String builderMethodName, String buildMethodName) {
+    private String provideBuildMethodAsValue(Element declaredElement, TypeMetadata metadata, String builderMethodName, String buildMethodName) {
         final var builderName = "%s.%sBuilder".formatted(metadata.getQualifiedClassNameWithoutGeneric(), metadata.getSimpleClassNameWithoutGeneric());
-        final var builderMethod = findMethodWithModifiersByReturnType(declaredElement, builderName, builderMethodName, PUBLIC, STATIC);
+        final var builderMethod = findMethodWithModifiersByReturnType(memberIndex.getMethods(declaredElement), builderName, builderMethodName, PUBLIC, STATIC);
 
         if (Objects.isNull(builderMethod)) return DEFAULT_VALUE;
 
         final var builderType = (DeclaredType) builderMethod.getReturnType();
         final var builderTypeElement = builderType.asElement();
-        final var buildMethod = findMethodWithModifiersByReturnType(builderTypeElement, metadata.getQualifiedClassName(), buildMethodName, PUBLIC);
+        final var buildMethod = findMethodWithModifiersByReturnType(memberIndex.getMethods(builderTypeElement), metadata.getQualifiedClassName(), buildMethodName, PUBLIC);
 
         if (Objects.isNull(buildMethod)) return DEFAULT_VALUE;
 
-        final var fields = metadata.createVariableElementMetadata(ElementFilter.fieldsIn(declaredElement.getEnclosedElements()));
-        final var builderSetter = findSetterForFields(builderTypeElement, fields, builderType, PUBLIC)
+        final var fields = metadata.createVariableElementMetadata(memberIndex.getFields(declaredElement));
+        final var setterIndex = indexSettersByFieldName(memberIndex.getMethods(builderTypeElement), builderType, PUBLIC);
+        final var builderSetter = fields.stream()
+                .map(field -> Map.entry(field, findSetterForField(setterIndex, field.toString())))
                 .filter(entry -> entry.getValue().isPresent())
                 .collect(ElementUtils.toLinkedMap(
                         entry -> entry.getValue().orElseThrow().getSimpleName().toString(),
@@ -2,6 +2,7 @@ package de.floydkretschmar.fixturize.stategies.value.providers.fallback;
 
 import de.floydkretschmar.fixturize.annotations.FixtureBuilder;
 import de.floydkretschmar.fixturize.annotations.FixtureConstructor;
+import de.floydkretschmar.fixturize.stategies.metadata.TypeMemberIndex;
 import de.floydkretschmar.fixturize.stategies.metadata.TypeMetadata;
 import de.floydkretschmar.fixturize.stategies.value.providers.FallbackValueProvider;
 import de.floydkretschmar.fixturize.stategies.value.providers.ValueProvider;
@@ -21,7 +22,9 @@ import static javax.lang.model.type.TypeKind.DECLARED;
  * 1. If type is annotated with {@link FixtureConstructor} or {@link FixtureBuilder}: use the annotation with the most
  * {@link FixtureConstructor#constructorParameters()} or {@link FixtureBuilder#usedSetters()} and use the creation method
  * defined by that annotation
- * 2. If any lombok annotations are present, try to generate to correct value according to the annotation:
+ * 2. If fixture references are enabled and the type is annotated with {@link de.floydkretschmar.fixturize.annotations.Fixture},
+ * use the default creation method of the generated fixture (see {@link FixtureReferenceValueProvider})
+ * 3. If any lombok annotations are present, try to generate to correct value according to the annotation:
  * <ul>
  *     <li>{@link lombok.Builder}: create an inline builder for all fields</li>
  *     <li>{@link lombok.AllArgsConstructor}: create an inline new call to the constructor using all fields</li>
@@ -29,8 +32,8 @@ import static javax.lang.model.type.TypeKind.DECLARED;
  *     and don't have a constant value</li>
  *     <li>{@link lombok.AllArgsConstructor}: create an inline new call to the constructor without arguments</li>
  * </ul>
- * 3. If any manually generated constructors are present, use the one with the most arguments as the value
- * 4. If any manually written builder methods are present, create an inline builder call for all setter that match the
+ * 4. If any manually generated constructors are present, use the one with the most arguments as the value
+ * 5. If any manually written builder methods are present, create an inline builder call for all setter that match the
  * fields of the constant type. Matching in this case means that the setter method name must end on the name of the field.
  */
 @RequiredArgsConstructor
@@ -39,6 +42,10 @@ public class ClassValueProvider implements FallbackValueProvider {
 
     private final ValueProvider constructorValueProvider;
 
+    private final ValueProvider fixtureReferenceValueProvider;
+
+    private final TypeMemberIndex memberIndex;
+
     @Override
     public boolean canProvideFallback(Element element, TypeMetadata metadata) {
         final var type = element.asType();
@@ -56,6 +63,9 @@ public class ClassValueProvider implements FallbackValueProvider {
         var returnValue = provideBuilderCreationMethodAsValue(fieldType.asElement(), metadata);
         if (!returnValue.equals(DEFAULT_VALUE)) return returnValue;
 
+        returnValue = this.fixtureReferenceValueProvider.provideValueAsString(field, metadata);
+        if (!returnValue.equals(DEFAULT_VALUE)) return returnValue;
+
         returnValue = this.builderValueProvider.provideValueAsString(field, metadata);
         if (!returnValue.equals(DEFAULT_VALUE)) return returnValue;
 
@@ -65,8 +75,8 @@ public class ClassValueProvider implements FallbackValueProvider {
         return this.constructorValueProvider.provideValueAsString(field, metadata);
     }
 
-    private static String provideBuilderCreationMethodAsValue(Element declaredElement, TypeMetadata metadata) {
-        return Arrays.stream(declaredElement.getAnnotationsByType(FixtureBuilder.class))
+    private String provideBuilderCreationMethodAsValue(Element declaredElement, TypeMetadata metadata) {
+        return Arrays.stream(memberIndex.getAnnotationsByType(declaredElement, FixtureBuilder.class))
                 .max(comparing(annotation -> annotation.usedSetters().length))
                 .map(firstBuilder -> "%sFixture.%s()%s".formatted(
                         metadata.getQualifiedClassNameWithoutGeneric(),
@@ -75,8 +85,8 @@ public class ClassValueProvider implements FallbackValueProvider {
                 .orElse(DEFAULT_VALUE);
     }
 
-    private static String provideConstructorCreationMethodAsValue(Element declaredElement, TypeMetadata metadata) {
-        return Arrays.stream(declaredElement.getAnnotationsByType(FixtureConstructor.class))
+    private String provideConstructorCreationMethodAsValue(Element declaredElement, TypeMetadata metadata) {
+        return Arrays.stream(memberIndex.getAnnotationsByType(declaredElement, FixtureConstructor.class))
                 .max(comparing(annotation -> annotation.constructorParameters().length))
                 .map(firstBuilder -> "%sFixture.%s()".formatted(metadata.getQualifiedClassNameWithoutGeneric(), firstBuilder.methodName()))
                 .orElse(DEFAULT_VALUE);
@@ -1,5 +1,6 @@
 package de.floydkretschmar.fixturize.stategies.value.providers.fallback;
 
+import de.floydkretschmar.fixturize.stategies.metadata.TypeMemberIndex;
 import de.floydkretschmar.fixturize.stategies.metadata.TypeMetadata;
 import de.floydkretschmar.fixturize.stategies.metadata.VariableElementMetadata;
 import de.floydkretschmar.fixturize.stategies.value.ValueProviderService;
@@ -11,31 +12,31 @@ import lombok.RequiredArgsConstructor;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.type.DeclaredType;
-import javax.lang.model.util.ElementFilter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
-import static java.util.Comparator.comparing;
-import static javax.lang.model.element.Modifier.PUBLIC;
 
 @RequiredArgsConstructor
 public class ConstructorValueProvider implements ValueProvider {
 
     private final ValueProviderService valueProviderService;
+
+    private final TypeMemberIndex memberIndex;
+
     @Override
     public String provideValueAsString(Element element, TypeMetadata metadata) {
         final var elementTypeElement = ((DeclaredType) element.asType()).asElement();
-        final var fields = metadata.createVariableElementMetadata(ElementFilter.fieldsIn(elementTypeElement.getEnclosedElements()));
+        final var fields = metadata.createVariableElementMetadata(memberIndex.getFields(elementTypeElement));
         final var constructorName = getConstructorName(metadata);
 
-        if (Objects.nonNull(elementTypeElement.getAnnotation(AllArgsConstructor.class))) {
+        if (memberIndex.hasAnnotation(elementTypeElement, AllArgsConstructor.class)) {
             return createConstructorValue(
                     constructorName,
                     fields.stream().map(VariableElementMetadata::getTypedElement).toList(),
                     valueProviderService);
-        } else if (Objects.nonNull(elementTypeElement.getAnnotation(RequiredArgsConstructor.class))) {
+        } else if (memberIndex.hasAnnotation(elementTypeElement, RequiredArgsConstructor.class)) {
             final var requiredFields = fields.stream()
                     .filter(field -> field.getModifiers().contains(Modifier.FINAL) && Objects.isNull(field.getConstantValue()))
                     .map(VariableElementMetadata::getTypedElement)
@@ -44,20 +45,19 @@ public class ConstructorValueProvider implements ValueProvider {
                     constructorName,
                     requiredFields,
                     valueProviderService);
-        } else if (Objects.nonNull(elementTypeElement.getAnnotation(NoArgsConstructor.class))) {
+        } else if (memberIndex.hasAnnotation(elementTypeElement, NoArgsConstructor.class)) {
             return createConstructorValue(
                     constructorName,
                     new ArrayList<>(),
                     valueProviderService);
         }
 
-        return providePublicConstructorAsValue(elementTypeElement, metadata, valueProviderService);
+        return providePublicConstructorAsValue(elementTypeElement, metadata);
     }
 
-    private static String providePublicConstructorAsValue(Element declaredElement, TypeMetadata metadata, ValueProviderService valueProviderService) {
-        final var mostParametersConstructor = ElementFilter.constructorsIn(declaredElement.getEnclosedElements()).stream()
-                .filter(constructor -> constructor.getModifiers().contains(PUBLIC))
-                .max(comparing(constructor -> constructor.getParameters().size()))
+    private String providePublicConstructorAsValue(Element declaredElement, TypeMetadata metadata) {
+        final var mostParametersConstructor = memberIndex.getPublicConstructors(declaredElement).stream()
+                .findFirst()
                 .orElse(null);
         if (Objects.isNull(mostParametersConstructor)) return DEFAULT_VALUE;
 
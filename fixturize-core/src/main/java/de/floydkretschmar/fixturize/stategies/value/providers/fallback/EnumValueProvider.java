@@ -1,10 +1,11 @@
 package de.floydkretschmar.fixturize.stategies.value.providers.fallback;
 
+import de.floydkretschmar.fixturize.stategies.metadata.TypeMemberIndex;
 import de.floydkretschmar.fixturize.stategies.metadata.TypeMetadata;
 import de.floydkretschmar.fixturize.stategies.value.providers.FallbackValueProvider;
+import lombok.RequiredArgsConstructor;
 
 import javax.lang.model.element.Element;
-import javax.lang.model.element.ElementKind;
 import javax.lang.model.type.DeclaredType;
 
 import static javax.lang.model.element.ElementKind.ENUM;
@@ -13,8 +14,11 @@ import static javax.lang.model.type.TypeKind.DECLARED;
 /**
  * Default value provider for enums.
  */
+@RequiredArgsConstructor
 public class EnumValueProvider implements FallbackValueProvider {
 
+    private final TypeMemberIndex memberIndex;
+
     @Override
     public boolean canProvideFallback(Element element, TypeMetadata metadata) {
         final var type = element.asType();
@@ -30,8 +34,7 @@ public class EnumValueProvider implements FallbackValueProvider {
     public String provideValueAsString(Element field, TypeMetadata metadata) {
         final var fieldType = field.asType();
         final var declaredElement = ((DeclaredType) fieldType).asElement();
-        final var firstEnumElement = declaredElement.getEnclosedElements().stream()
-                .filter(element -> element.getKind().equals(ElementKind.ENUM_CONSTANT))
+        final var firstEnumElement = memberIndex.getEnumConstants(declaredElement).stream()
                 .map(Object::toString)
                 .findFirst();
 
@@ -0,0 +1,83 @@
+package de.floydkretschmar.fixturize.stategies.value.providers.fallback;
+
+import de.floydkretschmar.fixturize.annotations.Fixture;
+import de.floydkretschmar.fixturize.stategies.metadata.TypeMemberIndex;
+import de.floydkretschmar.fixturize.stategies.metadata.TypeMetadata;
+import de.floydkretschmar.fixturize.stategies.value.providers.ValueProvider;
+import lombok.RequiredArgsConstructor;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.type.DeclaredType;
+import java.util.Objects;
+
+import static javax.lang.model.type.TypeKind.DECLARED;
+
+/**
+ * Provides a call to the default creation method of the fixture generated for the type of an element. Only types
+ * annotated with {@link Fixture} whose {@link Fixture#genericImplementations()} match the generics of the element can
+ * be referenced, for all other types {@link ValueProvider#DEFAULT_VALUE} is returned.
+ * <br><br>
+ * A fixture never references itself or the fixture of a type from which its own type is reachable (see
+ * {@link TypeMemberIndex#getReachableTypes(Element)}). The static initializers of both fixtures could otherwise call
+ * each other, so that one of them reads constants that are still null, or deadlock if both classes are initialized
+ * by different threads at the same time. Such types are inlined or cut off instead.
+ *
+ * @author Floyd Kretschmar
+ */
+@RequiredArgsConstructor
+public class FixtureReferenceValueProvider implements ValueProvider {
+
+    private final TypeMemberIndex memberIndex;
+
+    /**
+     * The qualified class name of the type for which the referencing fixture is generated.
+     */
+    private final String rootType;
+
+    /**
+     * Returns the name of the default creation method generated for the fixture of the specified type.
+     *
+     * @param metadata - of the type
+     * @return the name of the default creation method
+     */
+    public static String getDefaultCreationMethodName(TypeMetadata metadata) {
+        return "create%s".formatted(metadata.getSimpleClassNameWithoutGeneric());
+    }
+
+    @Override
+    public String provideValueAsString(Element field, TypeMetadata metadata) {
+        if (!canReferenceFixture(field, metadata))
+            return DEFAULT_VALUE;
+
+        return "%s.%s()".formatted(metadata.getQualifiedFixtureClassName(), getDefaultCreationMethodName(metadata));
+    }
+
+    /**
+     * Returns whether a fixture has been generated for the type of the specified element that creates instances with the
+     * same generics as the element and whose initialization can not depend on the referencing fixture.
+     *
+     * @param field    - whose type is checked
+     * @param metadata - of the type
+     * @return true, if the fixture of the type can be referenced, otherwise false
+     */
+    public boolean canReferenceFixture(Element field, TypeMetadata metadata) {
+        final var type = field.asType();
+        final var rootTypeWithoutGeneric = getRootTypeWithoutGeneric();
+        if (type.getKind() != DECLARED || metadata.getQualifiedClassNameWithoutGeneric().equals(rootTypeWithoutGeneric))
+            return false;
+
+        final var typeElement = ((DeclaredType) type).asElement();
+        final var fixtures = memberIndex.getAnnotationsByType(typeElement, Fixture.class);
+        if (Objects.isNull(fixtures) || fixtures.length == 0 || memberIndex.getReachableTypes(typeElement).contains(rootTypeWithoutGeneric))
+            return false;
+
+        final var genericImplementations = fixtures[0].genericImplementations();
+        final var genericPart = genericImplementations.length == 0 ? "" : "<%s>".formatted(String.join(", ", genericImplementations));
+        return genericPart.equals(metadata.getGenericPart());
+    }
+
+    private String getRootTypeWithoutGeneric() {
+        final var genericStart = rootType.indexOf('<');
+        return genericStart < 0 ? rootType : rootType.substring(0, genericStart);
+    }
+}
@@ -0,0 +1,224 @@
+package de.floydkretschmar.fixturize.statistics;
+
+import de.floydkretschmar.fixturize.stategies.value.providers.ValueProvider;
+import lombok.RequiredArgsConstructor;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Records timers and counters while fixtures are generated, so that the cost of the individual phases of the
+ * annotation processor can be analyzed. If disabled, nothing is recorded and no time is measured. All recording methods
+ * are thread safe, because fixture models can be created on a pool of threads.
+ *
+ * @author Floyd Kretschmar
+ */
+@RequiredArgsConstructor
+public class ProcessingStatistics {
+    /**
+     * The name used for value providers that have been defined as javascript callbacks.
+     */
+    static final String JAVASCRIPT_VALUE_PROVIDER = "javascript";
+
+    /**
+     * Whether statistics are actually recorded.
+     */
+    private final boolean enabled;
+
+    private final Map<String, Long> phaseNanos = new TreeMap<>();
+
+    private final Map<String, Long> counters = new TreeMap<>();
+
+    private final Map<String, Long> providerCalls = new TreeMap<>();
+
+    private final Map<String, Long> providerNanos = new TreeMap<>();
+
+    private final Map<Integer, Long> resolutionDepths = new TreeMap<>();
+
+    private final Map<String, Long> fixtureNanos = new LinkedHashMap<>();
+
+    /**
+     * The time spent in nested value provider calls for every value provider call that is currently running on the
+     * current thread.
+     */
+    private final ThreadLocal<Deque<Long>> nestedProviderNanos = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Returns whether statistics are recorded.
+     *
+     * @return true, if statistics are recorded, otherwise false
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the start time of a timer that is stopped by one of the recording methods.
+     *
+     * @return the current time in nanoseconds or 0, if statistics are disabled
+     */
+    public long startTimer() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Adds the time elapsed since the specified start to the specified phase and to the wall time of the fixture.
+     *
+     * @param phase   - the name of the phase that has been timed
+     * @param fixture - the qualified class name of the fixture for which the phase has been timed
+     * @param start   - as returned by {@link #startTimer()}
+     */
+    public synchronized void stopTimer(String phase, String fixture, long start) {
+        if (!enabled) return;
+
+        final var elapsed = System.nanoTime() - start;
+        phaseNanos.merge(phase, elapsed, Long::sum);
+        fixtureNanos.merge(fixture, elapsed, Long::sum);
+    }
+
+    /**
+     * Adds the specified amount to the specified counter.
+     *
+     * @param counter - the name of the counter
+     * @param amount  - that is added
+     */
+    public synchronized void increment(String counter, long amount) {
+        if (enabled)
+            counters.merge(counter, amount, Long::sum);
+    }
+
+    /**
+     * Returns the start time of a value provider call that is stopped by {@link #recordProviderCall}. Calls have to be
+     * recorded on the thread that started them, in the reverse order in which they have been started.
+     *
+     * @return the current time in nanoseconds or 0, if statistics are disabled
+     */
+    public long startProviderCall() {
+        if (!enabled) return 0;
+
+        nestedProviderNanos.get().push(0L);
+        return System.nanoTime();
+    }
+
+    /**
+     * Records a call of the specified value provider that started at the specified time. Only the self time of the
+     * provider is recorded: the time spent in value providers called by fallback value providers is attributed to the
+     * called providers, so that the times of all providers can be summed up.
+     *
+     * @param valueProvider - that has been called
+     * @param start         - as returned by {@link #startProviderCall()}
+     */
+    public synchronized void recordProviderCall(ValueProvider valueProvider, long start) {
+        if (!enabled) return;
+
+        final var elapsed = System.nanoTime() - start;
+        final var nestedNanos = nestedProviderNanos.get();
+        final var selfNanos = elapsed - nestedNanos.pop();
+        if (!nestedNanos.isEmpty())
+            nestedNanos.push(nestedNanos.pop() + elapsed);
+
+        final var providerName = getProviderName(valueProvider);
+        providerCalls.merge(providerName, 1L, Long::sum);
+        providerNanos.merge(providerName, selfNanos, Long::sum);
+    }
+
+    /**
+     * Records that a nested type has been resolved by fallback value providers at the specified depth below the type of
+     * a fixture.
+     *
+     * @param depth - of the resolved type
+     */
+    public synchronized void recordResolutionDepth(int depth) {
+        if (enabled)
+            resolutionDepths.merge(depth, 1L, Long::sum);
+    }
+
+    /**
+     * Returns a human-readable summary of all recorded statistics.
+     *
+     * @return the summary
+     */
+    public synchronized String createSummary() {
+        return """
+                Fixturize statistics:
+                  phases (ms): %s
+                  counters: %s
+                  value provider calls: %s
+                  value provider self time (ms): %s
+                  resolution depths: %s
+                  slowest fixture: %s"""
+                .formatted(
+                        formatMillis(phaseNanos),
+                        counters,
+                        providerCalls,
+                        formatMillis(providerNanos),
+                        resolutionDepths,
+                        fixtureNanos.entrySet().stream()
+                                .max(Map.Entry.comparingByValue())
+                                .map(entry -> "%s (%s ms)".formatted(entry.getKey(), toMillis(entry.getValue())))
+                                .orElse("-"));
+    }
+
+    /**
+     * Returns all recorded statistics as a JSON object. All times are in milliseconds.
+     *
+     * @return the JSON representation of the statistics
+     */
+    public synchronized String toJson() {
+        final var valueProviders = providerCalls.keySet().stream()
+                .map(name -> "%s: {\"calls\": %d, \"selfTimeMillis\": %s}".formatted(toJsonString(name), providerCalls.get(name), toMillis(providerNanos.get(name))))
+                .collect(Collectors.joining(", ", "{", "}"));
+        return """
+                {
+                  "phasesMillis": %s,
+                  "counters": %s,
+                  "valueProviders": %s,
+                  "resolutionDepths": %s,
+                  "fixturesMillis": %s
+                }
+                """.formatted(
+                toJsonObject(phaseNanos, ProcessingStatistics::toMillis),
+                toJsonObject(counters, String::valueOf),
+                valueProviders,
+                toJsonObject(resolutionDepths, String::valueOf),
+                toJsonObject(fixtureNanos, ProcessingStatistics::toMillis));
+    }
+
+    private static String getProviderName(ValueProvider valueProvider) {
+        final var providerClass = valueProvider.getClass();
+        if (Proxy.isProxyClass(providerClass))
+            return JAVASCRIPT_VALUE_PROVIDER;
+
+        final var providerName = providerClass.getName();
+        final var lambdaIndex = providerName.indexOf("$$Lambda");
+        return lambdaIndex < 0 ? providerName : providerName.substring(0, lambdaIndex + "$$Lambda".length());
+    }
+
+    private static <K> String toJsonObject(Map<K, Long> values, Function<Long, String> formatter) {
+        return values.entrySet().stream()
+                .map(entry -> "%s: %s".formatted(toJsonString(String.valueOf(entry.getKey())), formatter.apply(entry.getValue())))
+                .collect(Collectors.joining(", ", "{", "}"));
+    }
+
+    private static String toJsonString(String value) {
+        return "\"%s\"".formatted(value.replace("\\", "\\\\").replace("\"", "\\\""));
+    }
+
+    private static Map<String, String> formatMillis(Map<String, Long> nanos) {
+        final var millis = new LinkedHashMap<String, String>();
+        nanos.forEach((name, value) -> millis.put(name, toMillis(value)));
+        return millis;
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -2,7 +2,9 @@ package de.floydkretschmar.fixturize;
 
 import org.junit.jupiter.api.Test;
 
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -95,4 +97,42 @@ class ElementUtilsTest {
                 Map.entry("uuidField", Optional.empty())
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void indexSettersByFieldName_whenCalled_IndexSettersByFieldNameWithoutPrefix() {
+        final var returnType = createDeclaredTypeFixture("TestBuilder", CLASS);
+        final var plainSetter = createSetterFixture("plainField", returnType);
+        final var setSetter = createSetterFixture("setSetField", returnType);
+        final var withSetter = createSetterFixture("withWithField", returnType);
+        final var declaredType = createDeclaredTypeFixture("Type", CLASS, plainSetter, setSetter, withSetter);
+
+        final var result = ElementUtils.indexSettersByFieldName(declaredType.asElement(), returnType, PUBLIC);
+
+        assertThat(ElementUtils.findSetterForField(result, "plainField")).contains(plainSetter);
+        assertThat(ElementUtils.findSetterForField(result, "setField")).contains(setSetter);
+        assertThat(ElementUtils.findSetterForField(result, "WITHFIELD")).contains(withSetter);
+        assertThat(ElementUtils.findSetterForField(result, "field")).isEmpty();
+    }
+
+    @Test
+    void indexSettersByFieldName_whenMethodNameMatchesFieldExactly_PreferExactMatchOverPrefixedMatch() {
+        final var returnType = createDeclaredTypeFixture("TestBuilder", CLASS);
+        final var prefixedSetter = createSetterFixture("setUp", returnType);
+        final var exactSetter = createSetterFixture("up", returnType);
+        final var firstSetter = createSetterFixture("setName", returnType);
+        final var secondSetter = createSetterFixture("withName", returnType);
+        final var declaredType = createDeclaredTypeFixture("Type", CLASS, prefixedSetter, exactSetter, firstSetter, secondSetter);
+
+        final var result = ElementUtils.indexSettersByFieldName(declaredType.asElement(), returnType, PUBLIC);
+
+        assertThat(ElementUtils.findSetterForField(result, "up")).contains(exactSetter);
+        assertThat(ElementUtils.findSetterForField(result, "setUp")).contains(prefixedSetter);
+        assertThat(ElementUtils.findSetterForField(result, "name")).contains(firstSetter);
+    }
+
+    private static ExecutableElement createSetterFixture(String name, DeclaredType returnType) {
+        final var setter = createExecutableElementFixture(name, METHOD, returnType, PUBLIC);
+        when(setter.getParameters()).thenReturn((List) List.of(mock(VariableElement.class)));
+        return setter;
+    }
+}
@@ -1,18 +1,30 @@
 package de.floydkretschmar.fixturize;
 
 import com.google.common.io.Resources;
+import com.google.testing.compile.Compilation;
 import com.google.testing.compile.JavaFileObjects;
+import de.floydkretschmar.fixturize.exceptions.FixtureCreationException;
 import lombok.SneakyThrows;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mockito;
 
 import javax.annotation.processing.Processor;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -20,6 +32,7 @@ import java.util.stream.Stream;
 import static com.google.testing.compile.CompilationSubject.assertThat;
 import static com.google.testing.compile.Compiler.javac;
 import static de.floydkretschmar.fixturize.TestFixtures.RANDOM_UUID;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class FixtureProcessorTest {
     public static Stream<Arguments> process_getParameters() {
@@ -48,6 +61,10 @@ class FixtureProcessorTest {
                         "classes/CustomValueProviderClass.java",
                         "de.floydkretschmar.fixturize.mocks.CustomValueProviderClassFixture",
                         "fixtures/CustomValueProviderClassFixture.java"),
+                Arguments.of(
+                        "classes/JavaValueProviderClass.java",
+                        "de.floydkretschmar.fixturize.mocks.JavaValueProviderClassFixture",
+                        "fixtures/JavaValueProviderClassFixture.java"),
                 Arguments.of(
                         "classes/BuilderClass.java",
                         "de.floydkretschmar.fixturize.mocks.BuilderClassFixture",
@@ -71,6 +88,16 @@ class FixtureProcessorTest {
         }
     }
 
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({"classes/value-providers/AmbiguousValueProviderClass.java", "classes/value-providers/MissingValueProviderClass.java"})
+    void process_whenValueProviderDoesNotDefineExactlyOneProvider_throwFixtureCreationException(String classPath) {
+        final var exception = assertThrows(RuntimeException.class, () -> compile(List.of(classPath)));
+
+        Assertions.assertThat(exception).rootCause()
+                .isInstanceOf(FixtureCreationException.class)
+                .hasMessage("The value provider for target type java.lang.String has to define exactly one of valueProviderCallback or providerClass.");
+    }
+
     @Test
     void process_whenFixtureIsCrossReferencing_generateFixtureClass() {
         final var expectedFixture = loadExpectedFixture("fixtures/cross-referencing/CrossReferencingClassFixture.java");
@@ -93,27 +120,363 @@ class FixtureProcessorTest {
         }
     }
 
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({"NULL,fixtures/cyclic/null", "FIXTURE_REFERENCE,fixtures/cyclic/fixture-reference"})
+    void process_whenFixturesAreCyclic_cutOffCycles(String cutOffStrategy, String expectedFixturePath) {
+        assertCompiledClasses(
+                List.of("classes/cyclic/CyclicCustomer.java", "classes/cyclic/CyclicOrder.java"),
+                Map.of(
+                        "de.floydkretschmar.fixturize.mocks.CyclicCustomerFixture", loadExpectedFixture(expectedFixturePath + "/CyclicCustomerFixture.java"),
+                        "de.floydkretschmar.fixturize.mocks.CyclicOrderFixture", loadExpectedFixture(expectedFixturePath + "/CyclicOrderFixture.java")),
+                "-A%s=%s".formatted(ProcessorOptions.CUT_OFF_STRATEGY, cutOffStrategy));
+    }
+
+    @Test
+    void process_whenFixtureReferencesAreEnabled_referenceOtherFixtures() {
+        assertCompiledClasses(
+                List.of(
+                        "classes/fixture-references/ReferencingClass.java",
+                        "classes/fixture-references/ReferencedClass.java",
+                        "classes/fixture-references/ReferencedGenericClass.java"),
+                Map.of(
+                        "de.floydkretschmar.fixturize.mocks.ReferencingClassFixture", loadExpectedFixture("fixtures/fixture-references/ReferencingClassFixture.java"),
+                        "de.floydkretschmar.fixturize.mocks.ReferencedClassFixture", loadExpectedFixture("fixtures/fixture-references/ReferencedClassFixture.java"),
+                        "de.floydkretschmar.fixturize.mocks.ReferencedGenericClassFixture", loadExpectedFixture("fixtures/fixture-references/ReferencedGenericClassFixture.java")),
+                "-A%s=true".formatted(ProcessorOptions.FIXTURE_REFERENCES));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({"NULL", "FIXTURE_REFERENCE"})
+    void process_whenFixtureReferencesAreTwoWay_inlineReferencesBackToTheFixture(String cutOffStrategy) {
+        assertCompiledClasses(
+                List.of("classes/two-way/TwoWayParent.java", "classes/two-way/TwoWayChild.java", "classes/two-way/TwoWayToy.java"),
+                Map.of(
+                        "de.floydkretschmar.fixturize.mocks.TwoWayParentFixture", loadExpectedFixture("fixtures/two-way/TwoWayParentFixture.java"),
+                        "de.floydkretschmar.fixturize.mocks.TwoWayChildFixture", loadExpectedFixture("fixtures/two-way/TwoWayChildFixture.java")),
+                "-A%s=true".formatted(ProcessorOptions.FIXTURE_REFERENCES),
+                "-A%s=%s".formatted(ProcessorOptions.CUT_OFF_STRATEGY, cutOffStrategy));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({"true", "false"})
+    void process_whenMutualReferenceIsBehindAnotherFixture_neverReferenceFixtureFromItsOwnInitializer(boolean valueCache) {
+        assertCompiledClasses(
+                List.of("classes/cached-references/Zoo.java", "classes/cached-references/Keeper.java", "classes/cached-references/Animal.java"),
+                Map.of(
+                        "de.floydkretschmar.fixturize.mocks.ZooFixture", loadExpectedFixture("fixtures/cached-references/ZooFixture.java"),
+                        "de.floydkretschmar.fixturize.mocks.KeeperFixture", loadExpectedFixture("fixtures/cached-references/KeeperFixture.java"),
+                        "de.floydkretschmar.fixturize.mocks.AnimalFixture", loadExpectedFixture("fixtures/cached-references/AnimalFixture.java")),
+                "-A%s=true".formatted(ProcessorOptions.FIXTURE_REFERENCES),
+                "-A%s=%s".formatted(ProcessorOptions.VALUE_CACHE, valueCache));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({"true", "false"})
+    void process_whenCachedValueWasResolvedAtLowerDepth_generateSameFixturesAsWithoutCache(boolean valueCache) {
+        assertCompiledClasses(
+                List.of("classes/cached-depth/Warehouse.java", "classes/cached-depth/Shelf.java", "classes/cached-depth/Crate.java", "classes/cached-depth/Parcel.java"),
+                Map.of("de.floydkretschmar.fixturize.mocks.WarehouseFixture", loadExpectedFixture("fixtures/cached-depth/WarehouseFixture.java")),
+                "-A%s=2".formatted(ProcessorOptions.MAX_DEPTH),
+                "-A%s=%s".formatted(ProcessorOptions.VALUE_CACHE, valueCache));
+    }
+
+    @Test
+    void process_whenLazyConstantsAreEnabled_initializeExpensiveConstantsOnDemand() {
+        assertCompiledClasses(
+                List.of(
+                        "classes/fixture-references/ReferencingClass.java",
+                        "classes/fixture-references/ReferencedClass.java",
+                        "classes/fixture-references/ReferencedGenericClass.java"),
+                Map.of(
+                        "de.floydkretschmar.fixturize.mocks.ReferencingClassFixture", loadExpectedFixture("fixtures/lazy-constants/ReferencingClassFixture.java"),
+                        "de.floydkretschmar.fixturize.mocks.ReferencedClassFixture", loadExpectedFixture("fixtures/fixture-references/ReferencedClassFixture.java"),
+                        "de.floydkretschmar.fixturize.mocks.ReferencedGenericClassFixture", loadExpectedFixture("fixtures/fixture-references/ReferencedGenericClassFixture.java")),
+                "-A%s=true".formatted(ProcessorOptions.FIXTURE_REFERENCES),
+                "-A%s=true".formatted(ProcessorOptions.LAZY_CONSTANTS));
+    }
+
+    @Test
+    void process_whenFinalConstantsAreEnabled_declareImmutableConstantsFinal() {
+        final var uuid = UUID.fromString(RANDOM_UUID);
+        try (final var uuidStatic = Mockito.mockStatic(UUID.class)) {
+            uuidStatic.when(UUID::randomUUID).thenReturn(uuid);
+            assertCompiledClasses(
+                    List.of("classes/SupportedTypesClass.java"),
+                    Map.of("de.floydkretschmar.fixturize.mocks.SupportedTypesClassFixture", loadExpectedFixture("fixtures/final-constants/SupportedTypesClassFixture.java")),
+                    "-A%s=true".formatted(ProcessorOptions.FINAL_CONSTANTS));
+        }
+    }
+
+    @Test
+    void process_whenDeterministicIsEnabled_generateValuesIdenticalAcrossBuilds() {
+        assertCompiledClasses(
+                List.of("classes/SupportedTypesClass.java"),
+                Map.of("de.floydkretschmar.fixturize.mocks.SupportedTypesClassFixture", loadExpectedFixture("fixtures/deterministic/SupportedTypesClassFixture.java")),
+                "-A%s=true".formatted(ProcessorOptions.DETERMINISTIC));
+    }
+
+    @ParameterizedTest(name = "valueCache={0}")
+    @CsvSource({"true", "false"})
+    void process_whenParallelismIsConfigured_generateSameFixturesAsOnProcessorThread(boolean valueCache) {
+        final var classPaths = List.of(
+                "classes/SupportedTypesClass.java",
+                "classes/CustomValueProviderClass.java",
+                "classes/JavaValueProviderClass.java",
+                "classes/cross-referencing/CrossReferencingClass.java",
+                "classes/cross-referencing/CrossReferencedClass.java",
+                "classes/SingleConstructorClass.java",
+                "classes/cross-referencing/CrossReferencedBuilderClass.java",
+                "classes/cross-referencing/CrossReferencedLombokClass.java",
+                "classes/cross-referencing/CrossReferencedGenericClass.java",
+                "classes/cross-referencing/CrossReferencedConstructorClass.java",
+                "classes/cyclic/CyclicCustomer.java",
+                "classes/cyclic/CyclicOrder.java");
+        final var deterministicOption = "-A%s=true".formatted(ProcessorOptions.DETERMINISTIC);
+        final var valueCacheOption = "-A%s=%s".formatted(ProcessorOptions.VALUE_CACHE, valueCache);
+
+        final var sequentialCompilation = compile(classPaths, deterministicOption, valueCacheOption);
+        final var parallelCompilation = compile(classPaths, deterministicOption, valueCacheOption, "-A%s=4".formatted(ProcessorOptions.PARALLELISM));
+        assertThat(sequentialCompilation).succeeded();
+        assertThat(parallelCompilation).succeeded();
+
+        final var sequentialFixtures = getGeneratedSources(sequentialCompilation);
+        Assertions.assertThat(sequentialFixtures).hasSize(classPaths.size() - 1);
+        Assertions.assertThat(getGeneratedSources(parallelCompilation)).isEqualTo(sequentialFixtures);
+    }
+
+    @Test
+    void process_whenBulkAndStreamCreationMethodsAreEnabled_generateBulkCreationMethods() {
+        final var uuid = UUID.fromString(RANDOM_UUID);
+        try (final var uuidStatic = Mockito.mockStatic(UUID.class)) {
+            uuidStatic.when(UUID::randomUUID).thenReturn(uuid);
+            assertCompiledClasses(
+                    List.of("classes/CustomConstantDefinitionsClass.java"),
+                    Map.of("de.floydkretschmar.fixturize.mocks.CustomConstantDefinitionsClassFixture", loadExpectedFixture("fixtures/bulk-creation-methods/CustomConstantDefinitionsClassFixture.java")),
+                    "-A%s=true".formatted(ProcessorOptions.BULK_CREATION_METHODS),
+                    "-A%s=true".formatted(ProcessorOptions.STREAM_CREATION_METHODS));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void process_whenStreamCreationMethodsAreEnabled_createDisjointInstancesForDifferentSeeds() {
+        final var compilation = compile(List.of("classes/CustomConstantDefinitionsClass.java"), "-A%s=true".formatted(ProcessorOptions.STREAM_CREATION_METHODS));
+        assertThat(compilation).succeeded();
+
+        final var fixtureClass = new CompiledClassLoader(compilation).loadClass("de.floydkretschmar.fixturize.mocks.CustomConstantDefinitionsClassFixture");
+        final var streamMethod = fixtureClass.getMethod("createCustomConstantFixtureStream", long.class, long.class);
+        final var firstSeedValues = getStringFields((Stream<?>) streamMethod.invoke(null, 1000L, 0L));
+        final var secondSeedValues = getStringFields((Stream<?>) streamMethod.invoke(null, 1000L, 1L));
+
+        Assertions.assertThat(firstSeedValues).hasSize(1000).doesNotContainAnyElementsOf(secondSeedValues);
+        Assertions.assertThat(secondSeedValues).hasSize(1000);
+        Assertions.assertThat(getStringFields((Stream<?>) streamMethod.invoke(null, 1000L, 0L))).isEqualTo(firstSeedValues);
+    }
+
+    @Test
+    @SneakyThrows
+    void process_whenStreamCreationMethodsAreEnabled_createUniqueIntValuesForLargeCounts() {
+        final var compilation = compile(List.of("classes/CustomConstantDefinitionsClass.java"), "-A%s=true".formatted(ProcessorOptions.STREAM_CREATION_METHODS));
+        assertThat(compilation).succeeded();
+
+        final var fixtureClass = new CompiledClassLoader(compilation).loadClass("de.floydkretschmar.fixturize.mocks.CustomConstantDefinitionsClassFixture");
+        final var streamMethod = fixtureClass.getMethod("createCustomConstantFixtureStream", long.class, long.class);
+        final var intValues = ((Stream<?>) streamMethod.invoke(null, 100000L, 42L))
+                .map(instance -> getField(instance, "intField"))
+                .collect(Collectors.toSet());
+        final var stringValues = getStringFields((Stream<?>) streamMethod.invoke(null, 100000L, 42L));
+
+        Assertions.assertThat(intValues).hasSize(100000);
+        Assertions.assertThat(stringValues).hasSize(100000).noneMatch(value -> value.toString().contains("_-"));
+    }
+
+    @Test
+    void process_whenArraysAreConfigured_generateFilledArrays() {
+        assertCompiledClasses(
+                List.of("classes/arrays/ArrayClass.java"),
+                Map.of("de.floydkretschmar.fixturize.mocks.ArrayClassFixture", loadExpectedFixture("fixtures/arrays/ArrayClassFixture.java")));
+    }
+
+    @Test
+    void process_whenFilledArrayIsCreatedAnewInBulkCreationMethods_generateCompilableFixture() {
+        assertCompiledClasses(
+                List.of("classes/arrays/NewArrayClass.java"),
+                Map.of("de.floydkretschmar.fixturize.mocks.NewArrayClassFixture", loadExpectedFixture("fixtures/arrays/NewArrayClassFixture.java")),
+                "-A%s=true".formatted(ProcessorOptions.BULK_CREATION_METHODS),
+                "-A%s=true".formatted(ProcessorOptions.STREAM_CREATION_METHODS));
+    }
+
+    @Test
+    void process_whenSharingPoliciesAreDefined_shareNestedValuesInBulkCreationMethods() {
+        assertCompiledClasses(
+                List.of("classes/sharing/Customer.java", "classes/sharing/Address.java", "classes/sharing/Item.java", "classes/sharing/Order.java"),
+                Map.of("de.floydkretschmar.fixturize.mocks.OrderFixture", loadExpectedFixture("fixtures/sharing/OrderFixture.java")),
+                "-A%s=true".formatted(ProcessorOptions.FIXTURE_REFERENCES),
+                "-A%s=true".formatted(ProcessorOptions.BULK_CREATION_METHODS));
+    }
+
+    @Test
+    void process_whenPooledValuesDoNotReferenceFixtures_varyPooledValuesByTheirPosition() {
+        assertCompiledClasses(
+                List.of("classes/sharing/Ticket.java"),
+                Map.of("de.floydkretschmar.fixturize.mocks.TicketFixture", loadExpectedFixture("fixtures/sharing/TicketFixture.java")),
+                "-A%s=true".formatted(ProcessorOptions.BULK_CREATION_METHODS));
+    }
+
+    @Test
+    void process_whenPoolConstantClashesWithFieldConstant_throwFixtureCreationException() {
+        final var exception = assertThrows(RuntimeException.class, () -> compile(
+                List.of("classes/sharing/ClashingPoolTicket.java"),
+                "-A%s=true".formatted(ProcessorOptions.BULK_CREATION_METHODS)));
+
+        Assertions.assertThat(exception).rootCause()
+                .isInstanceOf(FixtureCreationException.class)
+                .hasMessage("The constant SEAT_POOL generated for class de.floydkretschmar.fixturize.mocks.ClashingPoolTicket clashes with another constant of its fixture. Rename the field or the constant defined by FixtureConstant.");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({"ClashingSeedClass,RANDOM_SEED", "ClashingEnumValuesClass,JAVA_TIME_DAY_OF_WEEK_VALUES"})
+    void process_whenGeneratedRandomConstantClashesWithFieldConstant_throwFixtureCreationException(String className, String constantName) {
+        final var exception = assertThrows(RuntimeException.class, () -> compile(
+                List.of("classes/random-values/%s.java".formatted(className)),
+                "-A%s=true".formatted(ProcessorOptions.RANDOM_CREATION_METHODS)));
+
+        Assertions.assertThat(exception).rootCause()
+                .isInstanceOf(FixtureCreationException.class)
+                .hasMessage("The constant %s generated for class de.floydkretschmar.fixturize.mocks.%s clashes with another constant of its fixture. Rename the field or the constant defined by FixtureConstant."
+                        .formatted(constantName, className));
+    }
+
+    @Test
+    void process_whenRandomCreationMethodsAreEnabled_generateRandomCreationMethods() {
+        final var uuid = UUID.fromString(RANDOM_UUID);
+        try (final var uuidStatic = Mockito.mockStatic(UUID.class)) {
+            uuidStatic.when(UUID::randomUUID).thenReturn(uuid);
+            assertCompiledClasses(
+                    List.of("classes/random-values/RandomValuesClass.java"),
+                    Map.of("de.floydkretschmar.fixturize.mocks.RandomValuesClassFixture", loadExpectedFixture("fixtures/random-values/RandomValuesClassFixture.java")),
+                    "-A%s=true".formatted(ProcessorOptions.RANDOM_CREATION_METHODS));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void process_whenCacheDirectoryContainsFixture_writeCachedFixture(@TempDir Path cacheDirectory) {
+        final var cacheOption = "-A%s=%s".formatted(ProcessorOptions.CACHE_DIRECTORY, cacheDirectory);
+        final var classPaths = List.of("classes/cyclic/CyclicCustomer.java", "classes/cyclic/CyclicOrder.java");
+        final var firstCompilation = compile(classPaths, cacheOption);
+        assertThat(firstCompilation).succeeded();
+        assertThat(firstCompilation).hadNoteContaining("Fixturize reused 0 of 2 fixtures");
+
+        final List<Path> cachedFixtures;
+        try (final var files = Files.list(cacheDirectory)) {
+            cachedFixtures = files.toList();
+        }
+        Assertions.assertThat(cachedFixtures).hasSize(2);
+        for (Path cachedFixture : cachedFixtures) {
+            Files.writeString(cachedFixture, Files.readString(cachedFixture).replace("public class", "// cached\npublic class"));
+        }
+
+        final var secondCompilation = compile(classPaths, cacheOption);
+        assertThat(secondCompilation).succeeded();
+        assertThat(secondCompilation).hadNoteContaining("Fixturize reused 2 of 2 fixtures");
+        assertThat(secondCompilation)
+                .generatedSourceFile("de.floydkretschmar.fixturize.mocks.CyclicCustomerFixture")
+                .contentsAsString(StandardCharsets.UTF_8).contains("// cached");
+
+        final var thirdCompilation = compile(classPaths, cacheOption, "-A%s=FIXTURE_REFERENCE".formatted(ProcessorOptions.CUT_OFF_STRATEGY));
+        assertThat(thirdCompilation).succeeded();
+        assertThat(thirdCompilation).hadNoteContaining("Fixturize reused 0 of 2 fixtures");
+    }
+
+    @Test
+    void process_whenStatsAreEnabled_reportStatistics(@TempDir Path statisticsDirectory) throws IOException {
+        final var statisticsFile = statisticsDirectory.resolve("reports").resolve("fixturize-stats.json");
+        final var compilation = compile(
+                List.of("classes/cyclic/CyclicCustomer.java", "classes/cyclic/CyclicOrder.java"),
+                "-A%s=true".formatted(ProcessorOptions.STATS),
+                "-A%s=%s".formatted(ProcessorOptions.STATS_FILE, statisticsFile));
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation).hadNoteContaining("Fixturize statistics:");
+        Assertions.assertThat(compilation.generatedFiles()).noneMatch(file -> file.getName().endsWith(".json"));
+        Assertions.assertThat(Files.readString(statisticsFile))
+                .contains("\"fixtures\": 2")
+                .contains("\"resolutionDepths\": {\"1\": ")
+                .contains("\"analysis\": ")
+                .contains("\"writing\": ")
+                .contains("\"selfTimeMillis\": ");
+    }
+
     @SneakyThrows
     private static String loadExpectedFixture(String expectedFixtureClassPath) {
         final var url = Resources.getResource(expectedFixtureClassPath);
         return Resources.toString(url, StandardCharsets.UTF_8).replaceAll("\\r\\n?", System.lineSeparator());
     }
 
+    private void assertCompiledClasses(List<String> classPaths, Map<String, String> expectedFixture, String... options) {
+        final var compilation = compile(classPaths, options);
+        assertThat(compilation).succeeded();
+
+        expectedFixture.forEach((expectedFixtureName, expectedFixtureValue) -> assertThat(compilation)
+                .generatedSourceFile(expectedFixtureName)
+                .contentsAsString(StandardCharsets.UTF_8).isEqualTo(expectedFixtureValue));
+    }
+
     @SneakyThrows
-    private void assertCompiledClasses(List<String> classPaths, Map<String, String> expectedFixture) {
+    private static Map<String, String> getGeneratedSources(Compilation compilation) {
+        final var generatedSources = new TreeMap<String, String>();
+        for (JavaFileObject generatedSource : compilation.generatedSourceFiles()) {
+            generatedSources.put(generatedSource.getName(), generatedSource.getCharContent(true).toString());
+        }
+        return generatedSources;
+    }
+
+    private static Set<Object> getStringFields(Stream<?> instances) {
+        return instances.map(instance -> getField(instance, "stringField")).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    @SneakyThrows
+    private static Object getField(Object instance, String fieldName) {
+        final var field = instance.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field.get(instance);
+    }
+
+    @SneakyThrows
+    private Compilation compile(List<String> classPaths, String... options) {
         final var lombokAnnotationProcessor = getClass().getClassLoader().loadClass("lombok.launch.AnnotationProcessorHider$AnnotationProcessor");
         final var lombokClaimingProcessor = getClass().getClassLoader().loadClass("lombok.launch.AnnotationProcessorHider$ClaimingProcessor");
 
-        final var compilation = javac()
+        return javac()
                 .withProcessors(
                         new FixtureProcessor(),
                         (Processor) lombokAnnotationProcessor.getDeclaredConstructor().newInstance(),
                         (Processor) lombokClaimingProcessor.getDeclaredConstructor().newInstance())
+                .withOptions((Object[]) options)
                 .compile(classPaths.stream().map(JavaFileObjects::forResource).collect(Collectors.toSet()));
-        assertThat(compilation).succeeded();
+    }
 
-        expectedFixture.forEach((expectedFixtureName, expectedFixtureValue) -> assertThat(compilation)
-                .generatedSourceFile(expectedFixtureName)
-                .contentsAsString(StandardCharsets.UTF_8).isEqualTo(expectedFixtureValue));
+    private static class CompiledClassLoader extends ClassLoader {
+        private final Compilation compilation;
+
+        private CompiledClassLoader(Compilation compilation) {
+            super(CompiledClassLoader.class.getClassLoader());
+            this.compilation = compilation;
+        }
+
+        @Override
+        @SneakyThrows
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            final var classFileName = "/%s.class".formatted(name.replace('.', '/'));
+            final var classFile = compilation.generatedFiles().stream()
+                    .filter(file -> file.getKind() == JavaFileObject.Kind.CLASS && file.getName().endsWith(classFileName))
+                    .findFirst()
+                    .orElseThrow(() -> new ClassNotFoundException(name));
+            try (final var classBytes = classFile.openInputStream()) {
+                final var bytes = classBytes.readAllBytes();
+                return defineClass(name, bytes, 0, bytes.length);
+            }
+        }
     }
-}
\ No newline at end of file
+}
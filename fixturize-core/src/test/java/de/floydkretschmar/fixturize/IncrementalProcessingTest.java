@@ -0,0 +1,138 @@
+package de.floydkretschmar.fixturize;
+
+import lombok.SneakyThrows;
+import org.gradle.testkit.runner.GradleRunner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IncrementalProcessingTest {
+    private static final String GENERATED_SOURCES = "build/generated/sources/annotationProcessor/java/main/de/floydkretschmar/fixturize/mocks";
+    private static final FileTime UNTOUCHED_TIME = FileTime.fromMillis(0);
+    private static final FileTime CACHED_TIME = FileTime.fromMillis(1000);
+
+    @TempDir
+    Path projectDir;
+
+    @Test
+    void build_whenOneAnnotatedClassChanges_onlyRegenerateItsFixture() {
+        writeProject();
+        runBuild("compileJava");
+
+        final var touchedFixture = projectDir.resolve(GENERATED_SOURCES).resolve("TouchedClassFixture.java");
+        final var untouchedFixture = projectDir.resolve(GENERATED_SOURCES).resolve("UntouchedClassFixture.java");
+        assertThat(touchedFixture).exists();
+        assertThat(untouchedFixture).exists();
+        setLastModifiedTime(touchedFixture, UNTOUCHED_TIME);
+        setLastModifiedTime(untouchedFixture, UNTOUCHED_TIME);
+
+        writeClass("TouchedClass", "private final String name;", "private final int count;");
+        final var output = runBuild("compileJava");
+
+        assertThat(output).doesNotContain("Full recompilation is required");
+        assertThat(output).doesNotContain("Fixturize wrote");
+        assertThat(touchedFixture).content().contains("COUNT");
+        assertThat(getLastModifiedTime(touchedFixture)).isNotEqualTo(UNTOUCHED_TIME);
+        assertThat(getLastModifiedTime(untouchedFixture)).isEqualTo(UNTOUCHED_TIME);
+    }
+
+    @Test
+    void build_whenGeneratedSourcesHaveBeenDeleted_writeCachedFixturesAsRestoredFixtures() throws IOException {
+        writeProject("-Afixturize.cacheDirectory=${rootDir}/fixture-cache", "-Afixturize.stats=true");
+        runBuild("compileJava");
+        try (final var cachedFixtures = Files.list(projectDir.resolve("fixture-cache"))) {
+            cachedFixtures.forEach(cachedFixture -> setLastModifiedTime(cachedFixture, CACHED_TIME));
+        }
+
+        final var output = runBuild("clean", "compileJava");
+
+        final var fixture = projectDir.resolve(GENERATED_SOURCES).resolve("TouchedClassFixture.java");
+        assertThat(output).contains("Fixturize reused 2 of 2 fixtures");
+        assertThat(output).contains("Fixturize wrote 2 fixtures, 0 changed, 2 restored from the cache and 0 were identical to the previous output.");
+        assertThat(fixture).exists();
+        assertThat(getLastModifiedTime(fixture)).isNotEqualTo(CACHED_TIME);
+    }
+
+    @SneakyThrows
+    private void writeProject(String... compilerArgs) {
+        final var compilerArguments = Arrays.stream(compilerArgs)
+                .map(argument -> "\"%s\"".formatted(argument))
+                .collect(Collectors.joining(", "));
+        final var processorClasspath = Arrays.stream(System.getProperty("fixturize.processorClasspath").split(File.pathSeparator))
+                .map(entry -> "'%s'".formatted(entry.replace("\\", "/")))
+                .collect(Collectors.joining(", "));
+        Files.writeString(projectDir.resolve("settings.gradle"), "rootProject.name = 'incremental'");
+        Files.writeString(projectDir.resolve("build.gradle"), """
+                plugins {
+                    id 'java'
+                }
+
+                dependencies {
+                    compileOnly files(%s)
+                    annotationProcessor files(%s)
+                }
+
+                tasks.withType(JavaCompile).configureEach {
+                    options.compilerArgs += [%s]
+                }
+                """.formatted(processorClasspath, processorClasspath, compilerArguments));
+        writeClass("TouchedClass", "private final String name;");
+        writeClass("UntouchedClass", "private final String name;");
+    }
+
+    @SneakyThrows
+    private void writeClass(String className, String... fields) {
+        final var sourceDir = Files.createDirectories(projectDir.resolve("src/main/java/de/floydkretschmar/fixturize/mocks"));
+        final var parameters = Arrays.stream(fields)
+                .map(field -> field.replace("private final ", "").replace(";", ""))
+                .collect(Collectors.joining(", "));
+        final var assignments = Arrays.stream(fields)
+                .map(field -> field.substring(field.lastIndexOf(' ') + 1, field.length() - 1))
+                .map(name -> "this.%s = %s;".formatted(name, name))
+                .collect(Collectors.joining("\n"));
+        Files.writeString(sourceDir.resolve("%s.java".formatted(className)), """
+                package de.floydkretschmar.fixturize.mocks;
+
+                import de.floydkretschmar.fixturize.annotations.Fixture;
+
+                @Fixture
+                public class %s {
+                    %s
+
+                    public %s(%s) {
+                        %s
+                    }
+                }
+                """.formatted(className, String.join("\n", fields), className, parameters, assignments));
+    }
+
+    private String runBuild(String... tasks) {
+        final var arguments = new ArrayList<>(Arrays.asList(tasks));
+        arguments.add("--info");
+        return GradleRunner.create()
+                .withProjectDir(projectDir.toFile())
+                .withArguments(arguments)
+                .build()
+                .getOutput();
+    }
+
+    @SneakyThrows
+    private static void setLastModifiedTime(Path path, FileTime time) {
+        Files.setLastModifiedTime(path, time);
+    }
+
+    @SneakyThrows
+    private static FileTime getLastModifiedTime(Path path) {
+        return Files.getLastModifiedTime(path);
+    }
+}
@@ -0,0 +1,65 @@
+package de.floydkretschmar.fixturize;
+
+import lombok.SneakyThrows;
+import org.gradle.testkit.runner.GradleRunner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OptionalJavascriptEngineTest {
+    @TempDir
+    Path projectDir;
+
+    @Test
+    void build_whenJavascriptValueProviderIsUsedWithoutGraalVM_failWithDescriptiveError() {
+        final var processorClasspath = System.getProperty("fixturize.processorClasspath");
+        assertThat(processorClasspath).doesNotContain("graalvm");
+        writeProject(processorClasspath);
+
+        final var output = GradleRunner.create()
+                .withProjectDir(projectDir.toFile())
+                .withArguments("compileJava")
+                .buildAndFail()
+                .getOutput();
+
+        assertThat(output).contains("Custom value provider callbacks require org.graalvm.js:js on the annotation processor path.");
+    }
+
+    @SneakyThrows
+    private void writeProject(String processorClasspath) {
+        final var dependencies = Arrays.stream(processorClasspath.split(File.pathSeparator))
+                .map(entry -> "'%s'".formatted(entry.replace("\\", "/")))
+                .collect(Collectors.joining(", "));
+        Files.writeString(projectDir.resolve("settings.gradle"), "rootProject.name = 'javascript'");
+        Files.writeString(projectDir.resolve("build.gradle"), """
+                plugins {
+                    id 'java'
+                }
+
+                dependencies {
+                    compileOnly files(%s)
+                    annotationProcessor files(%s)
+                }
+                """.formatted(dependencies, dependencies));
+        final var sourceDir = Files.createDirectories(projectDir.resolve("src/main/java/de/floydkretschmar/fixturize/mocks"));
+        Files.writeString(sourceDir.resolve("JavascriptValueProviderClass.java"), """
+                package de.floydkretschmar.fixturize.mocks;
+
+                import de.floydkretschmar.fixturize.annotations.Fixture;
+                import de.floydkretschmar.fixturize.annotations.FixtureValueProvider;
+
+                @Fixture
+                @FixtureValueProvider(targetType = "int", valueProviderCallback = "(field, metadata) => `0`")
+                public class JavascriptValueProviderClass {
+                    private int count;
+                }
+                """);
+    }
+}
@@ -0,0 +1,79 @@
+package de.floydkretschmar.fixturize;
+
+import de.floydkretschmar.fixturize.exceptions.FixtureCreationException;
+import de.floydkretschmar.fixturize.stategies.value.CutOffStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProcessorOptionsTest {
+    @Test
+    void from_whenNoOptionsArePassed_useDefaults() {
+        final var result = ProcessorOptions.from(Map.of());
+
+        assertThat(result.isValueCacheEnabled()).isTrue();
+        assertThat(result.getMaxDepth()).isEqualTo(10);
+        assertThat(result.getCutOffStrategy()).isEqualTo(CutOffStrategy.NULL);
+        assertThat(result.isFixtureReferencesEnabled()).isFalse();
+        assertThat(result.isLazyConstantsEnabled()).isFalse();
+        assertThat(result.isFinalConstantsEnabled()).isFalse();
+        assertThat(result.isDeterministic()).isFalse();
+        assertThat(result.isBulkCreationMethodsEnabled()).isFalse();
+        assertThat(result.isStreamCreationMethodsEnabled()).isFalse();
+        assertThat(result.isRandomCreationMethodsEnabled()).isFalse();
+        assertThat(result.requiresDefaultCreationMethods()).isFalse();
+        assertThat(result.getParallelism()).isEqualTo(1);
+        assertThat(result.isParallel()).isFalse();
+        assertThat(result.getCacheDirectory()).isNull();
+        assertThat(result.isStatsEnabled()).isFalse();
+    }
+
+    @Test
+    void from_whenOptionsArePassed_useOptions() {
+        final var result = ProcessorOptions.from(Map.ofEntries(
+                Map.entry(ProcessorOptions.VALUE_CACHE, "false"),
+                Map.entry(ProcessorOptions.MAX_DEPTH, "3"),
+                Map.entry(ProcessorOptions.CUT_OFF_STRATEGY, "fixture_reference"),
+                Map.entry(ProcessorOptions.FIXTURE_REFERENCES, "true"),
+                Map.entry(ProcessorOptions.LAZY_CONSTANTS, "true"),
+                Map.entry(ProcessorOptions.FINAL_CONSTANTS, "true"),
+                Map.entry(ProcessorOptions.DETERMINISTIC, "true"),
+                Map.entry(ProcessorOptions.BULK_CREATION_METHODS, "true"),
+                Map.entry(ProcessorOptions.STREAM_CREATION_METHODS, "true"),
+                Map.entry(ProcessorOptions.RANDOM_CREATION_METHODS, "true"),
+                Map.entry(ProcessorOptions.PARALLELISM, "4"),
+                Map.entry(ProcessorOptions.CACHE_DIRECTORY, "build/fixturize"),
+                Map.entry(ProcessorOptions.STATS, "true")));
+
+        assertThat(result.isValueCacheEnabled()).isFalse();
+        assertThat(result.getMaxDepth()).isEqualTo(3);
+        assertThat(result.getCutOffStrategy()).isEqualTo(CutOffStrategy.FIXTURE_REFERENCE);
+        assertThat(result.isFixtureReferencesEnabled()).isTrue();
+        assertThat(result.isLazyConstantsEnabled()).isTrue();
+        assertThat(result.isFinalConstantsEnabled()).isTrue();
+        assertThat(result.isDeterministic()).isTrue();
+        assertThat(result.isBulkCreationMethodsEnabled()).isTrue();
+        assertThat(result.isStreamCreationMethodsEnabled()).isTrue();
+        assertThat(result.isRandomCreationMethodsEnabled()).isTrue();
+        assertThat(result.requiresDefaultCreationMethods()).isTrue();
+        assertThat(result.getParallelism()).isEqualTo(4);
+        assertThat(result.isParallel()).isTrue();
+        assertThat(result.getCacheDirectory()).isEqualTo(Path.of("build/fixturize"));
+        assertThat(result.isStatsEnabled()).isTrue();
+        assertThat(result.describeGenerationOptions()).isEqualTo("fixturize.maxDepth=3;fixturize.cutOffStrategy=FIXTURE_REFERENCE;fixturize.fixtureReferences=true;fixturize.lazyConstants=true;fixturize.finalConstants=true;fixturize.deterministic=true;fixturize.bulkCreationMethods=true;fixturize.streamCreationMethods=true;fixturize.randomCreationMethods=true");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"fixturize.maxDepth,-1", "fixturize.maxDepth,deep", "fixturize.cutOffStrategy,UNKNOWN", "fixturize.parallelism,-2"})
+    void from_whenOptionIsInvalid_throwFixtureCreationException(String name, String value) {
+        final var options = Map.of(name, value);
+
+        assertThrows(FixtureCreationException.class, () -> ProcessorOptions.from(options));
+    }
+}
@@ -0,0 +1,117 @@
+package de.floydkretschmar.fixturize;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SynchronizedModelAccessTest {
+
+    private final SynchronizedModelAccess access = new SynchronizedModelAccess();
+
+    @Test
+    void wrap_whenCalledForModelObject_returnSameWrapperForEveryCall() {
+        final var element = mock(TypeElement.class);
+
+        final var wrapper = access.wrap(element);
+
+        assertThat(wrapper).isInstanceOf(TypeElement.class).isNotSameAs(element);
+        assertThat(access.wrap(element)).isSameAs(wrapper);
+        assertThat(access.wrap(wrapper)).isSameAs(wrapper);
+        assertThat(wrapper).isEqualTo(access.wrap(element));
+        assertThat(wrapper.hashCode()).isEqualTo(element.hashCode());
+    }
+
+    @Test
+    void wrap_whenCalledForOtherObject_returnObject() {
+        final var value = "value";
+
+        assertThat(access.wrap(value)).isSameAs(value);
+    }
+
+    @Test
+    void wrap_whenWrapperReturnsModelObjects_wrapReturnedObjects() {
+        final var element = mock(TypeElement.class);
+        final var field = mock(VariableElement.class);
+        doReturn(List.of(field)).when(element).getEnclosedElements();
+        when(element.getModifiers()).thenReturn(Set.of(Modifier.PUBLIC));
+
+        final var wrapper = access.wrap(element);
+
+        final List<? extends Element> enclosedElements = wrapper.getEnclosedElements();
+        assertThat(enclosedElements).hasSize(1);
+        assertThat(enclosedElements.get(0)).isSameAs(access.wrap(field));
+        assertThat(wrapper.getModifiers()).containsExactly(Modifier.PUBLIC);
+    }
+
+    @Test
+    void wrap_whenWrappersArePassedAsArguments_unwrapArguments() {
+        final var types = mock(Types.class);
+        final var firstType = mock(TypeMirror.class);
+        final var secondType = mock(TypeMirror.class);
+        when(types.isSameType(firstType, secondType)).thenReturn(true);
+
+        final var result = access.wrap(types).isSameType(access.wrap(firstType), access.wrap(secondType));
+
+        assertThat(result).isTrue();
+        verify(types).isSameType(firstType, secondType);
+    }
+
+    @Test
+    void wrap_whenWrappedObjectThrowsException_throwSameException() {
+        final var element = mock(Element.class);
+        final var exception = new IllegalStateException("failure");
+        when(element.asType()).thenThrow(exception);
+
+        final var wrapper = access.wrap(element);
+
+        assertThat(assertThrows(IllegalStateException.class, wrapper::asType)).isSameAs(exception);
+    }
+
+    @Test
+    @SneakyThrows
+    void wrap_whenWrapperIsCalledByMultipleThreads_callWrappedObjectByOneThreadAtATime() {
+        final var element = mock(Element.class);
+        final var runningCalls = new AtomicInteger();
+        final var maxRunningCalls = new AtomicInteger();
+        when(element.toString()).thenAnswer(invocation -> {
+            maxRunningCalls.accumulateAndGet(runningCalls.incrementAndGet(), Math::max);
+            Thread.sleep(1);
+            runningCalls.decrementAndGet();
+            return "element";
+        });
+        final var wrapper = access.wrap(element);
+        final Callable<String> call = wrapper::toString;
+        final var executor = Executors.newFixedThreadPool(4);
+
+        try {
+            final var results = executor.invokeAll(Collections.nCopies(40, call));
+            for (Future<String> result : results) {
+                assertThat(result.get()).isEqualTo("element");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(maxRunningCalls.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,53 @@
+package de.floydkretschmar.fixturize.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FixtureSourceCacheTest {
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    void get_whenSourceHasBeenCached_returnSource() throws IOException {
+        final var cache = new FixtureSourceCache(cacheDirectory.resolve("fixtures"));
+
+        assertThat(cache.get("key")).isNull();
+        cache.put("key", "public class Fixture {}");
+
+        assertThat(cache.isEnabled()).isTrue();
+        assertThat(cache.get("key")).isEqualTo("public class Fixture {}");
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+        try (final var files = Files.list(cacheDirectory.resolve("fixtures"))) {
+            assertThat(files).containsExactly(cacheDirectory.resolve("fixtures").resolve("key.java"));
+        }
+    }
+
+    @Test
+    void put_whenSourceHasAlreadyBeenCached_replaceSource() throws IOException {
+        final var cache = new FixtureSourceCache(cacheDirectory);
+
+        cache.put("key", "old");
+        cache.put("key", "new");
+
+        assertThat(cache.get("key")).isEqualTo("new");
+    }
+
+    @Test
+    void get_whenCacheIsDisabled_returnNull() throws IOException {
+        final var cache = new FixtureSourceCache(null);
+
+        cache.put("key", "public class Fixture {}");
+
+        assertThat(cache.isEnabled()).isFalse();
+        assertThat(cache.get("key")).isNull();
+        assertThat(cache.getHits()).isZero();
+        assertThat(cache.getMisses()).isZero();
+    }
+}
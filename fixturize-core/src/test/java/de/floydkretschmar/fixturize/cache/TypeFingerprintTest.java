@@ -0,0 +1,91 @@
+package de.floydkretschmar.fixturize.cache;
+
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypeFingerprintTest {
+    @Test
+    void createKey_whenStructureIsIdentical_returnSameKey() {
+        final var firstKey = createKey("public static final int LIMIT = 1;", "");
+        final var secondKey = createKey("public static final int LIMIT = 1;", "");
+
+        assertThat(firstKey).isEqualTo(secondKey);
+    }
+
+    @Test
+    void createKey_whenConstantValueOfFieldChanges_returnDifferentKey() {
+        final var firstKey = createKey("public static final int LIMIT = 1;", "");
+        final var secondKey = createKey("public static final int LIMIT = 2;", "");
+
+        assertThat(firstKey).isNotEqualTo(secondKey);
+    }
+
+    @Test
+    void createKey_whenConstantValueOfReferencedTypeChanges_returnDifferentKey() {
+        final var firstKey = createKey("", "public static final String NAME = \"first\";");
+        final var secondKey = createKey("", "public static final String NAME = \"second\";");
+
+        assertThat(firstKey).isNotEqualTo(secondKey);
+    }
+
+    private static String createKey(String customerMember, String addressMember) {
+        final var processor = new KeyCapturingProcessor();
+        final var compilation = javac().withProcessors(processor).compile(
+                JavaFileObjects.forSourceString("some.test.Customer", """
+                        package some.test;
+
+                        public class Customer {
+                            %s
+
+                            private final Address address;
+
+                            public Customer(Address address) {
+                                this.address = address;
+                            }
+                        }
+                        """.formatted(customerMember)),
+                JavaFileObjects.forSourceString("some.test.Address", """
+                        package some.test;
+
+                        public class Address {
+                            %s
+                        }
+                        """.formatted(addressMember)));
+
+        assertThat(compilation).succeeded();
+        assertThat(processor.keys).hasSize(1);
+        return processor.keys.get(0);
+    }
+
+    @SupportedAnnotationTypes("*")
+    private static class KeyCapturingProcessor extends AbstractProcessor {
+        private final List<String> keys = new ArrayList<>();
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return SourceVersion.latestSupported();
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            if (!roundEnv.processingOver()) {
+                final var fingerprint = new TypeFingerprint("version", "options");
+                keys.add(fingerprint.createKey(processingEnv.getElementUtils().getTypeElement("some.test.Customer")));
+            }
+            return false;
+        }
+    }
+}
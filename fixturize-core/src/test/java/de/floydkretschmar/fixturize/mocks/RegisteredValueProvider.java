@@ -0,0 +1,13 @@
+package de.floydkretschmar.fixturize.mocks;
+
+import de.floydkretschmar.fixturize.stategies.metadata.TypeMetadata;
+import de.floydkretschmar.fixturize.stategies.value.providers.ValueProvider;
+
+import javax.lang.model.element.Element;
+
+public class RegisteredValueProvider implements ValueProvider {
+    @Override
+    public String provideValueAsString(Element field, TypeMetadata metadata) {
+        return "\"%sJavaValue\"".formatted(field.getSimpleName().toString());
+    }
+}
@@ -0,0 +1,125 @@
+package de.floydkretschmar.fixturize.rendering;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.TypeElement;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FixtureFileWriterTest {
+    private static final long PREVIOUS_LAST_MODIFIED = 1000L;
+
+    @Mock
+    private Filer filer;
+
+    @Mock
+    private TypeElement element;
+
+    @Mock
+    private JavaFileObject fixtureFile;
+
+    @Mock
+    private FileObject previousFixtureFile;
+
+    @TempDir
+    Path outputDirectory;
+
+    private Path fixturePath;
+
+    private StringWriter writtenFixture;
+
+    private FixtureFileWriter writer;
+
+    @BeforeEach
+    void setup() throws IOException {
+        fixturePath = Files.writeString(outputDirectory.resolve("CustomerFixture.java"), "");
+        writtenFixture = new StringWriter();
+        writer = new FixtureFileWriter(filer);
+        when(filer.createSourceFile("de.example.CustomerFixture", element)).thenReturn(fixtureFile);
+        when(fixtureFile.openWriter()).thenReturn(writtenFixture);
+    }
+
+    @Test
+    void write_whenPreviousFixtureIsIdentical_restoreLastModified() throws IOException {
+        when(filer.getResource(StandardLocation.SOURCE_OUTPUT, "de.example", "CustomerFixture.java")).thenReturn(previousFixtureFile);
+        when(previousFixtureFile.getLastModified()).thenReturn(PREVIOUS_LAST_MODIFIED);
+        when(previousFixtureFile.getCharContent(true)).thenReturn("public class CustomerFixture {}");
+        when(fixtureFile.toUri()).thenReturn(fixturePath.toUri());
+
+        writer.write("de.example.CustomerFixture", "public class CustomerFixture {}", element);
+
+        assertThat(writtenFixture).hasToString("public class CustomerFixture {}");
+        assertThat(Files.getLastModifiedTime(fixturePath)).isEqualTo(FileTime.fromMillis(PREVIOUS_LAST_MODIFIED));
+        assertThat(writer.getUnchangedFixtures()).isEqualTo(1);
+        assertThat(writer.getChangedFixtures()).isZero();
+    }
+
+    @Test
+    void write_whenPreviousFixtureDiffers_countChangedFixture() throws IOException {
+        when(filer.getResource(StandardLocation.SOURCE_OUTPUT, "de.example", "CustomerFixture.java")).thenReturn(previousFixtureFile);
+        when(previousFixtureFile.getLastModified()).thenReturn(PREVIOUS_LAST_MODIFIED);
+        when(previousFixtureFile.getCharContent(true)).thenReturn("public class CustomerFixture {}");
+
+        writer.write("de.example.CustomerFixture", "public class CustomerFixture { }", element);
+
+        assertThat(writtenFixture).hasToString("public class CustomerFixture { }");
+        assertThat(Files.getLastModifiedTime(fixturePath)).isNotEqualTo(FileTime.fromMillis(PREVIOUS_LAST_MODIFIED));
+        assertThat(writer.getUnchangedFixtures()).isZero();
+        assertThat(writer.getChangedFixtures()).isEqualTo(1);
+    }
+
+    @Test
+    void write_whenPreviousFixtureCannotBeRead_countChangedFixture() throws IOException {
+        when(filer.getResource(StandardLocation.SOURCE_OUTPUT, "de.example", "CustomerFixture.java")).thenThrow(new IOException("not found"));
+
+        writer.write("de.example.CustomerFixture", "public class CustomerFixture {}", element);
+
+        assertThat(writtenFixture).hasToString("public class CustomerFixture {}");
+        assertThat(writer.getUnchangedFixtures()).isZero();
+        assertThat(writer.getChangedFixtures()).isEqualTo(1);
+    }
+
+    @Test
+    void write_whenNoPreviousFixtureExistsButFixtureHasBeenCached_countRestoredFixtureWithoutChangingLastModified() throws IOException {
+        when(filer.getResource(StandardLocation.SOURCE_OUTPUT, "de.example", "CustomerFixture.java")).thenThrow(new IOException("not found"));
+        final var writtenLastModified = Files.getLastModifiedTime(fixturePath);
+
+        writer.write("de.example.CustomerFixture", "public class CustomerFixture {}", element, true);
+
+        assertThat(writtenFixture).hasToString("public class CustomerFixture {}");
+        assertThat(Files.getLastModifiedTime(fixturePath)).isEqualTo(writtenLastModified);
+        assertThat(writer.getRestoredFixtures()).isEqualTo(1);
+        assertThat(writer.getUnchangedFixtures()).isZero();
+        assertThat(writer.getChangedFixtures()).isZero();
+    }
+
+    @Test
+    void write_whenPreviousFixtureDiffersFromCachedFixture_countChangedFixture() throws IOException {
+        when(filer.getResource(StandardLocation.SOURCE_OUTPUT, "de.example", "CustomerFixture.java")).thenReturn(previousFixtureFile);
+        when(previousFixtureFile.getLastModified()).thenReturn(PREVIOUS_LAST_MODIFIED);
+        when(previousFixtureFile.getCharContent(true)).thenReturn("public class CustomerFixture { }");
+
+        writer.write("de.example.CustomerFixture", "public class CustomerFixture {}", element, true);
+
+        assertThat(Files.getLastModifiedTime(fixturePath)).isNotEqualTo(FileTime.fromMillis(PREVIOUS_LAST_MODIFIED));
+        assertThat(writer.getRestoredFixtures()).isZero();
+        assertThat(writer.getUnchangedFixtures()).isZero();
+        assertThat(writer.getChangedFixtures()).isEqualTo(1);
+    }
+}
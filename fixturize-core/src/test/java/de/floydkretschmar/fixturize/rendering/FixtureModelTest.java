@@ -0,0 +1,25 @@
+package de.floydkretschmar.fixturize.rendering;
+
+import de.floydkretschmar.fixturize.stategies.constants.Constant;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FixtureModelTest {
+    @Test
+    void builder_whenCalled_createImmutableModel() {
+        final var model = FixtureModel.builder()
+                .packageName("")
+                .fixtureClassName("CustomerFixture")
+                .qualifiedFixtureClassName("CustomerFixture")
+                .constants(List.of(Constant.builder().type("int").name("AGE").value("0").build()))
+                .build();
+
+        assertThat(model.hasPackageName()).isFalse();
+        assertThrows(UnsupportedOperationException.class, () -> model.getConstants().add(null));
+        assertThrows(UnsupportedOperationException.class, () -> model.getCreationMethods().add(null));
+    }
+}
@@ -0,0 +1,99 @@
+package de.floydkretschmar.fixturize.rendering;
+
+import de.floydkretschmar.fixturize.stategies.constants.Constant;
+import de.floydkretschmar.fixturize.stategies.constants.ConstantDeclaration;
+import de.floydkretschmar.fixturize.stategies.creation.CreationMethod;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JavaFixtureRendererTest {
+    private final JavaFixtureRenderer renderer = new JavaFixtureRenderer();
+
+    @Test
+    void render_whenModelHasPackage_renderPackageConstantsAndCreationMethods() {
+        final var model = FixtureModel.builder()
+                .packageName("de.example")
+                .fixtureClassName("CustomerFixture")
+                .qualifiedFixtureClassName("de.example.CustomerFixture")
+                .constant(Constant.builder().type("java.lang.String").name("NAME").value("\"NAME_VALUE\"").build())
+                .constant(Constant.builder().type("int").name("AGE").value("0").build())
+                .creationMethod(CreationMethod.builder().returnType("de.example.Customer").name("createCustomer").returnValue("new de.example.Customer(NAME, AGE)").build())
+                .creationMethod(CreationMethod.builder().returnType("de.example.Customer").name("createCustomerWithName").parameters("java.lang.String name").returnValue("new de.example.Customer(name)").build())
+                .build();
+
+        final var result = renderer.render(model);
+
+        assertThat(result).isEqualTo(String.join(System.lineSeparator(),
+                "package de.example;",
+                "",
+                "public class CustomerFixture {",
+                "    public static java.lang.String NAME = \"NAME_VALUE\";",
+                "    public static int AGE = 0;",
+                "",
+                "    public static de.example.Customer createCustomer() {",
+                "        return new de.example.Customer(NAME, AGE);",
+                "    }",
+                "",
+                "    public static de.example.Customer createCustomerWithName(java.lang.String name) {",
+                "        return new de.example.Customer(name);",
+                "    }",
+                "}",
+                ""));
+    }
+
+    @Test
+    void render_whenConstantsAreNotPlainFields_renderAccordingToDeclaration() {
+        final var model = FixtureModel.builder()
+                .packageName("de.example")
+                .fixtureClassName("OrderFixture")
+                .qualifiedFixtureClassName("de.example.OrderFixture")
+                .constant(Constant.builder().type("de.example.Customer").name("CUSTOMER").value("de.example.CustomerFixture.createCustomer()").declaration(ConstantDeclaration.HOLDER).build())
+                .constant(Constant.builder().type("java.util.Date").name("CREATED_AT").value("new java.util.Date()").declaration(ConstantDeclaration.FACTORY_METHOD).build())
+                .constant(Constant.builder().type("int").name("NUMBER").value("0").declaration(ConstantDeclaration.FINAL_FIELD).build())
+                .creationMethod(CreationMethod.builder().returnType("de.example.Order").name("createOrder").returnValue("new de.example.Order(CUSTOMER(), NUMBER)").build())
+                .build();
+
+        final var result = renderer.render(model);
+
+        assertThat(result).isEqualTo(String.join(System.lineSeparator(),
+                "package de.example;",
+                "",
+                "public class OrderFixture {",
+                "    public static final int NUMBER = 0;",
+                "",
+                "    private static final class CUSTOMER_HOLDER {",
+                "        private static final de.example.Customer VALUE = de.example.CustomerFixture.createCustomer();",
+                "    }",
+                "",
+                "    public static de.example.Customer CUSTOMER() {",
+                "        return CUSTOMER_HOLDER.VALUE;",
+                "    }",
+                "",
+                "    public static java.util.Date CREATED_AT() {",
+                "        return new java.util.Date();",
+                "    }",
+                "",
+                "    public static de.example.Order createOrder() {",
+                "        return new de.example.Order(CUSTOMER(), NUMBER);",
+                "    }",
+                "}",
+                ""));
+    }
+
+    @Test
+    void render_whenModelHasNoPackage_omitPackageDeclaration() {
+        final var model = FixtureModel.builder()
+                .packageName("")
+                .fixtureClassName("CustomerFixture")
+                .qualifiedFixtureClassName("CustomerFixture")
+                .build();
+
+        final var result = renderer.render(model);
+
+        assertThat(result).isEqualTo(String.join(System.lineSeparator(),
+                "public class CustomerFixture {",
+                "}",
+                ""));
+    }
+}
@@ -0,0 +1,99 @@
+package de.floydkretschmar.fixturize.stategies.constants;
+
+import de.floydkretschmar.fixturize.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import java.util.Arrays;
+import java.util.List;
+
+import static de.floydkretschmar.fixturize.TestFixtures.createTypeMirrorFixture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConstantDeclarationStrategyTest {
+    @ParameterizedTest(name = "{0} = {1}")
+    @CsvSource(delimiter = '|', value = {
+            "int|0|FIELD|FINAL_FIELD|FIELD|FINAL_FIELD",
+            "java.lang.String|\"VALUE\"|FIELD|FINAL_FIELD|FIELD|FINAL_FIELD",
+            "java.util.UUID|java.util.UUID.fromString(\"\")|FIELD|FINAL_FIELD|HOLDER|HOLDER",
+            "java.time.Instant|java.time.Instant.now()|FIELD|FINAL_FIELD|HOLDER|HOLDER",
+            "java.util.List<java.lang.String>|new java.util.ArrayList<>()|FIELD|FACTORY_METHOD|HOLDER|FACTORY_METHOD",
+            "java.util.Date|new java.util.Date()|FIELD|FACTORY_METHOD|HOLDER|FACTORY_METHOD",
+            "java.lang.String[]|new java.lang.String[] {}|FIELD|FACTORY_METHOD|HOLDER|FACTORY_METHOD",
+            "de.example.Customer|new de.example.Customer()|FIELD|FIELD|HOLDER|HOLDER"})
+    void getDeclaration_whenCalled_returnDeclarationForEnabledOptions(String type, String value, ConstantDeclaration expectedDefault,
+                                                                      ConstantDeclaration expectedFinal, ConstantDeclaration expectedLazy,
+                                                                      ConstantDeclaration expectedLazyAndFinal) {
+        final var typeMirror = createTypeMirrorFixture(type);
+
+        assertThat(new ConstantDeclarationStrategy(false, false).getDeclaration(typeMirror, value)).isEqualTo(expectedDefault);
+        assertThat(new ConstantDeclarationStrategy(false, true).getDeclaration(typeMirror, value)).isEqualTo(expectedFinal);
+        assertThat(new ConstantDeclarationStrategy(true, false).getDeclaration(typeMirror, value)).isEqualTo(expectedLazy);
+        assertThat(new ConstantDeclarationStrategy(true, true).getDeclaration(typeMirror, value)).isEqualTo(expectedLazyAndFinal);
+    }
+
+    @Test
+    void getDeclaration_whenTypeIsEnum_returnFinalField() {
+        final var enumType = createDeclaredType("de.example.Status", ElementKind.ENUM);
+
+        final var result = new ConstantDeclarationStrategy(false, true).getDeclaration(enumType, "de.example.Status.ACTIVE");
+
+        assertThat(result).isEqualTo(ConstantDeclaration.FINAL_FIELD);
+    }
+
+    @ParameterizedTest(name = "{0}<{1}> = {2}")
+    @CsvSource(delimiter = '|', value = {
+            "java.util.List|java.lang.String|java.util.List.of(\"VALUE\")|FINAL_FIELD|HOLDER",
+            "java.util.Map|java.lang.String,java.util.UUID|java.util.Map.of(\"KEY\", java.util.UUID.fromString(\"\"))|FINAL_FIELD|HOLDER",
+            "java.util.Set|java.time.Instant|java.util.Set.of(java.time.Instant.now())|FINAL_FIELD|HOLDER",
+            "java.util.List|java.util.Date|java.util.List.of(new java.util.Date())|FACTORY_METHOD|FACTORY_METHOD",
+            "java.util.Map|java.lang.String,java.util.List<java.lang.String>|java.util.Map.of(\"KEY\", new java.util.ArrayList<>())|FACTORY_METHOD|FACTORY_METHOD",
+            "java.util.Set|de.example.Customer|java.util.Set.of(new de.example.Customer())|FACTORY_METHOD|FACTORY_METHOD",
+            "java.util.List|java.lang.String|new java.util.ArrayList<>()|FACTORY_METHOD|FACTORY_METHOD"})
+    void getDeclaration_whenTypeIsContainer_returnFinalFieldOnlyForImmutableFactoryAndElementTypes(String containerType, String elementTypes, String value,
+                                                                                                 ConstantDeclaration expectedFinal,
+                                                                                                 ConstantDeclaration expectedLazyAndFinal) {
+        final var typeArguments = Arrays.stream(elementTypes.split(",")).map(TestFixtures::createTypeMirrorFixture).toArray(TypeMirror[]::new);
+        final var type = createDeclaredType("%s<%s>".formatted(containerType, elementTypes), ElementKind.INTERFACE, typeArguments);
+
+        assertThat(new ConstantDeclarationStrategy(false, true).getDeclaration(type, value)).isEqualTo(expectedFinal);
+        assertThat(new ConstantDeclarationStrategy(true, true).getDeclaration(type, value)).isEqualTo(expectedLazyAndFinal);
+    }
+
+    @Test
+    void getDeclaration_whenContainerElementTypeIsEnum_returnFinalField() {
+        final var enumType = createDeclaredType("de.example.Status", ElementKind.ENUM);
+        final var setType = createDeclaredType("java.util.Set<de.example.Status>", ElementKind.INTERFACE, enumType);
+
+        final var result = new ConstantDeclarationStrategy(false, true).getDeclaration(setType, "java.util.Set.of(de.example.Status.ACTIVE)");
+
+        assertThat(result).isEqualTo(ConstantDeclaration.FINAL_FIELD);
+    }
+
+    @Test
+    void getDeclaration_whenContainerIsRaw_returnFactoryMethod() {
+        final var listType = createDeclaredType("java.util.List", ElementKind.INTERFACE);
+
+        final var result = new ConstantDeclarationStrategy(false, true).getDeclaration(listType, "java.util.List.of()");
+
+        assertThat(result).isEqualTo(ConstantDeclaration.FACTORY_METHOD);
+    }
+
+    private static DeclaredType createDeclaredType(String name, ElementKind kind, TypeMirror... typeArguments) {
+        final var type = mock(DeclaredType.class);
+        final var element = mock(TypeElement.class);
+        when(type.toString()).thenReturn(name);
+        when(type.asElement()).thenReturn(element);
+        when(element.getKind()).thenReturn(kind);
+        doReturn(List.of(typeArguments)).when(type).getTypeArguments();
+        return type;
+    }
+}
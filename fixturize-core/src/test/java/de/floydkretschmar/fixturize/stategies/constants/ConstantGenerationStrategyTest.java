@@ -1,7 +1,9 @@
 package de.floydkretschmar.fixturize.stategies.constants;
 
+import de.floydkretschmar.fixturize.stategies.metadata.TypeMemberIndex;
 import de.floydkretschmar.fixturize.TestFixtures;
 import de.floydkretschmar.fixturize.annotations.FixtureConstant;
+import de.floydkretschmar.fixturize.annotations.FixtureSharing;
 import de.floydkretschmar.fixturize.stategies.constants.naming.NamingStrategy;
 import de.floydkretschmar.fixturize.stategies.value.ValueProviderService;
 import org.junit.jupiter.api.BeforeEach;
@@ -51,7 +53,8 @@ class ConstantGenerationStrategyTest {
 
     @BeforeEach
     void setup() {
-        strategy = new ConstantGenerationStrategy(namingStrategy, valueProviderService);
+        strategy = new ConstantGenerationStrategy(namingStrategy, valueProviderService, new TypeMemberIndex(), new ConstantDeclarationStrategy(false, false), new RandomValueStrategy(false),
+                new ConstantSharingStrategy(new FixtureSharing[0], false, false));
     }
 
     private void mockServiceGetValueFor() {
@@ -91,6 +94,26 @@ class ConstantGenerationStrategyTest {
     }
 
 
+    @Test
+    void generateConstants_whenLazyConstantsAreEnabled_shouldDeclareExpensiveConstantsAsHolders() {
+        mockServiceGetValueFor();
+        when(namingStrategy.createName(anyString())).thenAnswer(param -> "%sName".formatted(param.getArguments()[0]));
+        final var field1 = TestFixtures.<FixtureConstant>createVariableElementFixture("intField", createTypeMirrorFixture("int"), ElementKind.FIELD);
+        final var field2 = TestFixtures.<FixtureConstant>createVariableElementFixture("stringField", createTypeMirrorFixture("java.lang.String"), ElementKind.FIELD);
+        final var field3 = TestFixtures.<FixtureConstant>createVariableElementFixture("orderField", createTypeMirrorFixture("de.example.Order"), ElementKind.FIELD);
+        final var element = mock(TypeElement.class);
+        when(element.getEnclosedElements()).thenReturn((List) List.of(field1, field2, field3));
+        final var lazyStrategy = new ConstantGenerationStrategy(namingStrategy, valueProviderService, new TypeMemberIndex(), new ConstantDeclarationStrategy(true, false), new RandomValueStrategy(false),
+                new ConstantSharingStrategy(new FixtureSharing[0], false, false));
+
+        final var result = lazyStrategy.generateConstants(element, TestFixtures.createMetadataFixture());
+
+        assertThat(result.get("intField").getDeclaration()).isEqualTo(ConstantDeclaration.FIELD);
+        assertThat(result.get("stringField").getDeclaration()).isEqualTo(ConstantDeclaration.FIELD);
+        assertThat(result.get("orderField").getDeclaration()).isEqualTo(ConstantDeclaration.HOLDER);
+        assertThat(result.get("orderField").getReference()).isEqualTo("orderFieldName()");
+    }
+
     @Test
     void generateConstants_whenCalledWithGeneric_shouldGenerateConstants() {
         mockServiceGetValueFor();
@@ -0,0 +1,123 @@
+package de.floydkretschmar.fixturize.stategies.constants;
+
+import de.floydkretschmar.fixturize.annotations.FixtureSharing;
+import de.floydkretschmar.fixturize.annotations.SharingPolicy;
+import de.floydkretschmar.fixturize.exceptions.FixtureCreationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConstantSharingStrategyTest {
+    private static final Constant CUSTOMER = Constant.builder()
+            .type("de.example.Customer")
+            .name("CUSTOMER")
+            .value("de.example.CustomerFixture.createCustomer()")
+            .originalFieldName("customer")
+            .build();
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource(delimiter = '|', value = {
+            "NEW|1|de.example.CustomerFixture.createCustomer()",
+            "SHARED|1|CUSTOMER",
+            "POOLED|10|CUSTOMER_POOL().get(java.lang.Math.floorMod(index, 10))"})
+    void applySharing_whenSharingIsDefinedForType_referenceConstantAccordingToPolicy(SharingPolicy policy, int cardinality, String expectedReference) {
+        final var strategy = new ConstantSharingStrategy(new FixtureSharing[]{createSharing("de.example.Customer", policy, cardinality)}, true, false);
+
+        final var result = strategy.applySharing(CUSTOMER);
+
+        assertThat(result.getSharingPolicy()).isEqualTo(policy);
+        assertThat(result.toBuilder().indexVariable("index").build().getReference()).isEqualTo(expectedReference);
+        assertThat(result.getReference()).isEqualTo("CUSTOMER");
+    }
+
+    @Test
+    void applySharing_whenTypeIsGeneric_matchTypeWithoutGenericPart() {
+        final var strategy = new ConstantSharingStrategy(new FixtureSharing[]{createSharing("java.util.List", SharingPolicy.NEW, 1)}, false, true);
+        final var constant = Constant.builder().type("java.util.List<java.lang.String>").name("NAMES").value("java.util.List.of()").build();
+
+        final var result = strategy.applySharing(constant);
+
+        assertThat(result.getSharingPolicy()).isEqualTo(SharingPolicy.NEW);
+    }
+
+    @Test
+    void applySharing_whenBulkCreationMethodsAreDisabled_returnConstantUnchanged() {
+        final var strategy = new ConstantSharingStrategy(new FixtureSharing[]{createSharing("de.example.Customer", SharingPolicy.POOLED, 10)}, false, false);
+
+        final var result = strategy.applySharing(CUSTOMER);
+
+        assertThat(result).isSameAs(CUSTOMER);
+        assertThat(strategy.createPoolConstant(result)).isEmpty();
+    }
+
+    @ParameterizedTest(name = "list={0}")
+    @CsvSource(delimiter = '|', value = {
+            "true|de.example.CustomerFixture.createCustomerList(10)",
+            "false|de.example.CustomerFixture.createCustomerStream(10, 0).toList()"})
+    void createPoolConstant_whenValueReferencesFixture_createPoolWithBulkCreationMethodOfFixture(boolean listEnabled, String expectedValue) {
+        final var strategy = new ConstantSharingStrategy(new FixtureSharing[]{createSharing("de.example.Customer", SharingPolicy.POOLED, 10)}, listEnabled, true);
+
+        final var result = strategy.createPoolConstant(strategy.applySharing(CUSTOMER));
+
+        assertThat(result).contains(Constant.builder()
+                .type("java.util.List<de.example.Customer>")
+                .name("CUSTOMER_POOL")
+                .value(expectedValue)
+                .declaration(ConstantDeclaration.HOLDER)
+                .build());
+    }
+
+    @Test
+    void createPoolConstant_whenValueCanBeVariedByIndex_createPoolOfValuesVariedByPosition() {
+        final var strategy = new ConstantSharingStrategy(new FixtureSharing[]{createSharing("java.lang.String", SharingPolicy.POOLED, 2)}, true, false);
+        final var constant = Constant.builder().type("java.lang.String").name("NAME").value("\"NAME_VALUE\"").declaration(ConstantDeclaration.FIELD).build();
+
+        final var result = strategy.createPoolConstant(strategy.applySharing(constant));
+
+        assertThat(result).map(Constant::getValue).contains("java.util.stream.IntStream.range(0, 2).<java.lang.String>mapToObj(poolIndex -> NAME + \"_\" + poolIndex).toList()");
+    }
+
+    @Test
+    void createPoolConstant_whenValueCannotBeVariedByIndex_throwFixtureCreationException() {
+        final var strategy = new ConstantSharingStrategy(new FixtureSharing[]{createSharing("de.example.Item", SharingPolicy.POOLED, 2)}, true, false);
+        final var constant = strategy.applySharing(Constant.builder().type("de.example.Item").name("ITEM").value("new de.example.Item()").declaration(ConstantDeclaration.FIELD).build());
+
+        assertThatThrownBy(() -> strategy.createPoolConstant(constant))
+                .isInstanceOf(FixtureCreationException.class)
+                .hasMessage("The pooled sharing policy for target type de.example.Item requires values that reference a fixture or can be varied by index. " +
+                        "Annotate the type with Fixture and enable fixturize.fixtureReferences, or use the sharing policy NEW or SHARED.");
+    }
+
+    @Test
+    void constructor_whenPooledCardinalityIsBelowOne_throwFixtureCreationException() {
+        final var sharings = new FixtureSharing[]{createSharing("de.example.Customer", SharingPolicy.POOLED, 0)};
+
+        assertThatThrownBy(() -> new ConstantSharingStrategy(sharings, true, false))
+                .isInstanceOf(FixtureCreationException.class)
+                .hasMessage("The cardinality of the pooled sharing policy for target type de.example.Customer has to be at least 1.");
+    }
+
+    @Test
+    void constructor_whenTargetTypeIsDefinedTwice_throwFixtureCreationException() {
+        final var sharings = new FixtureSharing[]{
+                createSharing("de.example.Customer", SharingPolicy.NEW, 1),
+                createSharing("de.example.Customer", SharingPolicy.SHARED, 1)};
+
+        assertThatThrownBy(() -> new ConstantSharingStrategy(sharings, true, false))
+                .isInstanceOf(FixtureCreationException.class)
+                .hasMessage("The sharing policy for target type de.example.Customer has been defined more than once.");
+    }
+
+    private static FixtureSharing createSharing(String targetType, SharingPolicy policy, int cardinality) {
+        final var sharing = mock(FixtureSharing.class);
+        when(sharing.targetType()).thenReturn(targetType);
+        when(sharing.policy()).thenReturn(policy);
+        when(sharing.cardinality()).thenReturn(cardinality);
+        return sharing;
+    }
+}
@@ -1,6 +1,8 @@
 package de.floydkretschmar.fixturize.stategies.constants;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
 import java.util.List;
 import java.util.Map;
@@ -30,4 +32,39 @@ class FixtureConstantMapTest {
                 "doesNotExists", Optional.empty()
         ));
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "java.lang.String|FIELD|NAME + \"_\" + index",
+            "int|FINAL_FIELD|(int) (NAME + index)",
+            "long|FIELD|NAME + index",
+            "java.lang.Short|FIELD|(short) (NAME + index)",
+            "byte|FIELD|(byte) (NAME + index)",
+            "java.util.UUID|HOLDER|new java.util.UUID(NAME().getMostSignificantBits(), NAME().getLeastSignificantBits() + index)",
+            "java.math.BigDecimal|FIELD|NAME.add(java.math.BigDecimal.valueOf(index))",
+            "java.math.BigInteger|FIELD|NAME.add(java.math.BigInteger.valueOf(index))",
+            "boolean|FIELD|NAME",
+            "java.util.Date|FACTORY_METHOD|NAME()"})
+    void withIndexVariable_whenCalled_referenceConstantsWithIndex(String type, ConstantDeclaration declaration, String expectedReference) {
+        final var constant = Constant.builder().type(type).name("NAME").value("value").originalFieldName("name").declaration(declaration).build();
+        final var constantMap = new FixtureConstantMap(Map.of("name", constant));
+
+        final var result = constantMap.withIndexVariable("index");
+
+        assertThat(result.get("name").getReference()).isEqualTo(expectedReference);
+        assertThat(constantMap.get("name").getReference()).isEqualTo(declaration.isMethod() ? "NAME()" : "NAME");
+    }
+
+    @Test
+    void withRandomValues_whenCalled_referenceConstantsWithRandomValue() {
+        final var randomConstant = Constant.builder().type("int").name("COUNT").value("0").originalFieldName("count").randomValue("random.nextInt()").build();
+        final var sharedConstant = Constant.builder().type("de.example.Customer").name("CUSTOMER").value("new de.example.Customer()").originalFieldName("customer").build();
+        final var constantMap = new FixtureConstantMap(Map.of("count", randomConstant, "customer", sharedConstant));
+
+        final var result = constantMap.withRandomValues();
+
+        assertThat(result.get("count").getReference()).isEqualTo("random.nextInt()");
+        assertThat(result.get("customer").getReference()).isEqualTo("CUSTOMER");
+        assertThat(constantMap.get("count").getReference()).isEqualTo("COUNT");
+    }
+}
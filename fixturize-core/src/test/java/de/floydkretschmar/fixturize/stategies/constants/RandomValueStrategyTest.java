@@ -0,0 +1,179 @@
+package de.floydkretschmar.fixturize.stategies.constants;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Name;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static de.floydkretschmar.fixturize.TestFixtures.createTypeMirrorFixture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RandomValueStrategyTest {
+    private final RandomValueStrategy strategy = new RandomValueStrategy(true);
+
+    @ParameterizedTest(name = "{1} = {2}")
+    @CsvSource(delimiter = '|', value = {
+            "BOOLEAN|boolean|random.nextBoolean()",
+            "BYTE|byte|(byte) random.nextInt()",
+            "CHAR|char|(char) ('a' + random.nextInt(26))",
+            "INT|int|random.nextInt()",
+            "LONG|long|random.nextLong()",
+            "DOUBLE|double|random.nextDouble()"})
+    void getRandomValue_whenTypeIsPrimitive_returnRandomValue(TypeKind kind, String type, String expectedValue) {
+        final var result = strategy.getRandomValue(createTypeMirrorFixture(kind, type));
+
+        assertThat(result).isEqualTo(expectedValue);
+    }
+
+    @ParameterizedTest(name = "{0} = {1}")
+    @CsvSource(delimiter = '|', value = {
+            "java.lang.Integer|random.nextInt()",
+            "java.lang.String|java.lang.Long.toHexString(random.nextLong())",
+            "java.util.UUID|new java.util.UUID(random.nextLong(), random.nextLong())",
+            "java.math.BigDecimal|java.math.BigDecimal.valueOf(random.nextLong(), 2)",
+            "java.time.LocalDate|java.time.LocalDate.ofEpochDay(random.nextLong(0L, 47482L))",
+            "java.util.Date|new java.util.Date(random.nextLong(0L, 4102444800000L))"})
+    void getRandomValue_whenTypeIsSupportedClass_returnRandomValue(String type, String expectedValue) {
+        final var result = strategy.getRandomValue(createDeclaredType(type, ElementKind.CLASS));
+
+        assertThat(result).isEqualTo(expectedValue);
+    }
+
+    @Test
+    void getRandomValue_whenTypeIsUnsupportedClass_returnNull() {
+        final var result = strategy.getRandomValue(createDeclaredType("de.example.Customer", ElementKind.CLASS));
+
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void getRandomValue_whenTypeIsEnum_pickFromCachedValues() {
+        final var result = strategy.getRandomValue(createDeclaredType("de.example.OrderStatus", ElementKind.ENUM));
+
+        assertThat(result).isEqualTo("DE_EXAMPLE_ORDER_STATUS_VALUES[random.nextInt(DE_EXAMPLE_ORDER_STATUS_VALUES.length)]");
+    }
+
+    @Test
+    void getRandomValue_whenTypeIsContainerOfSupportedType_returnContainerOfRandomLength() {
+        final var listType = createDeclaredType("java.util.List", ElementKind.INTERFACE,
+                createDeclaredType("java.lang.String", ElementKind.CLASS));
+
+        final var result = strategy.getRandomValue(listType);
+
+        assertThat(result).isEqualTo("java.util.stream.Stream.generate(() -> java.lang.Long.toHexString(random.nextLong())).limit(random.nextInt(8)).toList()");
+    }
+
+    @Test
+    void getRandomValue_whenTypeIsQueueOfNonComparableType_returnQueueNotRequiringComparableElements() {
+        final var queueType = createDeclaredType("java.util.Queue", ElementKind.INTERFACE,
+                createDeclaredType("java.util.List", ElementKind.INTERFACE, createDeclaredType("java.lang.String", ElementKind.CLASS)));
+
+        final var result = strategy.getRandomValue(queueType);
+
+        assertThat(result).isEqualTo("java.util.stream.Stream.generate(() -> java.util.stream.Stream.generate(() -> java.lang.Long.toHexString(random.nextLong()))" +
+                ".limit(random.nextInt(8)).toList()).limit(random.nextInt(8)).collect(java.util.stream.Collectors.toCollection(java.util.ArrayDeque::new))");
+    }
+
+    @Test
+    void getRandomValue_whenTypeIsContainerOfUnsupportedType_returnNull() {
+        final var listType = createDeclaredType("java.util.List", ElementKind.INTERFACE,
+                createDeclaredType("de.example.Customer", ElementKind.CLASS));
+
+        final var result = strategy.getRandomValue(listType);
+
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void getRandomValue_whenTypeIsArray_returnArrayOfRandomLength() {
+        final var intArrayType = createArrayType(createTypeMirrorFixture(TypeKind.INT), "int[]");
+        final var booleanArrayType = createArrayType(createTypeMirrorFixture(TypeKind.BOOLEAN), "boolean[]");
+
+        assertThat(strategy.getRandomValue(intArrayType)).isEqualTo("random.ints(random.nextInt(8)).toArray()");
+        assertThat(strategy.getRandomValue(booleanArrayType)).isEqualTo("new boolean[random.nextInt(8)]");
+    }
+
+    @Test
+    void createValuesConstants_whenTypeContainsEnum_returnValuesConstant() {
+        final var listType = createDeclaredType("java.util.List", ElementKind.INTERFACE,
+                createDeclaredType("de.example.OrderStatus", ElementKind.ENUM));
+
+        final var result = strategy.createValuesConstants(listType);
+
+        assertThat(result).containsExactly(Constant.builder()
+                .type("de.example.OrderStatus[]")
+                .name("DE_EXAMPLE_ORDER_STATUS_VALUES")
+                .value("de.example.OrderStatus.values()")
+                .declaration(ConstantDeclaration.PRIVATE_FINAL_FIELD)
+                .build());
+    }
+
+    @Test
+    void createValuesConstants_whenEnumsHaveSameSimpleName_returnDifferentlyNamedConstants() {
+        final var firstStatus = createDeclaredType("de.example.order.Status", ElementKind.ENUM);
+        final var secondStatus = createDeclaredType("de.example.payment.Status", ElementKind.ENUM);
+
+        final var result = Stream.concat(strategy.createValuesConstants(firstStatus), strategy.createValuesConstants(secondStatus));
+
+        assertThat(result).extracting(Constant::getName).containsExactly("DE_EXAMPLE_ORDER_STATUS_VALUES", "DE_EXAMPLE_PAYMENT_STATUS_VALUES");
+    }
+
+    @Test
+    void createSeedConstant_whenCalled_returnSeedDerivedFromFixtureName() {
+        final var result = strategy.createSeedConstant("de.example.OrderFixture");
+
+        assertThat(result).contains(Constant.builder()
+                .type("long")
+                .name(RandomValueStrategy.RANDOM_SEED)
+                .value("%dL".formatted("de.example.OrderFixture".hashCode()))
+                .declaration(ConstantDeclaration.FINAL_FIELD)
+                .build());
+    }
+
+    @Test
+    void getRandomValue_whenDisabled_returnNoRandomValuesOrConstants() {
+        final var disabledStrategy = new RandomValueStrategy(false);
+        final var type = mock(TypeMirror.class);
+
+        assertThat(disabledStrategy.getRandomValue(type)).isNull();
+        assertThat(disabledStrategy.createValuesConstants(type)).isEmpty();
+        assertThat(disabledStrategy.createSeedConstant("de.example.OrderFixture")).isEmpty();
+    }
+
+    private static DeclaredType createDeclaredType(String qualifiedName, ElementKind elementKind, TypeMirror... typeArguments) {
+        final var declaredType = mock(DeclaredType.class);
+        final var element = mock(TypeElement.class);
+        final var name = mock(Name.class);
+        final var simpleName = mock(Name.class);
+        when(declaredType.getKind()).thenReturn(TypeKind.DECLARED);
+        when(declaredType.asElement()).thenReturn(element);
+        when(element.getKind()).thenReturn(elementKind);
+        if (elementKind == ElementKind.ENUM) {
+            when(simpleName.toString()).thenReturn(qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1));
+            when(element.getSimpleName()).thenReturn(simpleName);
+        }
+        when(name.toString()).thenReturn(qualifiedName);
+        when(element.getQualifiedName()).thenReturn(name);
+        when(declaredType.getTypeArguments()).thenReturn((List) List.of(typeArguments));
+        return declaredType;
+    }
+
+    private static ArrayType createArrayType(TypeMirror componentType, String name) {
+        final var arrayType = mock(ArrayType.class);
+        when(arrayType.getKind()).thenReturn(TypeKind.ARRAY);
+        when(arrayType.getComponentType()).thenReturn(componentType);
+        when(arrayType.toString()).thenReturn(name);
+        return arrayType;
+    }
+}
@@ -0,0 +1,65 @@
+package de.floydkretschmar.fixturize.stategies.creation;
+
+import de.floydkretschmar.fixturize.TestFixtures;
+import de.floydkretschmar.fixturize.stategies.constants.ConstantMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.lang.model.element.TypeElement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BulkCreationMethodStrategyTest {
+    @Mock
+    private CreationMethodGenerationStrategy delegate;
+
+    @Mock
+    private ConstantMap constantMap;
+
+    @Mock
+    private ConstantMap indexedConstantMap;
+
+    @Mock
+    private TypeElement element;
+
+    @Test
+    void generateCreationMethods_whenListsAndStreamsAreEnabled_createBulkCreationMethodsForEach() {
+        final var metadata = TestFixtures.createMetadataFixture("TestObject");
+        when(constantMap.withIndexVariable(BulkCreationMethodStrategy.INDEX_VARIABLE)).thenReturn(indexedConstantMap);
+        when(delegate.generateCreationMethods(element, indexedConstantMap, metadata)).thenReturn(List.of(
+                CreationMethod.builder().returnType("some.test.TestObject").name("createTestObject").returnValue("new some.test.TestObject(NAME + \"_\" + index)").build()));
+        final var strategy = new BulkCreationMethodStrategy(delegate, true, true);
+
+        final var result = strategy.generateCreationMethods(element, constantMap, metadata);
+
+        assertThat(result).containsExactly(CreationMethod.builder()
+                .returnType("java.util.List<some.test.TestObject>")
+                .name("createTestObjectList")
+                .parameters("int count")
+                .returnValue("java.util.stream.IntStream.range(0, count).<some.test.TestObject>mapToObj(index -> new some.test.TestObject(NAME + \"_\" + index)).collect(java.util.stream.Collectors.toCollection(() -> new java.util.ArrayList<>(count)))")
+                .build(), CreationMethod.builder()
+                .returnType("java.util.stream.Stream<some.test.TestObject>")
+                .name("createTestObjectStream")
+                .parameters("long count, long seed")
+                .returnValue("java.util.stream.LongStream.range(java.lang.Math.multiplyExact(seed, count), java.lang.Math.addExact(java.lang.Math.multiplyExact(seed, count), count)).<some.test.TestObject>mapToObj(index -> new some.test.TestObject(NAME + \"_\" + index))")
+                .build());
+    }
+
+    @Test
+    void generateCreationMethods_whenOnlyStreamsAreEnabled_createOnlyStreamCreationMethods() {
+        final var metadata = TestFixtures.createMetadataFixture("TestObject");
+        when(constantMap.withIndexVariable(BulkCreationMethodStrategy.INDEX_VARIABLE)).thenReturn(indexedConstantMap);
+        when(delegate.generateCreationMethods(element, indexedConstantMap, metadata)).thenReturn(List.of(
+                CreationMethod.builder().returnType("some.test.TestObject").name("createTestObject").returnValue("new some.test.TestObject()").build()));
+        final var strategy = new BulkCreationMethodStrategy(delegate, false, true);
+
+        final var result = strategy.generateCreationMethods(element, constantMap, metadata);
+
+        assertThat(result).extracting(CreationMethod::getName).containsExactly("createTestObjectStream");
+    }
+}
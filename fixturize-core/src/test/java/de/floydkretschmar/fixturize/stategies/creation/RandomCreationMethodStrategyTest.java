@@ -0,0 +1,47 @@
+package de.floydkretschmar.fixturize.stategies.creation;
+
+import de.floydkretschmar.fixturize.TestFixtures;
+import de.floydkretschmar.fixturize.stategies.constants.ConstantMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.lang.model.element.TypeElement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RandomCreationMethodStrategyTest {
+    @Mock
+    private CreationMethodGenerationStrategy delegate;
+
+    @Mock
+    private ConstantMap constantMap;
+
+    @Mock
+    private ConstantMap randomConstantMap;
+
+    @Mock
+    private TypeElement element;
+
+    @Test
+    void generateCreationMethods_whenCalled_createRandomCreationMethodForEach() {
+        final var metadata = TestFixtures.createMetadataFixture("TestObject");
+        when(constantMap.withRandomValues()).thenReturn(randomConstantMap);
+        when(delegate.generateCreationMethods(element, randomConstantMap, metadata)).thenReturn(List.of(
+                CreationMethod.builder().returnType("some.test.TestObject").name("createTestObject").returnValue("new some.test.TestObject(random.nextInt())").build()));
+        final var strategy = new RandomCreationMethodStrategy(delegate);
+
+        final var result = strategy.generateCreationMethods(element, constantMap, metadata);
+
+        assertThat(result).containsExactly(CreationMethod.builder()
+                .returnType("some.test.TestObject")
+                .name("createTestObjectRandom")
+                .parameters("java.util.SplittableRandom random")
+                .returnValue("new some.test.TestObject(random.nextInt())")
+                .build());
+    }
+}
@@ -0,0 +1,161 @@
+package de.floydkretschmar.fixturize.stategies.metadata;
+
+import de.floydkretschmar.fixturize.annotations.FixtureBuilder;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.Name;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static javax.lang.model.element.ElementKind.CONSTRUCTOR;
+import static javax.lang.model.element.ElementKind.ENUM_CONSTANT;
+import static javax.lang.model.element.ElementKind.FIELD;
+import static javax.lang.model.element.ElementKind.METHOD;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TypeMemberIndexTest {
+    private TypeMemberIndex index;
+
+    private TypeElement type;
+
+    private VariableElement field;
+
+    private ExecutableElement method;
+
+    private ExecutableElement noArgsConstructor;
+
+    private ExecutableElement twoArgsConstructor;
+
+    private ExecutableElement privateConstructor;
+
+    private VariableElement enumConstant;
+
+    @BeforeEach
+    void setup() {
+        index = new TypeMemberIndex();
+        type = mock(TypeElement.class);
+        field = mock(VariableElement.class);
+        when(field.getKind()).thenReturn(FIELD);
+        method = mock(ExecutableElement.class);
+        when(method.getKind()).thenReturn(METHOD);
+        noArgsConstructor = createConstructor(0, PUBLIC);
+        twoArgsConstructor = createConstructor(2, PUBLIC);
+        privateConstructor = createConstructor(3, PRIVATE);
+        enumConstant = mock(VariableElement.class);
+        when(enumConstant.getKind()).thenReturn(ENUM_CONSTANT);
+        when(type.getEnclosedElements()).thenReturn((List) List.of(
+                field, method, noArgsConstructor, twoArgsConstructor, privateConstructor, enumConstant));
+    }
+
+    @Test
+    void getMembers_whenCalledRepeatedly_scanEnclosedElementsOnce() {
+        final var fields = index.getFields(type);
+        final var methods = index.getMethods(type);
+        final var constructors = index.getPublicConstructors(type);
+        final var enumConstants = index.getEnumConstants(type);
+
+        assertThat(index.getFields(type)).isSameAs(fields).containsExactly(field, enumConstant);
+        assertThat(index.getMethods(type)).isSameAs(methods).containsExactly(method);
+        assertThat(index.getPublicConstructors(type)).isSameAs(constructors).containsExactly(twoArgsConstructor, noArgsConstructor);
+        assertThat(index.getEnumConstants(type)).isSameAs(enumConstants).containsExactly(enumConstant);
+        verify(type, times(1)).getEnclosedElements();
+    }
+
+    @Test
+    void hasAnnotation_whenCalledRepeatedly_lookUpAnnotationOnce() {
+        when(type.getAnnotation(Builder.class)).thenReturn(mock(Builder.class));
+
+        assertThat(index.hasAnnotation(type, Builder.class)).isTrue();
+        assertThat(index.hasAnnotation(type, Builder.class)).isTrue();
+        assertThat(index.hasAnnotation(type, AllArgsConstructor.class)).isFalse();
+        verify(type, times(1)).getAnnotation(Builder.class);
+        verify(type, times(1)).getAnnotation(AllArgsConstructor.class);
+    }
+
+    @Test
+    void getAnnotationsByType_whenCalledRepeatedly_lookUpAnnotationsOnce() {
+        final var annotations = new FixtureBuilder[]{mock(FixtureBuilder.class)};
+        when(type.getAnnotationsByType(FixtureBuilder.class)).thenReturn(annotations);
+
+        assertThat(index.getAnnotationsByType(type, FixtureBuilder.class)).isSameAs(annotations);
+        assertThat(index.getAnnotationsByType(type, FixtureBuilder.class)).isSameAs(annotations);
+        verify(type, times(1)).getAnnotationsByType(FixtureBuilder.class);
+    }
+
+    @Test
+    void getReachableTypes_whenTypesReferenceEachOther_returnAllTypesReachableThroughFieldsAndConstructors() {
+        final var order = createTypeElement("some.test.Order");
+        final var customer = createTypeElement("some.test.Customer");
+        final var address = createTypeElement("some.test.Address");
+        final var orderField = createVariableElement(FIELD, createArrayType(createDeclaredType(order)));
+        final var customersField = createVariableElement(FIELD,
+                createDeclaredType(createTypeElement("java.util.List"), createDeclaredType(customer)));
+        final var addressParameter = createVariableElement(FIELD, createDeclaredType(address));
+        final var customerConstructor = createConstructor(0, PUBLIC);
+        when(customerConstructor.getParameters()).thenReturn((List) List.of(addressParameter));
+        when(order.getEnclosedElements()).thenReturn((List) List.of(customersField));
+        when(customer.getEnclosedElements()).thenReturn((List) List.of(orderField, customerConstructor));
+
+        final var result = index.getReachableTypes(order);
+
+        assertThat(result).containsExactlyInAnyOrder("java.util.List", "some.test.Customer", "some.test.Order", "some.test.Address");
+        assertThat(index.getReachableTypes(order)).isSameAs(result);
+    }
+
+    private static TypeElement createTypeElement(String qualifiedName) {
+        final var typeElement = mock(TypeElement.class);
+        final var name = mock(Name.class);
+        when(name.toString()).thenReturn(qualifiedName);
+        when(typeElement.getQualifiedName()).thenReturn(name);
+        return typeElement;
+    }
+
+    private static DeclaredType createDeclaredType(TypeElement element, TypeMirror... typeArguments) {
+        final var declaredType = mock(DeclaredType.class);
+        when(declaredType.getKind()).thenReturn(TypeKind.DECLARED);
+        when(declaredType.asElement()).thenReturn(element);
+        when(declaredType.getTypeArguments()).thenReturn((List) List.of(typeArguments));
+        return declaredType;
+    }
+
+    private static ArrayType createArrayType(TypeMirror componentType) {
+        final var arrayType = mock(ArrayType.class);
+        when(arrayType.getKind()).thenReturn(TypeKind.ARRAY);
+        when(arrayType.getComponentType()).thenReturn(componentType);
+        return arrayType;
+    }
+
+    private static VariableElement createVariableElement(ElementKind kind, TypeMirror type) {
+        final var variableElement = mock(VariableElement.class);
+        when(variableElement.getKind()).thenReturn(kind);
+        when(variableElement.asType()).thenReturn(type);
+        return variableElement;
+    }
+
+    private static ExecutableElement createConstructor(int numberOfParameters, Modifier modifier) {
+        final var constructor = mock(ExecutableElement.class);
+        when(constructor.getKind()).thenReturn(CONSTRUCTOR);
+        when(constructor.getModifiers()).thenReturn(Set.of(modifier));
+        when(constructor.getParameters()).thenReturn((List) Collections.nCopies(numberOfParameters, mock(VariableElement.class)));
+        return constructor;
+    }
+}
@@ -19,6 +19,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -158,4 +160,89 @@ class TypeMetadataFactoryTest {
                 FixtureCreationException.class,
                 () -> factory.createMetadataFrom(fieldType, List.of("invalid.Type")));
     }
-}
\ No newline at end of file
+
+    @Test
+    void createMetadataFrom_whenCalledRepeatedlyForSameType_returnCachedMetadata() {
+        final var type = mock(DeclaredType.class);
+        when(type.getKind()).thenReturn(TypeKind.DECLARED);
+        when(type.getTypeArguments()).thenReturn(List.of());
+        when(type.toString()).thenReturn("some.test.Class");
+
+        final var firstResult = factory.createMetadataFrom(type);
+        final var secondResult = factory.createMetadataFrom(type);
+
+        assertThat(secondResult).isSameAs(firstResult);
+        assertThat(factory.getCacheMisses()).isEqualTo(1);
+        assertThat(factory.getCacheHits()).isEqualTo(1);
+        verify(type, times(1)).getKind();
+    }
+
+    @Test
+    void createMetadataFrom_whenCalledForSameGenericTypeWithDifferentDefinitions_reuseGenericMap() {
+        final var fieldType = mock(DeclaredType.class);
+        final var concreteGenericTypeElement = mock(TypeElement.class);
+        final var concreteGenericType = mock(DeclaredType.class);
+        final var fieldTypeWithoutConcreteGenericsElement = mock(TypeElement.class);
+        final var fieldTypeWithoutConcreteGenerics = mock(DeclaredType.class);
+        final var genericType = mock(TypeMirror.class);
+        final var classType = mock(DeclaredType.class);
+
+        when(elementUtils.getTypeElement(any())).thenAnswer(params -> {
+            final var arg = (String) params.getArguments()[0];
+            if ("java.lang.String".equals(arg))
+                return concreteGenericTypeElement;
+
+            return fieldTypeWithoutConcreteGenericsElement;
+        });
+
+        when(concreteGenericTypeElement.asType()).thenReturn(concreteGenericType);
+        when(concreteGenericType.toString()).thenReturn("java.lang.String");
+        when(fieldTypeWithoutConcreteGenericsElement.asType()).thenReturn(fieldTypeWithoutConcreteGenerics);
+        when(fieldTypeWithoutConcreteGenerics.getTypeArguments()).thenReturn((List) List.of(genericType));
+        when(classType.toString()).thenReturn("some.test.Class<T>");
+
+        when(fieldType.getKind()).thenReturn(TypeKind.DECLARED);
+        when(fieldType.getTypeArguments()).thenReturn((List) List.of(concreteGenericType));
+        when(fieldType.toString()).thenReturn("some.test.Class<java.lang.String>");
+
+        final var classResult = factory.createMetadataFrom(classType, List.of("java.lang.String"));
+        final var fieldResult = factory.createMetadataFrom(fieldType);
+
+        assertThat(fieldResult.getGenericTypeMap()).isSameAs(classResult.getGenericTypeMap());
+        assertThat(factory.getCacheMisses()).isEqualTo(2);
+        assertThat(factory.getCacheHits()).isEqualTo(0);
+        verify(elementUtils, times(1)).getTypeElement("some.test.Class");
+    }
+
+    @Test
+    void createMetadataFrom_whenCalledForSameTypeWithDifferentGenericImplementations_createSeparateMetadata() {
+        final var classType = mock(DeclaredType.class);
+        final var stringElement = mock(TypeElement.class);
+        final var stringType = mock(DeclaredType.class);
+        final var integerElement = mock(TypeElement.class);
+        final var integerType = mock(DeclaredType.class);
+        final var classElement = mock(TypeElement.class);
+        final var classTypeWithoutConcreteGenerics = mock(DeclaredType.class);
+        final var genericType = mock(TypeMirror.class);
+
+        when(elementUtils.getTypeElement(any())).thenAnswer(params -> switch ((String) params.getArguments()[0]) {
+            case "java.lang.String" -> stringElement;
+            case "java.lang.Integer" -> integerElement;
+            default -> classElement;
+        });
+        when(stringElement.asType()).thenReturn(stringType);
+        when(stringType.toString()).thenReturn("java.lang.String");
+        when(integerElement.asType()).thenReturn(integerType);
+        when(integerType.toString()).thenReturn("java.lang.Integer");
+        when(classElement.asType()).thenReturn(classTypeWithoutConcreteGenerics);
+        when(classTypeWithoutConcreteGenerics.getTypeArguments()).thenReturn((List) List.of(genericType));
+        when(classType.toString()).thenReturn("some.test.Class<T>");
+
+        final var stringResult = factory.createMetadataFrom(classType, List.of("java.lang.String"));
+        final var integerResult = factory.createMetadataFrom(classType, List.of("java.lang.Integer"));
+
+        assertThat(stringResult.getQualifiedClassName()).isEqualTo("some.test.Class<java.lang.String>");
+        assertThat(integerResult.getQualifiedClassName()).isEqualTo("some.test.Class<java.lang.Integer>");
+        assertThat(factory.getCacheMisses()).isEqualTo(2);
+    }
+}
@@ -1,6 +1,8 @@
 package de.floydkretschmar.fixturize.stategies.value;
 
 import de.floydkretschmar.fixturize.TestFixtures;
+import de.floydkretschmar.fixturize.annotations.FixtureArray;
+import de.floydkretschmar.fixturize.statistics.ProcessingStatistics;
 import de.floydkretschmar.fixturize.stategies.metadata.TypeMetadata;
 import de.floydkretschmar.fixturize.exceptions.FixtureCreationException;
 import de.floydkretschmar.fixturize.stategies.metadata.MetadataFactory;
@@ -56,12 +58,31 @@ class ConstantValueProviderServiceTest {
 
     private ConstantValueProviderService service;
 
+    private ProcessingStatistics statistics;
+
     @BeforeEach
     void setup() {
         final var valueProviderFactory = mock(ValueProviderFactory.class);
         when(valueProviderFactory.createValueProviders(anyMap(), any(), any())).thenReturn(valueProviderMap);
-        when(valueProviderFactory.createFallbackValueProviders(any())).thenReturn(List.of(classValueProvider, arrayValueProvider, enumValueProvider));
-        service = new ConstantValueProviderService(Map.of(), valueProviderFactory, elementUtils, typeUtils, metadataFactory);
+        when(valueProviderFactory.createFallbackValueProviders(any(), any())).thenReturn(List.of(classValueProvider, arrayValueProvider, enumValueProvider));
+        statistics = new ProcessingStatistics(true);
+        service = createService(valueProviderFactory, true);
+    }
+
+    private ConstantValueProviderService createService(ValueProviderFactory valueProviderFactory, boolean fallbackValueCacheEnabled) {
+        return createService(valueProviderFactory, fallbackValueCacheEnabled, 10);
+    }
+
+    private ConstantValueProviderService createService(ValueProviderFactory valueProviderFactory, boolean fallbackValueCacheEnabled, int maxDepth) {
+        return new ConstantValueProviderService(Map.of(), valueProviderFactory, elementUtils, typeUtils, metadataFactory, new FallbackValueCache(fallbackValueCacheEnabled),
+                new ResolutionContext("some.test.RootType", maxDepth, (element, metadata) -> "cutOffValue"), statistics);
+    }
+
+    private ValueProviderFactory createValueProviderFactory() {
+        final var valueProviderFactory = mock(ValueProviderFactory.class);
+        when(valueProviderFactory.createValueProviders(anyMap(), any(), any())).thenReturn(valueProviderMap);
+        when(valueProviderFactory.createFallbackValueProviders(any(), any())).thenReturn(List.of(classValueProvider));
+        return valueProviderFactory;
     }
 
     @Test
@@ -79,6 +100,7 @@ class ConstantValueProviderServiceTest {
         final var result = service.getValueFor(field);
 
         assertThat(result).isEqualTo("value");
+        assertThat(statistics.toJson()).contains("\"%s$$Lambda\": {\"calls\": 1".formatted(ConstantValueProviderServiceTest.class.getName()));
         verify(valueProviderMap, times(1)).containsKey("some.test.ClassName");
         verify(valueProviderMap, times(1)).get("some.test.ClassName");
         verify(metadataFactory, times(1)).createMetadataFrom(type);
@@ -176,6 +198,110 @@ class ConstantValueProviderServiceTest {
     }
 
 
+    @Test
+    void getValueFor_whenCalledRepeatedlyForSameFallbackType_provideValueOnce() {
+        when(metadataFactory.createMetadataFrom(any())).thenAnswer(params ->
+                TestFixtures.createMetadataFixture(params.getArgument(0).toString()));
+        final var type = createTypeMirrorFixture("ClassType");
+        when(field.asType()).thenReturn(type);
+
+        when(valueProviderMap.containsKey(anyString())).thenReturn(false);
+        when(classValueProvider.provideValueAsString(any(), any())).thenReturn("classValue");
+        when(classValueProvider.canProvideFallback(any(), any())).thenReturn(true);
+
+        final var firstResult = service.getValueFor(field);
+        final var secondResult = service.getValueFor(field);
+
+        assertThat(firstResult).isEqualTo("classValue");
+        assertThat(secondResult).isEqualTo("classValue");
+        verify(classValueProvider, times(1)).provideValueAsString(eq(field), any(TypeMetadata.class));
+        verify(classValueProvider, times(1)).canProvideFallback(eq(field), any(TypeMetadata.class));
+    }
+
+    @Test
+    void getValueFor_whenFallbackValueCacheIsDisabled_provideValueForEveryCall() {
+        final var uncachedService = createService(createValueProviderFactory(), false);
+        when(metadataFactory.createMetadataFrom(any())).thenAnswer(params ->
+                TestFixtures.createMetadataFixture(params.getArgument(0).toString()));
+        final var type = createTypeMirrorFixture("ClassType");
+        when(field.asType()).thenReturn(type);
+
+        when(valueProviderMap.containsKey(anyString())).thenReturn(false);
+        when(classValueProvider.provideValueAsString(any(), any())).thenReturn("classValue");
+        when(classValueProvider.canProvideFallback(any(), any())).thenReturn(true);
+
+        uncachedService.getValueFor(field);
+        uncachedService.getValueFor(field);
+
+        verify(classValueProvider, times(2)).provideValueAsString(eq(field), any(TypeMetadata.class));
+    }
+
+    @Test
+    void getValueFor_whenFieldIsAnnotatedWithFixtureArray_provideValueForEveryCall() {
+        when(metadataFactory.createMetadataFrom(any())).thenAnswer(params ->
+                TestFixtures.createMetadataFixture(params.getArgument(0).toString()));
+        final var type = createTypeMirrorFixture("ClassType");
+        when(field.asType()).thenReturn(type);
+        when(field.getAnnotation(FixtureArray.class)).thenReturn(mock(FixtureArray.class));
+
+        when(valueProviderMap.containsKey(anyString())).thenReturn(false);
+        when(classValueProvider.provideValueAsString(any(), any())).thenReturn("classValue");
+        when(classValueProvider.canProvideFallback(any(), any())).thenReturn(true);
+
+        service.getValueFor(field);
+        service.getValueFor(field);
+
+        verify(classValueProvider, times(2)).provideValueAsString(eq(field), any(TypeMetadata.class));
+    }
+
+    @Test
+    void getValueFor_whenTypeIsAlreadyBeingResolved_cutOffWithoutCachingValue() {
+        when(metadataFactory.createMetadataFrom(any())).thenAnswer(params ->
+                TestFixtures.createMetadataFixture(params.getArgument(0).toString()));
+        final var type = createTypeMirrorFixture("ClassType");
+        when(field.asType()).thenReturn(type);
+
+        when(valueProviderMap.containsKey(anyString())).thenReturn(false);
+        when(classValueProvider.provideValueAsString(any(), any())).thenAnswer(params -> "new ClassType(%s)".formatted(service.getValueFor(field)));
+        when(classValueProvider.canProvideFallback(any(), any())).thenReturn(true);
+
+        final var firstResult = service.getValueFor(field);
+        final var secondResult = service.getValueFor(field);
+
+        assertThat(firstResult).isEqualTo("new ClassType(cutOffValue)");
+        assertThat(secondResult).isEqualTo("new ClassType(cutOffValue)");
+        verify(classValueProvider, times(2)).provideValueAsString(eq(field), any(TypeMetadata.class));
+    }
+
+    @Test
+    void getValueFor_whenTypeIsRootType_cutOff() {
+        when(metadataFactory.createMetadataFrom(any())).thenAnswer(params ->
+                TestFixtures.createMetadataFixture(params.getArgument(0).toString()));
+        final var type = createTypeMirrorFixture("RootType");
+        when(field.asType()).thenReturn(type);
+        when(valueProviderMap.containsKey(anyString())).thenReturn(false);
+
+        final var result = service.getValueFor(field);
+
+        assertThat(result).isEqualTo("cutOffValue");
+        verifyNoInteractions(classValueProvider);
+    }
+
+    @Test
+    void getValueFor_whenMaxDepthIsReached_cutOff() {
+        final var depthLimitedService = createService(createValueProviderFactory(), true, 0);
+        when(metadataFactory.createMetadataFrom(any())).thenAnswer(params ->
+                TestFixtures.createMetadataFixture(params.getArgument(0).toString()));
+        final var type = createTypeMirrorFixture("ClassType");
+        when(field.asType()).thenReturn(type);
+        when(valueProviderMap.containsKey(anyString())).thenReturn(false);
+
+        final var result = depthLimitedService.getValueFor(field);
+
+        assertThat(result).isEqualTo("cutOffValue");
+        verifyNoInteractions(classValueProvider);
+    }
+
     @Test
     void getValueFor_whenCalledForValueProviderThatNeedResolvingOfDefaultValues_shouldResolveWildcards() {
         when(metadataFactory.createMetadataFrom(any())).thenAnswer(params ->
@@ -230,6 +356,34 @@ class ConstantValueProviderServiceTest {
         verifyNoMoreInteractions(valueProviderMap, metadataFactory);
         verifyNoInteractions(classValueProvider, enumValueProvider, arrayValueProvider);
     }
+
+    @Test
+    void resolveValuesForDefaultPlaceholders_whenSameWildcardIsUsedRepeatedly_shouldResolveTypeOnce() {
+        when(metadataFactory.createMetadataFrom(any())).thenAnswer(params ->
+                TestFixtures.createMetadataFixture(params.getArgument(0).toString()));
+        final var type = createTypeMirrorFixture("ClassTypeElement");
+        final var resolvedElement = mock(TypeElement.class);
+        when(resolvedElement.asType()).thenReturn(type);
+        when(elementUtils.getTypeElement(any())).thenReturn(resolvedElement);
+
+        when(valueProviderMap.containsKey(any(String.class))).thenReturn(true);
+        when(valueProviderMap.get(any(String.class))).thenReturn((f, n) -> "%sValue".formatted(n.getSimpleClassName()));
+
+        final var result = service.resolveValuesForDefaultPlaceholders("100% #{ClassTypeElement} and #{ClassTypeElement}");
+
+        assertThat(result).isEqualTo("100% ClassTypeElementValue and ClassTypeElementValue");
+        verify(elementUtils, times(1)).getTypeElement("ClassTypeElement");
+        verify(metadataFactory, times(1)).createMetadataFrom(type);
+    }
+
+    @Test
+    void resolveValuesForDefaultPlaceholders_whenValueContainsNoWildcards_returnValueUnchanged() {
+        final var result = service.resolveValuesForDefaultPlaceholders("String.format(\"%d\", 1)");
+
+        assertThat(result).isEqualTo("String.format(\"%d\", 1)");
+        verifyNoInteractions(elementUtils, valueProviderMap, metadataFactory);
+    }
+
     @Test
     void resolveValuesForDefaultPlaceholders_whenWildcardIsInvalid_shouldThrowFixtureCreationException() {
         assertThrows(FixtureCreationException.class, () -> service.resolveValuesForDefaultPlaceholders(
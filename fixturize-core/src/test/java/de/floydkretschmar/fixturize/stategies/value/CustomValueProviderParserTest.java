@@ -1,14 +1,17 @@
 package de.floydkretschmar.fixturize.stategies.value;
 
 import de.floydkretschmar.fixturize.TestFixtures;
-import org.graalvm.polyglot.Context;
-import org.graalvm.polyglot.HostAccess;
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import javax.lang.model.element.Name;
 import javax.lang.model.element.VariableElement;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -20,10 +23,7 @@ class CustomValueProviderParserTest {
 
     @BeforeEach
     void setup() {
-        Context context = Context.newBuilder("js")
-                .allowHostAccess(HostAccess.ALL)
-                .build();
-        parser = new CustomValueProviderParser(context);
+        parser = new CustomValueProviderParser();
     }
 
     @AfterEach
@@ -56,6 +56,25 @@ class CustomValueProviderParserTest {
         assertThat(result).isEqualTo("simpleName");
     }
 
+    @Test
+    @SneakyThrows
+    void parseValueProvider_whenValueProviderIsCalledByMultipleThreads_provideValueForEveryCall() {
+        final var element = mock(VariableElement.class);
+        final var names = TestFixtures.createMetadataFixture();
+        final var valueProvider = parser.parseValueProvider("(field, names) => `${names.getQualifiedClassName()}`");
+        final Callable<String> call = () -> valueProvider.provideValueAsString(element, names);
+        final var executor = Executors.newFixedThreadPool(4);
+
+        try {
+            final var results = executor.invokeAll(Collections.nCopies(100, call));
+            for (Future<String> result : results) {
+                assertThat(result.get()).isEqualTo(names.getQualifiedClassName());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     void parseValueProvider_whenUsingNames_createValueProvider() {
         final var element = mock(VariableElement.class);
@@ -84,4 +103,38 @@ class CustomValueProviderParserTest {
 
         assertThat(result).isEqualTo("simpleName");
     }
-}
\ No newline at end of file
+
+    @Test
+    void parseValueProvider_whenCalledAfterClose_createValueProvider() {
+        final var element = mock(VariableElement.class);
+        final var names = TestFixtures.createMetadataFixture();
+        parser.parseValueProvider("(field, names) => `first`");
+        parser.close();
+
+        final var valueProvider = parser.parseValueProvider("(field, names) => `second`");
+        final var result = valueProvider.provideValueAsString(element, names);
+
+        assertThat(result).isEqualTo("second");
+    }
+
+    @Test
+    void parseValueProvider_whenCalledWithSameDefinitionTwice_evaluateDefinitionOnce() {
+        final var definition = "(field, names) => `test`";
+
+        final var firstValueProvider = parser.parseValueProvider(definition);
+        final var secondValueProvider = parser.parseValueProvider(definition);
+        parser.parseValueProvider("(field, names) => `other`");
+
+        assertThat(secondValueProvider).isSameAs(firstValueProvider);
+        assertThat(parser.getCacheHits()).isEqualTo(1);
+        assertThat(parser.getCacheMisses()).isEqualTo(2);
+    }
+
+    @Test
+    void close_whenNoValueProviderHasBeenParsed_doNothing() {
+        final var unusedParser = new CustomValueProviderParser();
+
+        unusedParser.close();
+        unusedParser.close();
+    }
+}
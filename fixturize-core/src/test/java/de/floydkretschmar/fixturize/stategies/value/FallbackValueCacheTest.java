@@ -0,0 +1,36 @@
+package de.floydkretschmar.fixturize.stategies.value;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FallbackValueCacheTest {
+    @Test
+    void get_whenValueHasBeenPut_returnValue() {
+        final var cache = new FallbackValueCache(true);
+
+        cache.put("some.Type", "value", 1);
+
+        assertThat(cache.get("some.Type", 1)).isEqualTo(new FallbackValueCache.CachedValue("value", 1));
+        assertThat(cache.get("some.OtherType", 1)).isNull();
+    }
+
+    @Test
+    void get_whenValueRequiresMoreThanTheRemainingDepth_returnNull() {
+        final var cache = new FallbackValueCache(true);
+
+        cache.put("some.Type", "value", 2);
+
+        assertThat(cache.get("some.Type", 1)).isNull();
+        assertThat(cache.get("some.Type", 3)).isEqualTo(new FallbackValueCache.CachedValue("value", 2));
+    }
+
+    @Test
+    void get_whenDisabled_returnNull() {
+        final var cache = new FallbackValueCache(false);
+
+        cache.put("some.Type", "value", 0);
+
+        assertThat(cache.get("some.Type", 0)).isNull();
+    }
+}
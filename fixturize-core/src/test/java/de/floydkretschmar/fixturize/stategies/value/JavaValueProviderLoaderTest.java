@@ -0,0 +1,46 @@
+package de.floydkretschmar.fixturize.stategies.value;
+
+import de.floydkretschmar.fixturize.exceptions.FixtureCreationException;
+import de.floydkretschmar.fixturize.mocks.RegisteredValueProvider;
+import de.floydkretschmar.fixturize.mocks.UnregisteredValueProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JavaValueProviderLoaderTest {
+
+    private JavaValueProviderLoader loader;
+
+    @BeforeEach
+    void setup() {
+        loader = new JavaValueProviderLoader(getClass().getClassLoader());
+    }
+
+    @Test
+    void loadValueProvider_whenProviderIsRegisteredAsService_returnRegisteredInstance() {
+        final var result = loader.loadValueProvider(RegisteredValueProvider.class.getName());
+
+        assertThat(result).isInstanceOf(RegisteredValueProvider.class);
+        assertThat(loader.loadValueProvider(RegisteredValueProvider.class.getName())).isSameAs(result);
+    }
+
+    @Test
+    void loadValueProvider_whenProviderIsNotRegisteredAsService_instantiateProvider() {
+        final var result = loader.loadValueProvider(UnregisteredValueProvider.class.getName());
+
+        assertThat(result).isInstanceOf(UnregisteredValueProvider.class);
+        assertThat(loader.loadValueProvider(UnregisteredValueProvider.class.getName())).isSameAs(result);
+    }
+
+    @Test
+    void loadValueProvider_whenClassDoesNotExist_throwFixtureCreationException() {
+        assertThrows(FixtureCreationException.class, () -> loader.loadValueProvider("some.test.DoesNotExist"));
+    }
+
+    @Test
+    void loadValueProvider_whenClassIsNoValueProvider_throwFixtureCreationException() {
+        assertThrows(FixtureCreationException.class, () -> loader.loadValueProvider(String.class.getName()));
+    }
+}
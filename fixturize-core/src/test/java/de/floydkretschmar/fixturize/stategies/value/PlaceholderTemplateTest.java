@@ -0,0 +1,52 @@
+package de.floydkretschmar.fixturize.stategies.value;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlaceholderTemplateTest {
+    @Test
+    void parse_whenValueContainsWildcards_splitIntoLiteralsAndWildcards() {
+        final var result = PlaceholderTemplate.parse("new Class(#{java.lang.String}, #{int})");
+
+        assertThat(result.hasPlaceholders()).isTrue();
+        assertThat(result.getPlaceholderTypeNames()).containsExactly("java.lang.String", "int");
+        assertThat(result.resolve(typeName -> "<%s>".formatted(typeName))).isEqualTo("new Class(<java.lang.String>, <int>)");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"no wildcard", "#{unclosed", "#{invalid{}", "#{invalid$}", "${java.lang.String}", "#", ""})
+    void parse_whenValueContainsNoValidWildcards_keepValueUnchanged(String value) {
+        final var result = PlaceholderTemplate.parse(value);
+
+        assertThat(result.hasPlaceholders()).isFalse();
+        assertThat(result.resolve(typeName -> "resolved")).isEqualTo(value);
+    }
+
+    @Test
+    void parse_whenInvalidWildcardPrecedesValidWildcard_onlyResolveValidWildcard() {
+        final var result = PlaceholderTemplate.parse("#{a{#{java.lang.String}}");
+
+        assertThat(result.getPlaceholderTypeNames()).containsExactly("java.lang.String");
+        assertThat(result.resolve(typeName -> "value")).isEqualTo("#{a{value}");
+    }
+
+    @Test
+    void resolve_whenSameWildcardIsUsedRepeatedly_resolveTypeOnce() {
+        final var template = PlaceholderTemplate.parse("#{int} + #{int} = #{long}");
+        final var resolvedTypes = new ArrayList<String>();
+
+        final var result = template.resolve(typeName -> {
+            resolvedTypes.add(typeName);
+            return "%s%%".formatted(typeName);
+        });
+
+        assertThat(result).isEqualTo("int% + int% = long%");
+        assertThat(resolvedTypes).isEqualTo(List.of("int", "long"));
+    }
+}
@@ -0,0 +1,62 @@
+package de.floydkretschmar.fixturize.stategies.value;
+
+import de.floydkretschmar.fixturize.TestFixtures;
+import org.junit.jupiter.api.Test;
+
+import javax.lang.model.element.VariableElement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ResolutionContextTest {
+    @Test
+    void requiresCutOff_whenTypeIsBeingResolved_returnTrue() {
+        final var context = new ResolutionContext("some.test.Root", 10, (field, metadata) -> "cutOff");
+        context.enter("some.test.Nested");
+
+        assertThat(context.getDepth()).isEqualTo(1);
+        assertThat(context.requiresCutOff("some.test.Root")).isTrue();
+        assertThat(context.requiresCutOff("some.test.Nested")).isTrue();
+        assertThat(context.requiresCutOff("some.test.Other")).isFalse();
+
+        context.exit();
+
+        assertThat(context.getDepth()).isZero();
+        assertThat(context.requiresCutOff("some.test.Nested")).isFalse();
+    }
+
+    @Test
+    void requiresCutOff_whenMaxDepthIsReached_returnTrue() {
+        final var context = new ResolutionContext("some.test.Root", 1, (field, metadata) -> "cutOff");
+
+        assertThat(context.requiresCutOff("some.test.Nested")).isFalse();
+
+        context.enter("some.test.Nested");
+
+        assertThat(context.getRemainingDepth()).isEqualTo(-1);
+        assertThat(context.requiresCutOff("some.test.Other")).isTrue();
+    }
+
+    @Test
+    void exit_whenNestedTypesHaveBeenResolved_returnRequiredDepth() {
+        final var context = new ResolutionContext("some.test.Root", 10, (field, metadata) -> "cutOff");
+
+        context.enter("some.test.Outer");
+        context.enter("some.test.Inner");
+        assertThat(context.exit()).isZero();
+        context.require(2);
+
+        assertThat(context.getRemainingDepth()).isEqualTo(8);
+        assertThat(context.exit()).isEqualTo(3);
+    }
+
+    @Test
+    void cutOff_whenCalled_returnCutOffValueAndCountCutOff() {
+        final var context = new ResolutionContext("some.test.Root", 10, (field, metadata) -> "%sCutOff".formatted(metadata.getSimpleClassName()));
+
+        final var result = context.cutOff(mock(VariableElement.class), TestFixtures.createMetadataFixture("Root"));
+
+        assertThat(result).isEqualTo("RootCutOff");
+        assertThat(context.getCutOffCount()).isEqualTo(1);
+    }
+}
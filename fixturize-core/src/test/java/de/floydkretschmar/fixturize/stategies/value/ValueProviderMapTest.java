@@ -55,14 +55,14 @@ class ValueProviderMapTest {
             "java.util.Queue"
     })
     void containsKey_whenCalledForDefaultValue_shouldReturnTrue(String targetClassName) {
-        final var map = new ValueProviderMap(Map.of(), typeUtils, service);
+        final var map = new ValueProviderMap(Map.of(), typeUtils, service, false);
 
         assertThat(map.containsKey(targetClassName)).isTrue();
     }
 
     @Test
     void containsKey_whenCalledForUnregisteredValue_shouldReturnFalse() {
-        final var map = new ValueProviderMap(Map.of(), typeUtils, service);
+        final var map = new ValueProviderMap(Map.of(), typeUtils, service, false);
 
         assertThat(map.containsKey("unregisteredType")).isFalse();
     }
@@ -77,7 +77,23 @@ class ValueProviderMapTest {
             "java.util.Date, new java.util.Date()" })
     void get_whenCalledForDefaultProvidersDefinedAsLambda_shouldReturnExpectedDefaultValue(String targetClassName, String expectedDefaultValue) {
         final var field = mock(VariableElement.class);
-        final var map = new ValueProviderMap(Map.of(), typeUtils, service);
+        final var map = new ValueProviderMap(Map.of(), typeUtils, service, false);
+        final var names = TestFixtures.createMetadataFixture();
+
+        assertThat(map.get(targetClassName).provideValueAsString(field, names)).isEqualTo(expectedDefaultValue);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "java.time.Instant|java.time.Instant.parse(\"2000-01-01T00:00:00Z\")",
+            "java.time.Duration|java.time.Duration.ZERO",
+            "java.time.LocalDate|java.time.LocalDate.of(2000, 1, 1)",
+            "java.time.LocalDateTime|java.time.LocalDateTime.of(2000, 1, 1, 0, 0)",
+            "java.time.LocalTime|java.time.LocalTime.MIDNIGHT",
+            "java.util.Date|new java.util.Date(946684800000L)" })
+    void get_whenDeterministic_shouldReturnFixedDefaultValue(String targetClassName, String expectedDefaultValue) {
+        final var field = mock(VariableElement.class);
+        final var map = new ValueProviderMap(Map.of(), typeUtils, service, true);
         final var names = TestFixtures.createMetadataFixture();
 
         assertThat(map.get(targetClassName).provideValueAsString(field, names)).isEqualTo(expectedDefaultValue);
@@ -87,7 +103,7 @@ class ValueProviderMapTest {
     void get_whenDefaultIsOverwritten_shouldReturnCustomValue() {
         final var field = mock(VariableElement.class);
         final var names = TestFixtures.createMetadataFixture();
-        final var map = new ValueProviderMap(Map.of("java.util.UUID", (f, n) -> "10"), typeUtils, service);
+        final var map = new ValueProviderMap(Map.of("java.util.UUID", (f, n) -> "10"), typeUtils, service, false);
 
         assertThat(map.get("java.util.UUID").provideValueAsString(field, names)).isEqualTo("10");
     }
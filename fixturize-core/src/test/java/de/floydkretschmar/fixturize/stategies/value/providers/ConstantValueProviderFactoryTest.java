@@ -1,5 +1,6 @@
 package de.floydkretschmar.fixturize.stategies.value.providers;
 
+import de.floydkretschmar.fixturize.stategies.metadata.TypeMemberIndex;
 import de.floydkretschmar.fixturize.stategies.value.ValueProviderService;
 import de.floydkretschmar.fixturize.stategies.value.providers.fallback.ArrayValueProvider;
 import de.floydkretschmar.fixturize.stategies.value.providers.fallback.ClassValueProvider;
@@ -18,7 +19,7 @@ class ConstantValueProviderFactoryTest {
         final ValueProvider valueProvider = (f, n) -> "customValueProviderValue";
         final var typeUtils = mock(Types.class);
         final var service = mock(ValueProviderService.class);
-        final var factory = new ConstantValueProviderFactory();
+        final var factory = new ConstantValueProviderFactory(new TypeMemberIndex(), false, false);
 
         final var map = factory.createValueProviders(Map.of("customValueProviderKey", valueProvider), typeUtils, service);
 
@@ -28,9 +29,9 @@ class ConstantValueProviderFactoryTest {
     @Test
     void createClassValueProvider_whenCalled_shouldReturnClassValueProvider() {
         final var service = mock(ValueProviderService.class);
-        final var factory = new ConstantValueProviderFactory();
+        final var factory = new ConstantValueProviderFactory(new TypeMemberIndex(), false, false);
 
-        final var valueProvider = factory.createFallbackValueProviders(service);
+        final var valueProvider = factory.createFallbackValueProviders(service, "some.test.Root");
 
         assertThat(valueProvider)
                 .hasSize(3)
@@ -4,12 +4,16 @@ import de.floydkretschmar.fixturize.TestFixtures;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import javax.lang.model.element.Name;
+import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 import static de.floydkretschmar.fixturize.TestFixtures.RANDOM_UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class UUIDValueProviderTest {
 
@@ -29,4 +33,21 @@ class UUIDValueProviderTest {
 
     }
 
+    @Test
+    void provideValueAsString_whenDeterministic_returnsValueDerivedFromFieldName() {
+        final var provider = new UUIDValueProvider(true);
+        final var field = mock(VariableElement.class);
+        final var enclosingElement = mock(TypeElement.class);
+        when(field.getEnclosingElement()).thenReturn(enclosingElement);
+        when(enclosingElement.toString()).thenReturn("de.example.Customer");
+        final var name = mock(Name.class);
+        when(name.toString()).thenReturn("id");
+        when(field.getSimpleName()).thenReturn(name);
+        final var expectedUUID = UUID.nameUUIDFromBytes("de.example.Customer.id".getBytes(StandardCharsets.UTF_8));
+
+        final var result = provider.provideValueAsString(field, TestFixtures.createMetadataFixture("java.util.UUID"));
+
+        assertThat(result).isEqualTo("java.util.UUID.fromString(\"%s\")".formatted(expectedUUID));
+        assertThat(provider.provideValueAsString(field, TestFixtures.createMetadataFixture("java.util.UUID"))).isEqualTo(result);
+    }
 }
\ No newline at end of file
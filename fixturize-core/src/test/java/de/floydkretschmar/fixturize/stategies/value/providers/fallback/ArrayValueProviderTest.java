@@ -1,6 +1,10 @@
 package de.floydkretschmar.fixturize.stategies.value.providers.fallback;
 
 import de.floydkretschmar.fixturize.TestFixtures;
+import de.floydkretschmar.fixturize.annotations.ArrayFill;
+import de.floydkretschmar.fixturize.annotations.FixtureArray;
+import de.floydkretschmar.fixturize.exceptions.FixtureCreationException;
+import de.floydkretschmar.fixturize.stategies.metadata.TypeMetadata;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,10 +13,16 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import javax.lang.model.element.Name;
 import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
 import javax.lang.model.type.TypeKind;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class ArrayValueProviderTest {
@@ -41,4 +51,55 @@ class ArrayValueProviderTest {
 
         assertThat(valueProvider.canProvideFallback(element, TestFixtures.createMetadataFixture())).isEqualTo(expectedResult);
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest(name = "{0} {1}")
+    @CsvSource(delimiter = '|', value = {
+            "INT|ZERO|int[]|new int[4]",
+            "INT|INDEX|int[]|((java.util.function.Supplier<int[]>) () -> { final int[] array$ = new int[4]; java.util.Arrays.setAll(array$, i$ -> i$); return array$; }).get()",
+            "LONG|CONSTANT|long[]|((java.util.function.Supplier<long[]>) () -> { final long[] array$ = new long[4]; java.util.Arrays.fill(array$, (long) (7)); return array$; }).get()",
+            "BYTE|INDEX|byte[]|((java.util.function.Supplier<byte[]>) () -> { final byte[] array$ = new byte[4]; for (int i$ = 0; i$ < array$.length; i$++) array$[i$] = (byte) i$; return array$; }).get()",
+            "DOUBLE|RANDOM|double[]|new java.util.SplittableRandom(42L).doubles(4).toArray()",
+            "BYTE|RANDOM|byte[]|((java.util.function.Supplier<byte[]>) () -> { final byte[] array$ = new byte[4]; new java.util.SplittableRandom(42L).nextBytes(array$); return array$; }).get()"})
+    void provideValueAsString_whenFieldIsAnnotatedWithFixtureArray_returnFilledArray(TypeKind componentKind, ArrayFill fill, String arrayType, String expectedValue) {
+        mockArrayField(componentKind, createFixtureArray(fill));
+
+        final var result = valueProvider.provideValueAsString(field, createArrayMetadata(arrayType));
+
+        assertThat(result).isEqualTo(expectedValue);
+    }
+
+    @Test
+    void provideValueAsString_whenFillIsNotSupportedForComponentType_throwFixtureCreationException() {
+        mockArrayField(TypeKind.BOOLEAN, createFixtureArray(ArrayFill.RANDOM));
+        final var fieldName = mock(Name.class);
+        when(fieldName.toString()).thenReturn("flags");
+        when(field.getSimpleName()).thenReturn(fieldName);
+
+        assertThatThrownBy(() -> valueProvider.provideValueAsString(field, createArrayMetadata("boolean[]")))
+                .isInstanceOf(FixtureCreationException.class)
+                .hasMessage("The fill RANDOM of the array for field flags is only supported for arrays of int, long, double and byte.");
+    }
+
+    private void mockArrayField(TypeKind componentKind, FixtureArray arrayAnnotation) {
+        final var arrayType = mock(ArrayType.class);
+        final var componentType = TestFixtures.createTypeMirrorFixture(componentKind);
+        when(arrayType.getComponentType()).thenReturn(componentType);
+        when(field.asType()).thenReturn(arrayType);
+        when(field.getAnnotation(FixtureArray.class)).thenReturn(arrayAnnotation);
+    }
+
+    private static FixtureArray createFixtureArray(ArrayFill fill) {
+        final var arrayAnnotation = mock(FixtureArray.class);
+        when(arrayAnnotation.length()).thenReturn(4);
+        when(arrayAnnotation.fill()).thenReturn(fill);
+        lenient().when(arrayAnnotation.value()).thenReturn("7");
+        lenient().when(arrayAnnotation.seed()).thenReturn(42L);
+        return arrayAnnotation;
+    }
+
+    private static TypeMetadata createArrayMetadata(String arrayType) {
+        final var metadata = mock(TypeMetadata.class);
+        when(metadata.getQualifiedClassName()).thenReturn(arrayType);
+        return metadata;
+    }
+}
@@ -1,5 +1,6 @@
 package de.floydkretschmar.fixturize.stategies.value.providers.fallback;
 
+import de.floydkretschmar.fixturize.stategies.metadata.TypeMemberIndex;
 import de.floydkretschmar.fixturize.TestFixtures;
 import de.floydkretschmar.fixturize.stategies.metadata.TypeMetadata;
 import de.floydkretschmar.fixturize.stategies.value.ValueProviderService;
@@ -46,7 +47,7 @@ class BuilderValueProviderTest {
 
     @BeforeEach
     void setup() {
-        valueProvider = new BuilderValueProvider(valueProviderService);
+        valueProvider = new BuilderValueProvider(valueProviderService, new TypeMemberIndex());
     }
 
     static Stream<Arguments> getParametersForLombokBuilderTest() {
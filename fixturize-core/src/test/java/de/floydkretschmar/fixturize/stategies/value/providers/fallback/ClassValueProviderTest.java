@@ -1,5 +1,6 @@
 package de.floydkretschmar.fixturize.stategies.value.providers.fallback;
 
+import de.floydkretschmar.fixturize.stategies.metadata.TypeMemberIndex;
 import de.floydkretschmar.fixturize.TestFixtures;
 import de.floydkretschmar.fixturize.annotations.FixtureBuilder;
 import de.floydkretschmar.fixturize.annotations.FixtureBuilderSetter;
@@ -48,7 +49,7 @@ class ClassValueProviderTest {
 
     @BeforeEach
     void setup() {
-        valueProvider = new ClassValueProvider(builderValueProvider, constructorValueProvider);
+        valueProvider = new ClassValueProvider(builderValueProvider, constructorValueProvider, (field, metadata) -> DEFAULT_VALUE, new TypeMemberIndex());
     }
 
     public static Stream<Arguments> getMetadataParameters() {
@@ -97,6 +98,24 @@ class ClassValueProviderTest {
         verifyNoInteractions(constructorValueProvider, builderValueProvider);
     }
 
+    @ParameterizedTest
+    @MethodSource("getMetadataParameters")
+    void provideValueAsString_whenFixtureCanBeReferenced_returnFixtureReference(TypeMetadata metadata) {
+        final var referencingValueProvider = new ClassValueProvider(
+                builderValueProvider, constructorValueProvider, (field, typeMetadata) -> "fixtureReference", new TypeMemberIndex());
+        final var type = TestFixtures.createDeclaredTypeFixture();
+        final var typeAsElement = type.asElement();
+
+        when(typeAsElement.getAnnotationsByType(ArgumentMatchers.argThat(param -> Objects.nonNull(param) && param.equals(FixtureBuilder.class))))
+                .thenReturn(new FixtureBuilder[]{});
+        when(field.asType()).thenReturn(type);
+
+        final var result = referencingValueProvider.provideValueAsString(field, metadata);
+
+        assertThat(result).isEqualTo("fixtureReference");
+        verifyNoInteractions(constructorValueProvider, builderValueProvider);
+    }
+
     @ParameterizedTest
     @MethodSource("getMetadataParameters")
     void provideValueAsString_whenFallbackForFixtureConstructor_returnValueStringForFixtureConstructorWithMostParameters(TypeMetadata metadata) {
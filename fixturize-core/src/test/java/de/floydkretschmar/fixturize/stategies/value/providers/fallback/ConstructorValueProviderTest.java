@@ -1,5 +1,6 @@
 package de.floydkretschmar.fixturize.stategies.value.providers.fallback;
 
+import de.floydkretschmar.fixturize.stategies.metadata.TypeMemberIndex;
 import de.floydkretschmar.fixturize.TestFixtures;
 import de.floydkretschmar.fixturize.stategies.metadata.TypeMetadata;
 import de.floydkretschmar.fixturize.stategies.value.ValueProviderService;
@@ -47,7 +48,7 @@ class ConstructorValueProviderTest {
     private VariableElement field;
     @BeforeEach
     void setup() {
-        valueProvider = new ConstructorValueProvider(valueProviderService);
+        valueProvider = new ConstructorValueProvider(valueProviderService, new TypeMemberIndex());
     }
 
     public static Stream<Arguments> getParametersForLombokAllArgsConstructorTest() {
@@ -1,5 +1,6 @@
 package de.floydkretschmar.fixturize.stategies.value.providers.fallback;
 
+import de.floydkretschmar.fixturize.stategies.metadata.TypeMemberIndex;
 import de.floydkretschmar.fixturize.TestFixtures;
 import de.floydkretschmar.fixturize.stategies.metadata.TypeMetadata;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,7 +37,7 @@ class EnumValueProviderTest {
 
     @BeforeEach
     void setup() {
-        valueProvider = new EnumValueProvider();
+        valueProvider = new EnumValueProvider(new TypeMemberIndex());
         metadata = TestFixtures.createMetadataFixture();
     }
 
@@ -0,0 +1,114 @@
+package de.floydkretschmar.fixturize.stategies.value.providers.fallback;
+
+import de.floydkretschmar.fixturize.TestFixtures;
+import de.floydkretschmar.fixturize.annotations.Fixture;
+import de.floydkretschmar.fixturize.stategies.metadata.TypeMemberIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+
+import static de.floydkretschmar.fixturize.TestFixtures.createTypeMirrorFixture;
+import static de.floydkretschmar.fixturize.stategies.value.providers.ValueProvider.DEFAULT_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FixtureReferenceValueProviderTest {
+
+    private FixtureReferenceValueProvider valueProvider;
+
+    @Mock
+    private VariableElement field;
+
+    @BeforeEach
+    void setup() {
+        valueProvider = new FixtureReferenceValueProvider(new TypeMemberIndex(), "some.test.Root");
+    }
+
+    private static DeclaredType createDeclaredTypeFixture() {
+        final var type = mock(DeclaredType.class);
+        final var typeElement = mock(TypeElement.class);
+        when(type.getKind()).thenReturn(TypeKind.DECLARED);
+        when(type.asElement()).thenReturn(typeElement);
+        return type;
+    }
+
+    @Test
+    void provideValueAsString_whenTypeHasFixture_returnDefaultCreationMethodCall() {
+        final var type = createDeclaredTypeFixture();
+        final var fixture = mock(Fixture.class);
+        when(fixture.genericImplementations()).thenReturn(new String[0]);
+        when(type.asElement().getAnnotationsByType(Fixture.class)).thenReturn(new Fixture[]{fixture});
+        when(field.asType()).thenReturn(type);
+
+        final var result = valueProvider.provideValueAsString(field, TestFixtures.createMetadataFixture());
+
+        assertThat(result).isEqualTo("some.test.ClassFixture.createClass()");
+    }
+
+    @Test
+    void provideValueAsString_whenGenericsOfFixtureMatch_returnDefaultCreationMethodCall() {
+        final var type = createDeclaredTypeFixture();
+        final var fixture = mock(Fixture.class);
+        when(fixture.genericImplementations()).thenReturn(new String[]{"java.lang.String"});
+        when(type.asElement().getAnnotationsByType(Fixture.class)).thenReturn(new Fixture[]{fixture});
+        when(field.asType()).thenReturn(type);
+
+        final var result = valueProvider.provideValueAsString(field, TestFixtures.createMetadataFixtureBuilder("Class", "<java.lang.String>").build());
+
+        assertThat(result).isEqualTo("some.test.ClassFixture.createClass()");
+    }
+
+    @Test
+    void provideValueAsString_whenGenericsOfFixtureDoNotMatch_returnDefaultValue() {
+        final var type = createDeclaredTypeFixture();
+        final var fixture = mock(Fixture.class);
+        when(fixture.genericImplementations()).thenReturn(new String[]{"java.lang.String"});
+        when(type.asElement().getAnnotationsByType(Fixture.class)).thenReturn(new Fixture[]{fixture});
+        when(field.asType()).thenReturn(type);
+
+        final var result = valueProvider.provideValueAsString(field, TestFixtures.createMetadataFixtureBuilder("Class", "<java.lang.Integer>").build());
+
+        assertThat(result).isEqualTo(DEFAULT_VALUE);
+    }
+
+    @Test
+    void provideValueAsString_whenTypeIsTypeOfReferencingFixture_returnDefaultValue() {
+        final var type = createTypeMirrorFixture(TypeKind.DECLARED);
+        when(field.asType()).thenReturn(type);
+
+        final var result = new FixtureReferenceValueProvider(new TypeMemberIndex(), "some.test.Class")
+                .provideValueAsString(field, TestFixtures.createMetadataFixture());
+
+        assertThat(result).isEqualTo(DEFAULT_VALUE);
+    }
+
+    @Test
+    void provideValueAsString_whenTypeHasNoFixture_returnDefaultValue() {
+        final var type = createDeclaredTypeFixture();
+        when(type.asElement().getAnnotationsByType(Fixture.class)).thenReturn(new Fixture[0]);
+        when(field.asType()).thenReturn(type);
+
+        final var result = valueProvider.provideValueAsString(field, TestFixtures.createMetadataFixture());
+
+        assertThat(result).isEqualTo(DEFAULT_VALUE);
+    }
+
+    @Test
+    void provideValueAsString_whenTypeIsNotDeclared_returnDefaultValue() {
+        final var type = createTypeMirrorFixture(TypeKind.INT);
+        when(field.asType()).thenReturn(type);
+
+        final var result = valueProvider.provideValueAsString(field, TestFixtures.createMetadataFixture());
+
+        assertThat(result).isEqualTo(DEFAULT_VALUE);
+    }
+}
@@ -0,0 +1,95 @@
+package de.floydkretschmar.fixturize.statistics;
+
+import de.floydkretschmar.fixturize.stategies.value.providers.ValueProvider;
+import de.floydkretschmar.fixturize.stategies.value.providers.custom.StringValueProvider;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProcessingStatisticsTest {
+    @Test
+    void toJson_whenStatisticsAreRecorded_containAllStatistics() {
+        final var statistics = new ProcessingStatistics(true);
+        final var javascriptValueProvider = (ValueProvider) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class[]{ValueProvider.class}, (proxy, method, args) -> "value");
+        final ValueProvider lambdaValueProvider = (field, metadata) -> "value";
+
+        statistics.stopTimer("analysis", "some.test.ClassFixture", statistics.startTimer());
+        statistics.increment("fixtures", 1);
+        statistics.increment("fixtures", 2);
+        statistics.recordProviderCall(new StringValueProvider(), statistics.startProviderCall());
+        statistics.recordProviderCall(javascriptValueProvider, statistics.startProviderCall());
+        statistics.recordProviderCall(lambdaValueProvider, statistics.startProviderCall());
+        statistics.recordProviderCall(lambdaValueProvider, statistics.startProviderCall());
+        statistics.recordResolutionDepth(1);
+        statistics.recordResolutionDepth(1);
+        statistics.recordResolutionDepth(2);
+
+        final var result = statistics.toJson();
+
+        assertThat(statistics.isEnabled()).isTrue();
+        assertThat(result)
+                .contains("\"phasesMillis\": {\"analysis\": ")
+                .contains("\"counters\": {\"fixtures\": 3}")
+                .contains("\"%s\": {\"calls\": 1".formatted(StringValueProvider.class.getName()))
+                .contains("\"javascript\": {\"calls\": 1")
+                .contains("\"%s$$Lambda\": {\"calls\": 2".formatted(ProcessingStatisticsTest.class.getName()))
+                .contains("\"resolutionDepths\": {\"1\": 2, \"2\": 1}")
+                .contains("\"fixturesMillis\": {\"some.test.ClassFixture\": ");
+        assertThat(statistics.createSummary())
+                .contains("counters: {fixtures=3}")
+                .contains("slowest fixture: some.test.ClassFixture");
+    }
+
+    @Test
+    void toJson_whenStatisticsAreDisabled_recordNothing() {
+        final var statistics = new ProcessingStatistics(false);
+
+        statistics.stopTimer("analysis", "some.test.ClassFixture", statistics.startTimer());
+        statistics.increment("fixtures", 1);
+        statistics.recordProviderCall(new StringValueProvider(), statistics.startProviderCall());
+        statistics.recordResolutionDepth(1);
+
+        assertThat(statistics.isEnabled()).isFalse();
+        assertThat(statistics.startTimer()).isZero();
+        assertThat(statistics.startProviderCall()).isZero();
+        assertThat(statistics.toJson()).isEqualToIgnoringWhitespace("""
+                {
+                  "phasesMillis": {},
+                  "counters": {},
+                  "valueProviders": {},
+                  "resolutionDepths": {},
+                  "fixturesMillis": {}
+                }
+                """);
+    }
+
+    @Test
+    void recordProviderCall_whenProviderCallsAreNested_recordSelfTimeOfEveryProvider() throws InterruptedException {
+        final var statistics = new ProcessingStatistics(true);
+        final ValueProvider outerValueProvider = new StringValueProvider();
+        final ValueProvider innerValueProvider = (field, metadata) -> "value";
+
+        final var outerStart = statistics.startProviderCall();
+        final var innerStart = statistics.startProviderCall();
+        Thread.sleep(50);
+        statistics.recordProviderCall(innerValueProvider, innerStart);
+        statistics.recordProviderCall(outerValueProvider, outerStart);
+
+        final var result = statistics.toJson();
+
+        assertThat(getSelfTimeMillis(result, ProcessingStatisticsTest.class.getName() + "$$Lambda")).isGreaterThanOrEqualTo(50);
+        assertThat(getSelfTimeMillis(result, StringValueProvider.class.getName())).isLessThan(50);
+        assertThat(statistics.createSummary()).contains("value provider self time (ms):");
+    }
+
+    private static double getSelfTimeMillis(String json, String providerName) {
+        final var matcher = Pattern.compile(Pattern.quote("\"%s\": {\"calls\": 1, \"selfTimeMillis\": ".formatted(providerName)) + "([0-9.]+)")
+                .matcher(json);
+        assertThat(matcher.find()).isTrue();
+        return Double.parseDouble(matcher.group(1));
+    }
+}
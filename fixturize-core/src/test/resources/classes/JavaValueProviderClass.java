@@ -0,0 +1,13 @@
+package de.floydkretschmar.fixturize.mocks;
+
+import de.floydkretschmar.fixturize.annotations.Fixture;
+import de.floydkretschmar.fixturize.annotations.FixtureValueProvider;
+
+@Fixture
+@FixtureValueProvider(targetType = "java.lang.String", providerClass = RegisteredValueProvider.class)
+@FixtureValueProvider(targetType = "int", providerClass = UnregisteredValueProvider.class)
+public class JavaValueProviderClass {
+    private String stringField;
+    private int intField;
+    private boolean booleanField;
+}
@@ -0,0 +1,24 @@
+package de.floydkretschmar.fixturize.mocks;
+
+import de.floydkretschmar.fixturize.annotations.ArrayFill;
+import de.floydkretschmar.fixturize.annotations.Fixture;
+import de.floydkretschmar.fixturize.annotations.FixtureArray;
+import lombok.AllArgsConstructor;
+
+@Fixture
+@AllArgsConstructor
+public class ArrayClass {
+    private final int[] defaultField;
+    @FixtureArray(length = 8, fill = ArrayFill.INDEX)
+    private final int[] indexField;
+    @FixtureArray(length = 4, fill = ArrayFill.RANDOM, seed = 42)
+    private final long[] randomField;
+    @FixtureArray(length = 3, fill = ArrayFill.CONSTANT, value = "1.5")
+    private final double[] constantField;
+    @FixtureArray(length = 1024, fill = ArrayFill.RANDOM, seed = 7)
+    private final byte[] payloadField;
+    @FixtureArray(length = 300, fill = ArrayFill.INDEX)
+    private final byte[] indexedPayloadField;
+    @FixtureArray(length = 2)
+    private final String[] zeroField;
+}
@@ -0,0 +1,18 @@
+package de.floydkretschmar.fixturize.mocks;
+
+import de.floydkretschmar.fixturize.annotations.ArrayFill;
+import de.floydkretschmar.fixturize.annotations.Fixture;
+import de.floydkretschmar.fixturize.annotations.FixtureArray;
+import de.floydkretschmar.fixturize.annotations.FixtureConstructor;
+import de.floydkretschmar.fixturize.annotations.FixtureSharing;
+import de.floydkretschmar.fixturize.annotations.SharingPolicy;
+import lombok.AllArgsConstructor;
+
+@Fixture
+@FixtureConstructor(methodName = "createNewArrayClass", constructorParameters = {"payload"})
+@FixtureSharing(targetType = "byte[]", policy = SharingPolicy.NEW)
+@AllArgsConstructor
+public class NewArrayClass {
+    @FixtureArray(length = 4, fill = ArrayFill.INDEX)
+    private final byte[] payload;
+}
@@ -0,0 +1,9 @@
+package de.floydkretschmar.fixturize.mocks;
+
+public class Crate {
+    private final Parcel parcel;
+
+    public Crate(Parcel parcel) {
+        this.parcel = parcel;
+    }
+}
@@ -0,0 +1,9 @@
+package de.floydkretschmar.fixturize.mocks;
+
+public class Parcel {
+    private final String label;
+
+    public Parcel(String label) {
+        this.label = label;
+    }
+}
@@ -0,0 +1,9 @@
+package de.floydkretschmar.fixturize.mocks;
+
+public class Shelf {
+    private final Crate crate;
+
+    public Shelf(Crate crate) {
+        this.crate = crate;
+    }
+}
@@ -0,0 +1,14 @@
+package de.floydkretschmar.fixturize.mocks;
+
+import de.floydkretschmar.fixturize.annotations.Fixture;
+
+@Fixture
+public class Warehouse {
+    private final Crate crate;
+    private final Shelf shelf;
+
+    public Warehouse(Crate crate, Shelf shelf) {
+        this.crate = crate;
+        this.shelf = shelf;
+    }
+}
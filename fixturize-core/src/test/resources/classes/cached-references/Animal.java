@@ -0,0 +1,14 @@
+package de.floydkretschmar.fixturize.mocks;
+
+import de.floydkretschmar.fixturize.annotations.Fixture;
+
+@Fixture
+public class Animal {
+    private final Keeper keeper;
+    private final String label;
+
+    public Animal(Keeper keeper, String label) {
+        this.keeper = keeper;
+        this.label = label;
+    }
+}
@@ -0,0 +1,14 @@
+package de.floydkretschmar.fixturize.mocks;
+
+import de.floydkretschmar.fixturize.annotations.Fixture;
+
+@Fixture
+public class Keeper {
+    private final Animal animal;
+    private final String name;
+
+    public Keeper(Animal animal, String name) {
+        this.animal = animal;
+        this.name = name;
+    }
+}
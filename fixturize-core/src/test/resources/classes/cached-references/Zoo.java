@@ -0,0 +1,12 @@
+package de.floydkretschmar.fixturize.mocks;
+
+import de.floydkretschmar.fixturize.annotations.Fixture;
+
+@Fixture
+public class Zoo {
+    private final Keeper keeper;
+
+    public Zoo(Keeper keeper) {
+        this.keeper = keeper;
+    }
+}
@@ -0,0 +1,14 @@
+package de.floydkretschmar.fixturize.mocks;
+
+import de.floydkretschmar.fixturize.annotations.Fixture;
+
+@Fixture
+public class CyclicCustomer {
+    private final String name;
+    private final CyclicOrder order;
+
+    public CyclicCustomer(String name, CyclicOrder order) {
+        this.name = name;
+        this.order = order;
+    }
+}
@@ -0,0 +1,14 @@
+package de.floydkretschmar.fixturize.mocks;
+
+import de.floydkretschmar.fixturize.annotations.Fixture;
+
+@Fixture
+public class CyclicOrder {
+    private final int amount;
+    private final CyclicCustomer customer;
+
+    public CyclicOrder(int amount, CyclicCustomer customer) {
+        this.amount = amount;
+        this.customer = customer;
+    }
+}
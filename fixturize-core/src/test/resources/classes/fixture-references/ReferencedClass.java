@@ -0,0 +1,11 @@
+package de.floydkretschmar.fixturize.mocks;
+
+import de.floydkretschmar.fixturize.annotations.Fixture;
+import lombok.Builder;
+
+@Fixture
+@Builder
+public class ReferencedClass {
+    private final String id;
+    private final int count;
+}
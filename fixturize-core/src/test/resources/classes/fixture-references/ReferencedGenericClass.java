@@ -0,0 +1,12 @@
+package de.floydkretschmar.fixturize.mocks;
+
+import de.floydkretschmar.fixturize.annotations.Fixture;
+
+@Fixture(genericImplementations = {"java.lang.String"})
+public class ReferencedGenericClass<T> {
+    private final T value;
+
+    public ReferencedGenericClass(T value) {
+        this.value = value;
+    }
+}
@@ -0,0 +1,13 @@
+package de.floydkretschmar.fixturize.mocks;
+
+import de.floydkretschmar.fixturize.annotations.Fixture;
+import lombok.AllArgsConstructor;
+
+@Fixture
+@AllArgsConstructor
+public class ReferencingClass {
+    private final String name;
+    private final ReferencedClass referenced;
+    private final ReferencedGenericClass<String> stringReferenced;
+    private final ReferencedGenericClass<Integer> integerReferenced;
+}
@@ -0,0 +1,11 @@
+package de.floydkretschmar.fixturize.mocks;
+
+import de.floydkretschmar.fixturize.annotations.Fixture;
+
+import java.time.DayOfWeek;
+
+@Fixture
+public class ClashingEnumValuesClass {
+    private DayOfWeek dayOfWeek;
+    private DayOfWeek[] javaTimeDayOfWeekValues;
+}
@@ -0,0 +1,8 @@
+package de.floydkretschmar.fixturize.mocks;
+
+import de.floydkretschmar.fixturize.annotations.Fixture;
+
+@Fixture
+public class ClashingSeedClass {
+    private long randomSeed;
+}
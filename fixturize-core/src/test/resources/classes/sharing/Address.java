@@ -0,0 +1,8 @@
+package de.floydkretschmar.fixturize.mocks;
+
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+public class Address {
+    private final String street;
+}
@@ -0,0 +1,14 @@
+package de.floydkretschmar.fixturize.mocks;
+
+import de.floydkretschmar.fixturize.annotations.Fixture;
+import de.floydkretschmar.fixturize.annotations.FixtureSharing;
+import de.floydkretschmar.fixturize.annotations.SharingPolicy;
+import lombok.AllArgsConstructor;
+
+@Fixture
+@FixtureSharing(targetType = "java.lang.String", policy = SharingPolicy.POOLED, cardinality = 3)
+@AllArgsConstructor
+public class ClashingPoolTicket {
+    private final String seat;
+    private final String seatPool;
+}
@@ -0,0 +1,11 @@
+package de.floydkretschmar.fixturize.mocks;
+
+import de.floydkretschmar.fixturize.annotations.Fixture;
+import lombok.Builder;
+
+@Fixture
+@Builder
+public class Customer {
+    private final String customerNumber;
+    private final int loyaltyPoints;
+}
@@ -0,0 +1,10 @@
+package de.floydkretschmar.fixturize.mocks;
+
+import de.floydkretschmar.fixturize.annotations.Fixture;
+import lombok.AllArgsConstructor;
+
+@Fixture
+@AllArgsConstructor
+public class Item {
+    private final String name;
+}
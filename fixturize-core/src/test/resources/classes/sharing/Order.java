@@ -0,0 +1,18 @@
+package de.floydkretschmar.fixturize.mocks;
+
+import de.floydkretschmar.fixturize.annotations.Fixture;
+import de.floydkretschmar.fixturize.annotations.FixtureSharing;
+import de.floydkretschmar.fixturize.annotations.SharingPolicy;
+import lombok.AllArgsConstructor;
+
+@Fixture
+@FixtureSharing(targetType = "de.floydkretschmar.fixturize.mocks.Customer", policy = SharingPolicy.POOLED, cardinality = 3)
+@FixtureSharing(targetType = "de.floydkretschmar.fixturize.mocks.Address", policy = SharingPolicy.NEW)
+@FixtureSharing(targetType = "de.floydkretschmar.fixturize.mocks.Item", policy = SharingPolicy.POOLED, cardinality = 2)
+@AllArgsConstructor
+public class Order {
+    private final String orderNumber;
+    private final Customer customer;
+    private final Address address;
+    private final Item item;
+}
@@ -0,0 +1,17 @@
+package de.floydkretschmar.fixturize.mocks;
+
+import de.floydkretschmar.fixturize.annotations.Fixture;
+import de.floydkretschmar.fixturize.annotations.FixtureConstructor;
+import de.floydkretschmar.fixturize.annotations.FixtureSharing;
+import de.floydkretschmar.fixturize.annotations.SharingPolicy;
+import lombok.AllArgsConstructor;
+
+@Fixture
+@FixtureSharing(targetType = "java.lang.String", policy = SharingPolicy.POOLED, cardinality = 3)
+@FixtureSharing(targetType = "int", policy = SharingPolicy.POOLED, cardinality = 2)
+@FixtureConstructor(methodName = "createTicket", constructorParameters = {"seat", "row"})
+@AllArgsConstructor
+public class Ticket {
+    private final String seat;
+    private final int row;
+}
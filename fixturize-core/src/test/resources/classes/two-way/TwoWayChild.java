@@ -0,0 +1,16 @@
+package de.floydkretschmar.fixturize.mocks;
+
+import de.floydkretschmar.fixturize.annotations.Fixture;
+
+@Fixture
+public class TwoWayChild {
+    private final int age;
+    private final TwoWayParent parent;
+    private final TwoWayToy toy;
+
+    public TwoWayChild(int age, TwoWayParent parent, TwoWayToy toy) {
+        this.age = age;
+        this.parent = parent;
+        this.toy = toy;
+    }
+}
@@ -0,0 +1,14 @@
+package de.floydkretschmar.fixturize.mocks;
+
+import de.floydkretschmar.fixturize.annotations.Fixture;
+
+@Fixture
+public class TwoWayParent {
+    private final String name;
+    private final TwoWayChild child;
+
+    public TwoWayParent(String name, TwoWayChild child) {
+        this.name = name;
+        this.child = child;
+    }
+}
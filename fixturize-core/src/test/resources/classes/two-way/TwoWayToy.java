@@ -0,0 +1,12 @@
+package de.floydkretschmar.fixturize.mocks;
+
+import de.floydkretschmar.fixturize.annotations.Fixture;
+
+@Fixture
+public class TwoWayToy {
+    private final String label;
+
+    public TwoWayToy(String label) {
+        this.label = label;
+    }
+}
@@ -0,0 +1,10 @@
+package de.floydkretschmar.fixturize.mocks;
+
+import de.floydkretschmar.fixturize.annotations.Fixture;
+import de.floydkretschmar.fixturize.annotations.FixtureValueProvider;
+
+@Fixture
+@FixtureValueProvider(targetType = "java.lang.String", valueProviderCallback = "(field, metadata) => `\"value\"`", providerClass = RegisteredValueProvider.class)
+public class AmbiguousValueProviderClass {
+    private String stringField;
+}
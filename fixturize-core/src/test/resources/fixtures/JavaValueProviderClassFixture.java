@@ -0,0 +1,7 @@
+package de.floydkretschmar.fixturize.mocks;
+
+public class JavaValueProviderClassFixture {
+    public static java.lang.String STRING_FIELD = "stringFieldJavaValue";
+    public static int INT_FIELD = 42;
+    public static boolean BOOLEAN_FIELD = false;
+}
@@ -0,0 +1,11 @@
+package de.floydkretschmar.fixturize.mocks;
+
+public class ArrayClassFixture {
+    public static int[] DEFAULT_FIELD = new int[] {};
+    public static int[] INDEX_FIELD = ((java.util.function.Supplier<int[]>) () -> { final int[] array$ = new int[8]; java.util.Arrays.setAll(array$, i$ -> i$); return array$; }).get();
+    public static long[] RANDOM_FIELD = new java.util.SplittableRandom(42L).longs(4).toArray();
+    public static double[] CONSTANT_FIELD = ((java.util.function.Supplier<double[]>) () -> { final double[] array$ = new double[3]; java.util.Arrays.fill(array$, (double) (1.5)); return array$; }).get();
+    public static byte[] PAYLOAD_FIELD = ((java.util.function.Supplier<byte[]>) () -> { final byte[] array$ = new byte[1024]; new java.util.SplittableRandom(7L).nextBytes(array$); return array$; }).get();
+    public static byte[] INDEXED_PAYLOAD_FIELD = ((java.util.function.Supplier<byte[]>) () -> { final byte[] array$ = new byte[300]; for (int i$ = 0; i$ < array$.length; i$++) array$[i$] = (byte) i$; return array$; }).get();
+    public static java.lang.String[] ZERO_FIELD = new java.lang.String[2];
+}
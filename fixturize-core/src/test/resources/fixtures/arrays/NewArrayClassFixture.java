@@ -0,0 +1,17 @@
+package de.floydkretschmar.fixturize.mocks;
+
+public class NewArrayClassFixture {
+    public static byte[] PAYLOAD = ((java.util.function.Supplier<byte[]>) () -> { final byte[] array$ = new byte[4]; for (int i$ = 0; i$ < array$.length; i$++) array$[i$] = (byte) i$; return array$; }).get();
+
+    public static de.floydkretschmar.fixturize.mocks.NewArrayClass createNewArrayClass() {
+        return new de.floydkretschmar.fixturize.mocks.NewArrayClass(PAYLOAD);
+    }
+
+    public static java.util.List<de.floydkretschmar.fixturize.mocks.NewArrayClass> createNewArrayClassList(int count) {
+        return java.util.stream.IntStream.range(0, count).<de.floydkretschmar.fixturize.mocks.NewArrayClass>mapToObj(index -> new de.floydkretschmar.fixturize.mocks.NewArrayClass(((java.util.function.Supplier<byte[]>) () -> { final byte[] array$ = new byte[4]; for (int i$ = 0; i$ < array$.length; i$++) array$[i$] = (byte) i$; return array$; }).get())).collect(java.util.stream.Collectors.toCollection(() -> new java.util.ArrayList<>(count)));
+    }
+
+    public static java.util.stream.Stream<de.floydkretschmar.fixturize.mocks.NewArrayClass> createNewArrayClassStream(long count, long seed) {
+        return java.util.stream.LongStream.range(java.lang.Math.multiplyExact(seed, count), java.lang.Math.addExact(java.lang.Math.multiplyExact(seed, count), count)).<de.floydkretschmar.fixturize.mocks.NewArrayClass>mapToObj(index -> new de.floydkretschmar.fixturize.mocks.NewArrayClass(((java.util.function.Supplier<byte[]>) () -> { final byte[] array$ = new byte[4]; for (int i$ = 0; i$ < array$.length; i$++) array$[i$] = (byte) i$; return array$; }).get()));
+    }
+}
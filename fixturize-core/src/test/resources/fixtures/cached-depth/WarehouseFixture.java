@@ -0,0 +1,6 @@
+package de.floydkretschmar.fixturize.mocks;
+
+public class WarehouseFixture {
+    public static de.floydkretschmar.fixturize.mocks.Crate CRATE = new de.floydkretschmar.fixturize.mocks.Crate(new de.floydkretschmar.fixturize.mocks.Parcel("LABEL_VALUE"));
+    public static de.floydkretschmar.fixturize.mocks.Shelf SHELF = new de.floydkretschmar.fixturize.mocks.Shelf(new de.floydkretschmar.fixturize.mocks.Crate(null));
+}
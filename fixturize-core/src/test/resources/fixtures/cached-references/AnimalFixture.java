@@ -0,0 +1,10 @@
+package de.floydkretschmar.fixturize.mocks;
+
+public class AnimalFixture {
+    public static de.floydkretschmar.fixturize.mocks.Keeper KEEPER = new de.floydkretschmar.fixturize.mocks.Keeper(null, "NAME_VALUE");
+    public static java.lang.String LABEL = "LABEL_VALUE";
+
+    public static de.floydkretschmar.fixturize.mocks.Animal createAnimal() {
+        return new de.floydkretschmar.fixturize.mocks.Animal(KEEPER, LABEL);
+    }
+}
@@ -0,0 +1,10 @@
+package de.floydkretschmar.fixturize.mocks;
+
+public class KeeperFixture {
+    public static de.floydkretschmar.fixturize.mocks.Animal ANIMAL = new de.floydkretschmar.fixturize.mocks.Animal(null, "LABEL_VALUE");
+    public static java.lang.String NAME = "NAME_VALUE";
+
+    public static de.floydkretschmar.fixturize.mocks.Keeper createKeeper() {
+        return new de.floydkretschmar.fixturize.mocks.Keeper(ANIMAL, NAME);
+    }
+}
@@ -0,0 +1,9 @@
+package de.floydkretschmar.fixturize.mocks;
+
+public class ZooFixture {
+    public static de.floydkretschmar.fixturize.mocks.Keeper KEEPER = de.floydkretschmar.fixturize.mocks.KeeperFixture.createKeeper();
+
+    public static de.floydkretschmar.fixturize.mocks.Zoo createZoo() {
+        return new de.floydkretschmar.fixturize.mocks.Zoo(KEEPER);
+    }
+}
@@ -0,0 +1,10 @@
+package de.floydkretschmar.fixturize.mocks;
+
+public class CyclicCustomerFixture {
+    public static java.lang.String NAME = "NAME_VALUE";
+    public static de.floydkretschmar.fixturize.mocks.CyclicOrder ORDER = new de.floydkretschmar.fixturize.mocks.CyclicOrder(0, null);
+
+    public static de.floydkretschmar.fixturize.mocks.CyclicCustomer createCyclicCustomer() {
+        return new de.floydkretschmar.fixturize.mocks.CyclicCustomer(NAME, ORDER);
+    }
+}
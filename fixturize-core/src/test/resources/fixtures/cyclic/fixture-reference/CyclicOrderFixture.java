@@ -0,0 +1,10 @@
+package de.floydkretschmar.fixturize.mocks;
+
+public class CyclicOrderFixture {
+    public static int AMOUNT = 0;
+    public static de.floydkretschmar.fixturize.mocks.CyclicCustomer CUSTOMER = new de.floydkretschmar.fixturize.mocks.CyclicCustomer("NAME_VALUE", null);
+
+    public static de.floydkretschmar.fixturize.mocks.CyclicOrder createCyclicOrder() {
+        return new de.floydkretschmar.fixturize.mocks.CyclicOrder(AMOUNT, CUSTOMER);
+    }
+}
@@ -0,0 +1,6 @@
+package de.floydkretschmar.fixturize.mocks;
+
+public class CyclicCustomerFixture {
+    public static java.lang.String NAME = "NAME_VALUE";
+    public static de.floydkretschmar.fixturize.mocks.CyclicOrder ORDER = new de.floydkretschmar.fixturize.mocks.CyclicOrder(0, null);
+}
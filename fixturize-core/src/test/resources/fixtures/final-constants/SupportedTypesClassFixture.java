@@ -0,0 +1,45 @@
+package de.floydkretschmar.fixturize.mocks;
+
+public class SupportedTypesClassFixture {
+    public static final boolean BOOLEAN_FIELD = false;
+    public static final byte BYTE_FIELD = 0;
+    public static final char CHAR_FIELD = ' ';
+    public static final double DOUBLE_FIELD = 0.0;
+    public static final float FLOAT_FIELD = 0.0F;
+    public static final int INT_FIELD = 0;
+    public static final long LONG_FIELD = 0L;
+    public static final short SHORT_FIELD = Short.valueOf((short)0);
+    public static final java.lang.Boolean BOOLEAN_CLASS_FIELD = false;
+    public static final java.lang.Byte BYTE_CLASS_FIELD = 0;
+    public static final java.lang.Character CHAR_CLASS_FIELD = ' ';
+    public static final java.lang.Double DOUBLE_CLASS_FIELD = 0.0;
+    public static final java.lang.Float FLOAT_CLASS_FIELD = 0.0F;
+    public static final java.lang.Integer INT_CLASS_FIELD = 0;
+    public static final java.lang.Long LONG_CLASS_FIELD = 0L;
+    public static final java.lang.Short SHORT_CLASS_FIELD = Short.valueOf((short)0);
+    public static final java.lang.String STRING_FIELD = "STRING_FIELD_VALUE";
+    public static final java.math.BigDecimal BIG_DECIMAL_FIELD = java.math.BigDecimal.ZERO;
+    public static final java.math.BigInteger BIG_INTEGER_FIELD = java.math.BigInteger.ZERO;
+    public static final java.time.Instant INSTANT_FIELD = java.time.Instant.now();
+    public static final java.time.Duration DURATION_FIELD = java.time.Duration.ZERO;
+    public static final java.time.LocalDate LOCAL_DATE_FIELD = java.time.LocalDate.now();
+    public static final java.time.LocalDateTime LOCAL_DATE_TIME_FIELD = java.time.LocalDateTime.now();
+    public static final java.time.LocalTime LOCAL_TIME_FIELD = java.time.LocalTime.now();
+    public static final java.util.UUID UUID_FIELD = java.util.UUID.fromString("6b21f215-bf9e-445a-9dd2-5808a3a98d52");
+    public static final java.util.Collection<java.lang.String> COLLECTION_FIELD = java.util.List.of("STRING_VALUE");
+    public static final java.util.List<java.lang.String> LIST_FIELD = java.util.List.of("STRING_VALUE");
+    public static final java.util.Map<java.lang.String,java.lang.String> MAP_FIELD = java.util.Map.of("STRING_VALUE", "STRING_VALUE");
+    public static final java.util.Set<java.lang.String> SET_FIELD = java.util.Set.of("STRING_VALUE");
+
+    public static java.util.Date DATE_FIELD() {
+        return new java.util.Date();
+    }
+
+    public static java.util.Queue<java.lang.String> QUEUE_FIELD() {
+        return new java.util.PriorityQueue<>(java.util.List.of("STRING_VALUE"));
+    }
+
+    public static java.lang.String[] ARRAY_FIELD() {
+        return new java.lang.String[] {};
+    }
+}
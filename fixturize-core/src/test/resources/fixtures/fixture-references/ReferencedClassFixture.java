@@ -0,0 +1,10 @@
+package de.floydkretschmar.fixturize.mocks;
+
+public class ReferencedClassFixture {
+    public static java.lang.String ID = "ID_VALUE";
+    public static int COUNT = 0;
+
+    public static de.floydkretschmar.fixturize.mocks.ReferencedClass createReferencedClass() {
+        return de.floydkretschmar.fixturize.mocks.ReferencedClass.builder().id(ID).count(COUNT).build();
+    }
+}
@@ -0,0 +1,9 @@
+package de.floydkretschmar.fixturize.mocks;
+
+public class ReferencedGenericClassFixture {
+    public static java.lang.String VALUE = "STRING_VALUE";
+
+    public static de.floydkretschmar.fixturize.mocks.ReferencedGenericClass<java.lang.String> createReferencedGenericClass() {
+        return new de.floydkretschmar.fixturize.mocks.ReferencedGenericClass<>("STRING_VALUE");
+    }
+}
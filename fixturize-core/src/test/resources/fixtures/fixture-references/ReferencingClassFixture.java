@@ -0,0 +1,12 @@
+package de.floydkretschmar.fixturize.mocks;
+
+public class ReferencingClassFixture {
+    public static java.lang.String NAME = "NAME_VALUE";
+    public static de.floydkretschmar.fixturize.mocks.ReferencedClass REFERENCED = de.floydkretschmar.fixturize.mocks.ReferencedClassFixture.createReferencedClass();
+    public static de.floydkretschmar.fixturize.mocks.ReferencedGenericClass<java.lang.String> STRING_REFERENCED = de.floydkretschmar.fixturize.mocks.ReferencedGenericClassFixture.createReferencedGenericClass();
+    public static de.floydkretschmar.fixturize.mocks.ReferencedGenericClass<java.lang.Integer> INTEGER_REFERENCED = new de.floydkretschmar.fixturize.mocks.ReferencedGenericClass<>(0);
+
+    public static de.floydkretschmar.fixturize.mocks.ReferencingClass createReferencingClass() {
+        return new de.floydkretschmar.fixturize.mocks.ReferencingClass(NAME, REFERENCED, STRING_REFERENCED, INTEGER_REFERENCED);
+    }
+}
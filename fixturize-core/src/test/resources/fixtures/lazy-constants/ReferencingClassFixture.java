@@ -0,0 +1,33 @@
+package de.floydkretschmar.fixturize.mocks;
+
+public class ReferencingClassFixture {
+    public static java.lang.String NAME = "NAME_VALUE";
+
+    private static final class REFERENCED_HOLDER {
+        private static final de.floydkretschmar.fixturize.mocks.ReferencedClass VALUE = de.floydkretschmar.fixturize.mocks.ReferencedClassFixture.createReferencedClass();
+    }
+
+    public static de.floydkretschmar.fixturize.mocks.ReferencedClass REFERENCED() {
+        return REFERENCED_HOLDER.VALUE;
+    }
+
+    private static final class STRING_REFERENCED_HOLDER {
+        private static final de.floydkretschmar.fixturize.mocks.ReferencedGenericClass<java.lang.String> VALUE = de.floydkretschmar.fixturize.mocks.ReferencedGenericClassFixture.createReferencedGenericClass();
+    }
+
+    public static de.floydkretschmar.fixturize.mocks.ReferencedGenericClass<java.lang.String> STRING_REFERENCED() {
+        return STRING_REFERENCED_HOLDER.VALUE;
+    }
+
+    private static final class INTEGER_REFERENCED_HOLDER {
+        private static final de.floydkretschmar.fixturize.mocks.ReferencedGenericClass<java.lang.Integer> VALUE = new de.floydkretschmar.fixturize.mocks.ReferencedGenericClass<>(0);
+    }
+
+    public static de.floydkretschmar.fixturize.mocks.ReferencedGenericClass<java.lang.Integer> INTEGER_REFERENCED() {
+        return INTEGER_REFERENCED_HOLDER.VALUE;
+    }
+
+    public static de.floydkretschmar.fixturize.mocks.ReferencingClass createReferencingClass() {
+        return new de.floydkretschmar.fixturize.mocks.ReferencingClass(NAME, REFERENCED(), STRING_REFERENCED(), INTEGER_REFERENCED());
+    }
+}
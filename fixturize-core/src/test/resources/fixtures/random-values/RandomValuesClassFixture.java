@@ -0,0 +1,52 @@
+package de.floydkretschmar.fixturize.mocks;
+
+public class RandomValuesClassFixture {
+    public static boolean BOOLEAN_FIELD = false;
+    public static byte BYTE_FIELD = 0;
+    public static char CHAR_FIELD = ' ';
+    public static double DOUBLE_FIELD = 0.0;
+    public static float FLOAT_FIELD = 0.0F;
+    public static int INT_FIELD = 0;
+    public static long LONG_FIELD = 0L;
+    public static short SHORT_FIELD = Short.valueOf((short)0);
+    public static java.lang.Boolean BOOLEAN_CLASS_FIELD = false;
+    public static java.lang.Byte BYTE_CLASS_FIELD = 0;
+    public static java.lang.Character CHAR_CLASS_FIELD = ' ';
+    public static java.lang.Double DOUBLE_CLASS_FIELD = 0.0;
+    public static java.lang.Float FLOAT_CLASS_FIELD = 0.0F;
+    public static java.lang.Integer INT_CLASS_FIELD = 0;
+    public static java.lang.Long LONG_CLASS_FIELD = 0L;
+    public static java.lang.Short SHORT_CLASS_FIELD = Short.valueOf((short)0);
+    public static java.lang.String STRING_FIELD = "STRING_FIELD_VALUE";
+    public static java.math.BigDecimal BIG_DECIMAL_FIELD = java.math.BigDecimal.ZERO;
+    public static java.math.BigInteger BIG_INTEGER_FIELD = java.math.BigInteger.ZERO;
+    public static java.time.Instant INSTANT_FIELD = java.time.Instant.now();
+    public static java.time.Duration DURATION_FIELD = java.time.Duration.ZERO;
+    public static java.time.LocalDate LOCAL_DATE_FIELD = java.time.LocalDate.now();
+    public static java.time.LocalDateTime LOCAL_DATE_TIME_FIELD = java.time.LocalDateTime.now();
+    public static java.time.LocalTime LOCAL_TIME_FIELD = java.time.LocalTime.now();
+    public static java.util.UUID UUID_FIELD = java.util.UUID.fromString("6b21f215-bf9e-445a-9dd2-5808a3a98d52");
+    public static java.util.Date DATE_FIELD = new java.util.Date();
+    public static java.util.Collection<java.lang.String> COLLECTION_FIELD = java.util.List.of("STRING_VALUE");
+    public static java.util.List<java.lang.String> LIST_FIELD = java.util.List.of("STRING_VALUE");
+    public static java.util.Map<java.lang.String,java.lang.Integer> MAP_FIELD = java.util.Map.of("STRING_VALUE", 0);
+    public static java.util.Set<java.lang.String> SET_FIELD = java.util.Set.of("STRING_VALUE");
+    public static java.util.Queue<java.lang.String> QUEUE_FIELD = new java.util.PriorityQueue<>(java.util.List.of("STRING_VALUE"));
+    public static java.lang.String[] ARRAY_FIELD = new java.lang.String[] {};
+    public static java.time.DayOfWeek ENUM_FIELD = java.time.DayOfWeek.MONDAY;
+    public static java.util.List<java.time.DayOfWeek> ENUM_LIST_FIELD = java.util.List.of(java.time.DayOfWeek.MONDAY);
+    public static java.time.DayOfWeek[] ENUM_ARRAY_FIELD = new java.time.DayOfWeek[] {};
+    public static int[] INT_ARRAY_FIELD = new int[] {};
+    public static char[][] CHAR_MATRIX_FIELD = new char[][] {};
+    public static java.lang.Object OBJECT_FIELD = new java.lang.Object();
+    private static final java.time.DayOfWeek[] JAVA_TIME_DAY_OF_WEEK_VALUES = java.time.DayOfWeek.values();
+    public static final long RANDOM_SEED = -570749572L;
+
+    public static de.floydkretschmar.fixturize.mocks.RandomValuesClass createRandomValuesClass() {
+        return de.floydkretschmar.fixturize.mocks.RandomValuesClass.builder().booleanField(BOOLEAN_FIELD).byteField(BYTE_FIELD).charField(CHAR_FIELD).doubleField(DOUBLE_FIELD).floatField(FLOAT_FIELD).intField(INT_FIELD).longField(LONG_FIELD).shortField(SHORT_FIELD).booleanClassField(BOOLEAN_CLASS_FIELD).byteClassField(BYTE_CLASS_FIELD).charClassField(CHAR_CLASS_FIELD).doubleClassField(DOUBLE_CLASS_FIELD).floatClassField(FLOAT_CLASS_FIELD).intClassField(INT_CLASS_FIELD).longClassField(LONG_CLASS_FIELD).shortClassField(SHORT_CLASS_FIELD).stringField(STRING_FIELD).bigDecimalField(BIG_DECIMAL_FIELD).bigIntegerField(BIG_INTEGER_FIELD).instantField(INSTANT_FIELD).durationField(DURATION_FIELD).localDateField(LOCAL_DATE_FIELD).localDateTimeField(LOCAL_DATE_TIME_FIELD).localTimeField(LOCAL_TIME_FIELD).uuidField(UUID_FIELD).dateField(DATE_FIELD).collectionField(COLLECTION_FIELD).listField(LIST_FIELD).mapField(MAP_FIELD).setField(SET_FIELD).queueField(QUEUE_FIELD).arrayField(ARRAY_FIELD).enumField(ENUM_FIELD).enumListField(ENUM_LIST_FIELD).enumArrayField(ENUM_ARRAY_FIELD).intArrayField(INT_ARRAY_FIELD).charMatrixField(CHAR_MATRIX_FIELD).objectField(OBJECT_FIELD).build();
+    }
+
+    public static de.floydkretschmar.fixturize.mocks.RandomValuesClass createRandomValuesClassRandom(java.util.SplittableRandom random) {
+        return de.floydkretschmar.fixturize.mocks.RandomValuesClass.builder().booleanField(random.nextBoolean()).byteField((byte) random.nextInt()).charField((char) ('a' + random.nextInt(26))).doubleField(random.nextDouble()).floatField(random.nextFloat()).intField(random.nextInt()).longField(random.nextLong()).shortField((short) random.nextInt()).booleanClassField(random.nextBoolean()).byteClassField((byte) random.nextInt()).charClassField((char) ('a' + random.nextInt(26))).doubleClassField(random.nextDouble()).floatClassField(random.nextFloat()).intClassField(random.nextInt()).longClassField(random.nextLong()).shortClassField((short) random.nextInt()).stringField(java.lang.Long.toHexString(random.nextLong())).bigDecimalField(java.math.BigDecimal.valueOf(random.nextLong(), 2)).bigIntegerField(java.math.BigInteger.valueOf(random.nextLong())).instantField(java.time.Instant.ofEpochSecond(random.nextLong(0L, 4102444800L))).durationField(java.time.Duration.ofSeconds(random.nextLong(0L, 86400L))).localDateField(java.time.LocalDate.ofEpochDay(random.nextLong(0L, 47482L))).localDateTimeField(java.time.LocalDateTime.ofEpochSecond(random.nextLong(0L, 4102444800L), 0, java.time.ZoneOffset.UTC)).localTimeField(java.time.LocalTime.ofSecondOfDay(random.nextLong(86400L))).uuidField(new java.util.UUID(random.nextLong(), random.nextLong())).dateField(new java.util.Date(random.nextLong(0L, 4102444800000L))).collectionField(java.util.stream.Stream.generate(() -> java.lang.Long.toHexString(random.nextLong())).limit(random.nextInt(8)).toList()).listField(java.util.stream.Stream.generate(() -> java.lang.Long.toHexString(random.nextLong())).limit(random.nextInt(8)).toList()).mapField(java.util.stream.Stream.generate(() -> java.util.Map.entry(java.lang.Long.toHexString(random.nextLong()), random.nextInt())).limit(random.nextInt(8)).collect(java.util.stream.Collectors.toMap(java.util.Map.Entry::getKey, java.util.Map.Entry::getValue, (first, second) -> first))).setField(java.util.stream.Stream.generate(() -> java.lang.Long.toHexString(random.nextLong())).limit(random.nextInt(8)).collect(java.util.stream.Collectors.toSet())).queueField(java.util.stream.Stream.generate(() -> java.lang.Long.toHexString(random.nextLong())).limit(random.nextInt(8)).collect(java.util.stream.Collectors.toCollection(java.util.ArrayDeque::new))).arrayField(java.util.stream.Stream.generate(() -> java.lang.Long.toHexString(random.nextLong())).limit(random.nextInt(8)).toArray(java.lang.String[]::new)).enumField(JAVA_TIME_DAY_OF_WEEK_VALUES[random.nextInt(JAVA_TIME_DAY_OF_WEEK_VALUES.length)]).enumListField(java.util.stream.Stream.generate(() -> JAVA_TIME_DAY_OF_WEEK_VALUES[random.nextInt(JAVA_TIME_DAY_OF_WEEK_VALUES.length)]).limit(random.nextInt(8)).toList()).enumArrayField(java.util.stream.Stream.generate(() -> JAVA_TIME_DAY_OF_WEEK_VALUES[random.nextInt(JAVA_TIME_DAY_OF_WEEK_VALUES.length)]).limit(random.nextInt(8)).toArray(java.time.DayOfWeek[]::new)).intArrayField(random.ints(random.nextInt(8)).toArray()).charMatrixField(java.util.stream.Stream.generate(() -> new char[random.nextInt(8)]).limit(random.nextInt(8)).toArray(char[][]::new)).objectField(OBJECT_FIELD).build();
+    }
+}
@@ -0,0 +1,32 @@
+package de.floydkretschmar.fixturize.mocks;
+
+public class OrderFixture {
+    public static java.lang.String ORDER_NUMBER = "ORDER_NUMBER_VALUE";
+    public static de.floydkretschmar.fixturize.mocks.Customer CUSTOMER = de.floydkretschmar.fixturize.mocks.CustomerFixture.createCustomer();
+    public static de.floydkretschmar.fixturize.mocks.Address ADDRESS = new de.floydkretschmar.fixturize.mocks.Address("STREET_VALUE");
+    public static de.floydkretschmar.fixturize.mocks.Item ITEM = de.floydkretschmar.fixturize.mocks.ItemFixture.createItem();
+
+    private static final class CUSTOMER_POOL_HOLDER {
+        private static final java.util.List<de.floydkretschmar.fixturize.mocks.Customer> VALUE = de.floydkretschmar.fixturize.mocks.CustomerFixture.createCustomerList(3);
+    }
+
+    public static java.util.List<de.floydkretschmar.fixturize.mocks.Customer> CUSTOMER_POOL() {
+        return CUSTOMER_POOL_HOLDER.VALUE;
+    }
+
+    private static final class ITEM_POOL_HOLDER {
+        private static final java.util.List<de.floydkretschmar.fixturize.mocks.Item> VALUE = de.floydkretschmar.fixturize.mocks.ItemFixture.createItemList(2);
+    }
+
+    public static java.util.List<de.floydkretschmar.fixturize.mocks.Item> ITEM_POOL() {
+        return ITEM_POOL_HOLDER.VALUE;
+    }
+
+    public static de.floydkretschmar.fixturize.mocks.Order createOrder() {
+        return new de.floydkretschmar.fixturize.mocks.Order(ORDER_NUMBER, CUSTOMER, ADDRESS, ITEM);
+    }
+
+    public static java.util.List<de.floydkretschmar.fixturize.mocks.Order> createOrderList(int count) {
+        return java.util.stream.IntStream.range(0, count).<de.floydkretschmar.fixturize.mocks.Order>mapToObj(index -> new de.floydkretschmar.fixturize.mocks.Order(ORDER_NUMBER + "_" + index, CUSTOMER_POOL().get(java.lang.Math.floorMod(index, 3)), new de.floydkretschmar.fixturize.mocks.Address("STREET_VALUE"), ITEM_POOL().get(java.lang.Math.floorMod(index, 2)))).collect(java.util.stream.Collectors.toCollection(() -> new java.util.ArrayList<>(count)));
+    }
+}
@@ -0,0 +1,30 @@
+package de.floydkretschmar.fixturize.mocks;
+
+public class TicketFixture {
+    public static java.lang.String SEAT = "SEAT_VALUE";
+    public static int ROW = 0;
+
+    private static final class SEAT_POOL_HOLDER {
+        private static final java.util.List<java.lang.String> VALUE = java.util.stream.IntStream.range(0, 3).<java.lang.String>mapToObj(poolIndex -> SEAT + "_" + poolIndex).toList();
+    }
+
+    public static java.util.List<java.lang.String> SEAT_POOL() {
+        return SEAT_POOL_HOLDER.VALUE;
+    }
+
+    private static final class ROW_POOL_HOLDER {
+        private static final java.util.List<java.lang.Integer> VALUE = java.util.stream.IntStream.range(0, 2).<java.lang.Integer>mapToObj(poolIndex -> (int) (ROW + poolIndex)).toList();
+    }
+
+    public static java.util.List<java.lang.Integer> ROW_POOL() {
+        return ROW_POOL_HOLDER.VALUE;
+    }
+
+    public static de.floydkretschmar.fixturize.mocks.Ticket createTicket() {
+        return new de.floydkretschmar.fixturize.mocks.Ticket(SEAT, ROW);
+    }
+
+    public static java.util.List<de.floydkretschmar.fixturize.mocks.Ticket> createTicketList(int count) {
+        return java.util.stream.IntStream.range(0, count).<de.floydkretschmar.fixturize.mocks.Ticket>mapToObj(index -> new de.floydkretschmar.fixturize.mocks.Ticket(SEAT_POOL().get(java.lang.Math.floorMod(index, 3)), ROW_POOL().get(java.lang.Math.floorMod(index, 2)))).collect(java.util.stream.Collectors.toCollection(() -> new java.util.ArrayList<>(count)));
+    }
+}
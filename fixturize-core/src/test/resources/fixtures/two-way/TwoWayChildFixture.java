@@ -0,0 +1,11 @@
+package de.floydkretschmar.fixturize.mocks;
+
+public class TwoWayChildFixture {
+    public static int AGE = 0;
+    public static de.floydkretschmar.fixturize.mocks.TwoWayParent PARENT = new de.floydkretschmar.fixturize.mocks.TwoWayParent("NAME_VALUE", null);
+    public static de.floydkretschmar.fixturize.mocks.TwoWayToy TOY = de.floydkretschmar.fixturize.mocks.TwoWayToyFixture.createTwoWayToy();
+
+    public static de.floydkretschmar.fixturize.mocks.TwoWayChild createTwoWayChild() {
+        return new de.floydkretschmar.fixturize.mocks.TwoWayChild(AGE, PARENT, TOY);
+    }
+}
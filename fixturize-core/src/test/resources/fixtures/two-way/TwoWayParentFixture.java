@@ -0,0 +1,10 @@
+package de.floydkretschmar.fixturize.mocks;
+
+public class TwoWayParentFixture {
+    public static java.lang.String NAME = "NAME_VALUE";
+    public static de.floydkretschmar.fixturize.mocks.TwoWayChild CHILD = new de.floydkretschmar.fixturize.mocks.TwoWayChild(0, null, de.floydkretschmar.fixturize.mocks.TwoWayToyFixture.createTwoWayToy());
+
+    public static de.floydkretschmar.fixturize.mocks.TwoWayParent createTwoWayParent() {
+        return new de.floydkretschmar.fixturize.mocks.TwoWayParent(NAME, CHILD);
+    }
+}